@@ -46,6 +46,11 @@ class BasicHomeActivity : ThemeHomeActivity() {
                 startActivity(Intent(this@BasicHomeActivity, OpenChannelMainActivity::class.java))
             }
             btSignOut.setOnClickListener { logout() }
+            // the stress test screen is hidden from the users of the sample.
+            mainTitle.setOnLongClickListener {
+                startActivity(Intent(this@BasicHomeActivity, StressTestActivity::class.java))
+                true
+            }
             if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU) {
                 val permission = Manifest.permission.POST_NOTIFICATIONS
                 if (ContextCompat.checkSelfPermission(
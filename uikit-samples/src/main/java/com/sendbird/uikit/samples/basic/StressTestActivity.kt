@@ -0,0 +1,137 @@
+package com.sendbird.uikit.samples.basic
+
+import android.annotation.SuppressLint
+import android.content.Intent
+import android.graphics.Typeface
+import android.os.Bundle
+import android.widget.Button
+import android.widget.LinearLayout
+import android.widget.ScrollView
+import android.widget.TextView
+import androidx.appcompat.app.AppCompatActivity
+import com.sendbird.uikit.SendbirdUIKit
+import com.sendbird.uikit.consts.UIKitMetric
+import com.sendbird.uikit.interfaces.OnMetricsListener
+import com.sendbird.uikit.internal.testing.ChatLoadConfig
+import com.sendbird.uikit.internal.testing.ChatLoadSimulation
+import com.sendbird.uikit.samples.basic.openchannel.OpenChannelMainActivity
+import com.sendbird.uikit.samples.utils.toDp
+import java.util.Locale
+
+/**
+ * Opens the channel screens under the simulated chat load, and displays the UIKit metrics measured while they're opened.
+ * The simulation replays the channels and the messages loaded by the screens, so open a channel with some messages to see the load.
+ * The simulation is a testing tool of UIKit, not a public API, so this screen opts in to it explicitly.
+ */
+@SuppressLint("RestrictedApi")
+class StressTestActivity : AppCompatActivity() {
+    private class Stat {
+        var count = 0L
+        var totalMillis = 0.0
+        var maxMillis = 0.0
+    }
+
+    private val stats = sortedMapOf<String, Stat>()
+    private val metricsListener = object : OnMetricsListener {
+        override fun onTiming(metric: UIKitMetric, detail: String?, durationMillis: Double) {
+            synchronized(stats) {
+                val stat = stats.getOrPut(metric.name) { Stat() }
+                stat.count++
+                stat.totalMillis += durationMillis
+                stat.maxMillis = maxOf(stat.maxMillis, durationMillis)
+            }
+        }
+
+        override fun onCount(metric: UIKitMetric, detail: String?, count: Long) {
+            synchronized(stats) {
+                stats.getOrPut(metric.name) { Stat() }.count += count
+            }
+        }
+    }
+    private lateinit var summaryView: TextView
+
+    override fun onCreate(savedInstanceState: Bundle?) {
+        super.onCreate(savedInstanceState)
+        val content = LinearLayout(this).apply {
+            orientation = LinearLayout.VERTICAL
+            setPadding(16.toDp(), 16.toDp(), 16.toDp(), 16.toDp())
+        }
+        PRESETS.forEach { (name, config) ->
+            content.addView(Button(this).apply {
+                text = name
+                setOnClickListener { startLoad(config, GroupChannelMainActivity::class.java) }
+            })
+        }
+        content.addView(Button(this).apply {
+            text = OPEN_CHANNEL_PRESET
+            setOnClickListener {
+                startLoad(ChatLoadConfig(messagesPerSecond = 30, reactionStormsPerSecond = 2), OpenChannelMainActivity::class.java)
+            }
+        })
+        summaryView = TextView(this).apply {
+            setPadding(0, 16.toDp(), 0, 0)
+            typeface = Typeface.MONOSPACE
+        }
+        content.addView(summaryView)
+        setContentView(ScrollView(this).apply { addView(content) })
+    }
+
+    override fun onResume() {
+        super.onResume()
+        // the simulation runs only while the channel screens opened from here are displayed.
+        ChatLoadSimulation.stop()
+        SendbirdUIKit.setMetricsListener(null)
+        summaryView.text = summarize()
+    }
+
+    private fun startLoad(config: ChatLoadConfig, screen: Class<*>) {
+        synchronized(stats) { stats.clear() }
+        SendbirdUIKit.setMetricsListener(metricsListener)
+        ChatLoadSimulation.start(config)
+        startActivity(Intent(this, screen))
+    }
+
+    private fun summarize(): String {
+        synchronized(stats) {
+            if (stats.isEmpty()) return "No metrics measured yet."
+            return stats.entries.joinToString("\n") { (name, stat) ->
+                if (stat.totalMillis == 0.0) {
+                    String.format(Locale.US, "%s: count=%d", name, stat.count)
+                } else {
+                    String.format(
+                        Locale.US,
+                        "%s: count=%d, avg=%.2fms, max=%.2fms",
+                        name,
+                        stat.count,
+                        stat.totalMillis / stat.count,
+                        stat.maxMillis
+                    )
+                }
+            }
+        }
+    }
+
+    companion object {
+        private const val OPEN_CHANNEL_PRESET = "Open channel: messages + reactions"
+        private val PRESETS = listOf(
+            "Messages + reactions + typing" to ChatLoadConfig(
+                messagesPerSecond = 30,
+                reactionStormsPerSecond = 2,
+                reactionStormSize = 30,
+                typingEventsPerSecond = 10
+            ),
+            "Mass channel updates" to ChatLoadConfig(channelUpdatesPerSecond = 20, channelUpdateSize = 20),
+            "Reconnect + changelog floods" to ChatLoadConfig(reconnectIntervalMillis = 3000, changelogSize = 200),
+            "Everything" to ChatLoadConfig(
+                messagesPerSecond = 30,
+                reactionStormsPerSecond = 2,
+                reactionStormSize = 30,
+                typingEventsPerSecond = 10,
+                channelUpdatesPerSecond = 20,
+                channelUpdateSize = 20,
+                reconnectIntervalMillis = 3000,
+                changelogSize = 200
+            )
+        )
+    }
+}
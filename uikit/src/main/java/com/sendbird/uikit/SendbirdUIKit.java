@@ -41,17 +41,25 @@ import com.sendbird.uikit.adapter.SendbirdUIKitAdapter;
 import com.sendbird.uikit.consts.ReplyType;
 import com.sendbird.uikit.consts.StringSet;
 import com.sendbird.uikit.consts.ThreadReplySelectType;
+import com.sendbird.uikit.consts.UIKitMetric;
 import com.sendbird.uikit.fragments.UIKitFragmentFactory;
 import com.sendbird.uikit.interfaces.CustomParamsHandler;
 import com.sendbird.uikit.interfaces.CustomUserListQueryHandler;
+import com.sendbird.uikit.interfaces.OnMetricsListener;
 import com.sendbird.uikit.interfaces.UserInfo;
 import com.sendbird.uikit.internal.contracts.SendbirdChatContract;
 import com.sendbird.uikit.internal.contracts.SendbirdChatImpl;
 import com.sendbird.uikit.internal.contracts.TaskQueueContract;
 import com.sendbird.uikit.internal.contracts.TaskQueueImpl;
+import com.sendbird.uikit.internal.extensions.MessageExtensionsKt;
+import com.sendbird.uikit.internal.singleton.DiskCacheManager;
+import com.sendbird.uikit.internal.singleton.ImageTranscoder;
 import com.sendbird.uikit.internal.singleton.MessageDisplayDataManager;
 import com.sendbird.uikit.internal.singleton.MessageTemplateManager;
+import com.sendbird.uikit.internal.singleton.MetricsTracker;
 import com.sendbird.uikit.internal.singleton.NotificationChannelManager;
+import com.sendbird.uikit.internal.singleton.NotificationViewedLogStore;
+import com.sendbird.uikit.internal.singleton.ResourceSyncManager;
 import com.sendbird.uikit.internal.singleton.UIKitConfigRepository;
 import com.sendbird.uikit.internal.tasks.JobResultTask;
 import com.sendbird.uikit.log.Logger;
@@ -66,11 +74,16 @@ import com.sendbird.uikit.utils.UIKitPrefs;
 
 import org.jetbrains.annotations.TestOnly;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -225,6 +238,8 @@ public class SendbirdUIKit {
 
     private static final int DEFAULT_RESIZING_WIDTH_SIZE = 1080;
     private static final int DEFAULT_RESIZING_HEIGHT_SIZE = 1920;
+    private static final long DEFAULT_IMAGE_TRANSCODING_MEMORY_BUDGET = 32 * 1024 * 1024;
+    private static final long DEFAULT_DISK_CACHE_BUDGET = 200 * 1024 * 1024;
 
     @Nullable
     private static UIKitConfigRepository uikitConfigRepo;
@@ -239,6 +254,10 @@ public class SendbirdUIKit {
     private static int compressQuality = 70;
     @NonNull
     private static Pair<Integer, Integer> resizingSize = new Pair<>(DEFAULT_RESIZING_WIDTH_SIZE, DEFAULT_RESIZING_HEIGHT_SIZE);
+    private static volatile long diskCacheBudget = DEFAULT_DISK_CACHE_BUDGET;
+    private static volatile boolean useVoiceMessagePrefetch = false;
+    private static volatile boolean useStagedConnect = false;
+    private static volatile long imageTranscodingMemoryBudget = Math.min(Runtime.getRuntime().maxMemory() / 8, DEFAULT_IMAGE_TRANSCODING_MEMORY_BUDGET);
     @NonNull
     private static UIKitFragmentFactory fragmentFactory = new UIKitFragmentFactory();
     @NonNull
@@ -251,12 +270,16 @@ public class SendbirdUIKit {
         defaultThemeMode = ThemeMode.Light;
         UIKitPrefs.clearAll();
         NotificationChannelManager.clearAll();
+        NotificationViewedLogStore.clearAll();
         MessageDisplayDataManager.clearAll();
+        MessageExtensionsKt.clearEmojiCategories();
         MessageTemplateManager.clearAll();
+        ResourceSyncManager.clearAll();
     }
 
     /**
      * Initializes Sendbird with given app ID.
+     * The data cached by UIKit is loaded in the background, so it returns without waiting for the disk.
      *
      * @param adapter The {@link SendbirdUIKitAdapter} providing an app ID, a information of the user.
      * @param context <code>Context</code> of <code>Application</code>.
@@ -326,11 +349,15 @@ public class SendbirdUIKit {
         // useCaching=true is required for UIKit
         final InitParams initParams = new InitParams(adapter.getAppId(), context, true, logLevel, isForeground);
         sendbirdChatContract.init(initParams, initResultHandler);
+        // the subsystems below load their data in parallel in the background, and they're awaited only when they're used first.
         FileUtils.removeDeletableDir(context.getApplicationContext());
+        DiskCacheManager.init(context.getApplicationContext());
+        ImageTranscoder.init(context.getApplicationContext());
         UIKitPrefs.init(context.getApplicationContext());
         NotificationChannelManager.init(context.getApplicationContext());
+        NotificationViewedLogStore.init(context.getApplicationContext());
         MessageTemplateManager.init(context.getApplicationContext());
-        EmojiManager.init();
+        EmojiManager.init(context.getApplicationContext());
     }
 
     /**
@@ -614,26 +641,42 @@ public class SendbirdUIKit {
             @Override
             public Pair<User, SendbirdException> call() throws Exception {
                 final Pair<User, SendbirdException> data;
-                if (connectType == ConnectType.AUTHENTICATE_FEED) {
-                    data = authenticateFeedBlocking(sendbirdChat);
-                } else {
-                    data = connectBlocking(sendbirdChat);
+                long startedAt = MetricsTracker.begin(UIKitMetric.CONNECT_PHASE);
+                try {
+                    if (connectType == ConnectType.AUTHENTICATE_FEED) {
+                        data = authenticateFeedBlocking(sendbirdChat);
+                    } else {
+                        data = connectBlocking(sendbirdChat);
+                    }
+                } finally {
+                    MetricsTracker.end(UIKitMetric.CONNECT_PHASE, "connect", startedAt);
                 }
 
                 final User user = data.first;
                 final SendbirdException error = data.second;
                 Logger.d("++ user=%s, error=%s", user, error);
                 if (error == null && user != null) {
-                    UserInfo userInfo = adapter.getUserInfo();
-                    String userId = userInfo.getUserId();
-                    String nickname = TextUtils.isEmpty(userInfo.getNickname()) ? user.getNickname() : userInfo.getNickname();
-                    if (useUserIdForNickname && TextUtils.isEmpty(nickname)) nickname = userId;
-                    String profileUrl = TextUtils.isEmpty(userInfo.getProfileUrl()) ? user.getProfileUrl() : userInfo.getProfileUrl();
-                    if (!nickname.equals(user.getNickname()) || (!TextUtils.isEmpty(profileUrl) && !profileUrl.equals(user.getProfileUrl()))) {
-                        final UserUpdateParams params = new UserUpdateParams();
-                        params.setNickname(nickname);
-                        params.setProfileImageUrl(profileUrl);
-                        updateUserInfoBlocking(sendbirdChat, params);
+                    final UserUpdateParams userUpdateParams = createUserUpdateParams(user);
+                    if (connectType == ConnectType.CONNECT && useStagedConnect) {
+                        // the screens build their params from the configurations when they're created,
+                        // so the configurations are requested before the connection is reported if nothing is cached yet.
+                        final AppInfo appInfo = sendbirdChat.getAppInfo();
+                        final boolean syncConfigurations = uikitConfigRepo == null || uikitConfigRepo.hasCachedConfigurations();
+                        if (!syncConfigurations && appInfo != null) {
+                            requestConfigurationsBlocking(sendbirdChat, appInfo);
+                        }
+                        // the connection is reported right away, and the others are synchronized in the background.
+                        startResourceSync(sendbirdChat, userUpdateParams, syncConfigurations);
+                        return new Pair<>(user, error);
+                    }
+
+                    if (userUpdateParams != null) {
+                        startedAt = MetricsTracker.begin(UIKitMetric.CONNECT_PHASE);
+                        try {
+                            updateUserInfoBlocking(sendbirdChat, userUpdateParams);
+                        } finally {
+                            MetricsTracker.end(UIKitMetric.CONNECT_PHASE, "update_user", startedAt);
+                        }
                     }
 
                     Logger.dev("++ user nickname = %s, profileUrl = %s", user.getNickname(), user.getProfileUrl());
@@ -646,14 +689,13 @@ public class SendbirdUIKit {
                             updateEmojiList();
                         }
 
-                        fetchTemplatesBlocking(sendbirdChat);
-                        if (SendbirdUIKit.uikitConfigRepo != null) {
-                            try {
-                                SendbirdUIKit.uikitConfigRepo.requestConfigurationsBlocking(sendbirdChat, appInfo.getUiKitConfigInfo());
-                            } catch (Exception e) {
-                                Logger.w(e);
-                            }
+                        startedAt = MetricsTracker.begin(UIKitMetric.CONNECT_PHASE);
+                        try {
+                            fetchTemplatesBlocking(sendbirdChat);
+                        } finally {
+                            MetricsTracker.end(UIKitMetric.CONNECT_PHASE, "templates", startedAt);
                         }
+                        requestConfigurationsBlocking(sendbirdChat, appInfo);
                     }
                 }
 
@@ -682,34 +724,13 @@ public class SendbirdUIKit {
 
             final NotificationInfo notificationInfo = appInfo.getNotificationInfo();
             if (notificationInfo != null && notificationInfo.isEnabled()) {
-                // Even if the request fails, it should not affect the result of the connection request.
-                tasks.add(Executors.callable(() -> {
-                    try {
-                        // if the cache exists or no need to update, blocking is released right away
-                        final String latestToken = notificationInfo.getTemplateListToken();
-                        NotificationChannelManager.requestTemplateListBlocking(latestToken);
-                    } catch (Exception ignore) {
-                    }
-                }));
-                tasks.add(Executors.callable(() -> {
-                    try {
-                        // if the cache exists or no need to update, blocking is released right away
-                        final long settingsUpdatedAt = notificationInfo.getSettingsUpdatedAt();
-                        NotificationChannelManager.requestNotificationChannelSettingBlocking(settingsUpdatedAt);
-                    } catch (Exception ignore) {
-                    }
-                }));
+                tasks.add(Executors.callable(() -> syncNotificationTemplateList(notificationInfo)));
+                tasks.add(Executors.callable(() -> syncNotificationChannelSettings(notificationInfo)));
             }
 
             final MessageTemplateInfo messageTemplateInfo = appInfo.getMessageTemplateInfo();
             if (messageTemplateInfo != null && messageTemplateInfo.getToken() != null) { // `token == null` means there are no templates in server.
-                tasks.add(Executors.callable(() -> {
-                    try {
-                        final String latestToken = messageTemplateInfo.getToken();
-                        MessageTemplateManager.syncMessageTemplateListBlocking(latestToken);
-                    } catch (Exception ignore) {
-                    }
-                }));
+                tasks.add(Executors.callable(() -> syncMessageTemplateList(messageTemplateInfo)));
             }
 
             try {
@@ -721,6 +742,109 @@ public class SendbirdUIKit {
         }
     }
 
+    /**
+     * Synchronizes the resources after the staged connect reports the connection.
+     * The resources are requested in the order of their priority, and the features which need them await them through {@link ResourceSyncManager}.
+     */
+    private static void startResourceSync(@NonNull SendbirdChatContract sendbirdChat,
+                                          @Nullable UserUpdateParams userUpdateParams,
+                                          boolean syncConfigurations) {
+        final Map<ResourceSyncManager.Resource, Runnable> tasks = new EnumMap<>(ResourceSyncManager.Resource.class);
+        final AppInfo appInfo = sendbirdChat.getAppInfo();
+        if (appInfo != null) {
+            if (syncConfigurations) {
+                tasks.put(ResourceSyncManager.Resource.CONFIGURATIONS, () -> requestConfigurationsBlocking(sendbirdChat, appInfo));
+            }
+
+            final MessageTemplateInfo messageTemplateInfo = appInfo.getMessageTemplateInfo();
+            if (messageTemplateInfo != null && messageTemplateInfo.getToken() != null) { // `token == null` means there are no templates in server.
+                tasks.put(ResourceSyncManager.Resource.MESSAGE_TEMPLATES, () -> syncMessageTemplateList(messageTemplateInfo));
+            }
+
+            final NotificationInfo notificationInfo = appInfo.getNotificationInfo();
+            if (notificationInfo != null && notificationInfo.isEnabled()) {
+                tasks.put(ResourceSyncManager.Resource.NOTIFICATION_SETTINGS, () -> syncNotificationChannelSettings(notificationInfo));
+                tasks.put(ResourceSyncManager.Resource.NOTIFICATION_TEMPLATES, () -> syncNotificationTemplateList(notificationInfo));
+            }
+
+            if (appInfo.getUseReaction()) {
+                tasks.put(ResourceSyncManager.Resource.EMOJIS, () -> {
+                    if (appInfo.needUpdateEmoji(EmojiManager.getEmojiHash())) updateEmojiListBlocking();
+                });
+            }
+        }
+
+        if (userUpdateParams != null) {
+            tasks.put(ResourceSyncManager.Resource.USER_INFO, () -> {
+                try {
+                    updateUserInfoBlocking(sendbirdChat, userUpdateParams);
+                } catch (Exception e) {
+                    Logger.w(e);
+                }
+            });
+        }
+        ResourceSyncManager.start(tasks);
+    }
+
+    @Nullable
+    private static UserUpdateParams createUserUpdateParams(@NonNull User user) {
+        UserInfo userInfo = adapter.getUserInfo();
+        String userId = userInfo.getUserId();
+        String nickname = TextUtils.isEmpty(userInfo.getNickname()) ? user.getNickname() : userInfo.getNickname();
+        if (useUserIdForNickname && TextUtils.isEmpty(nickname)) nickname = userId;
+        String profileUrl = TextUtils.isEmpty(userInfo.getProfileUrl()) ? user.getProfileUrl() : userInfo.getProfileUrl();
+        if (!nickname.equals(user.getNickname()) || (!TextUtils.isEmpty(profileUrl) && !profileUrl.equals(user.getProfileUrl()))) {
+            final UserUpdateParams params = new UserUpdateParams();
+            params.setNickname(nickname);
+            params.setProfileImageUrl(profileUrl);
+            return params;
+        }
+        return null;
+    }
+
+    @WorkerThread
+    private static void requestConfigurationsBlocking(@NonNull SendbirdChatContract sendbirdChat, @NonNull AppInfo appInfo) {
+        if (SendbirdUIKit.uikitConfigRepo == null) return;
+        final long startedAt = MetricsTracker.begin(UIKitMetric.CONNECT_PHASE);
+        try {
+            SendbirdUIKit.uikitConfigRepo.requestConfigurationsBlocking(sendbirdChat, appInfo.getUiKitConfigInfo());
+        } catch (Exception e) {
+            Logger.w(e);
+        } finally {
+            MetricsTracker.end(UIKitMetric.CONNECT_PHASE, "configurations", startedAt);
+        }
+    }
+
+    // Even if the requests below fail, it should not affect the result of the connection request.
+    @WorkerThread
+    private static void syncNotificationTemplateList(@NonNull NotificationInfo notificationInfo) {
+        try {
+            // if the cache exists or no need to update, blocking is released right away
+            final String latestToken = notificationInfo.getTemplateListToken();
+            NotificationChannelManager.requestTemplateListBlocking(latestToken);
+        } catch (Exception ignore) {
+        }
+    }
+
+    @WorkerThread
+    private static void syncNotificationChannelSettings(@NonNull NotificationInfo notificationInfo) {
+        try {
+            // if the cache exists or no need to update, blocking is released right away
+            final long settingsUpdatedAt = notificationInfo.getSettingsUpdatedAt();
+            NotificationChannelManager.requestNotificationChannelSettingBlocking(settingsUpdatedAt);
+        } catch (Exception ignore) {
+        }
+    }
+
+    @WorkerThread
+    private static void syncMessageTemplateList(@NonNull MessageTemplateInfo messageTemplateInfo) {
+        try {
+            final String latestToken = messageTemplateInfo.getToken();
+            MessageTemplateManager.syncMessageTemplateListBlocking(latestToken);
+        } catch (Exception ignore) {
+        }
+    }
+
     @NonNull
     private static Pair<User, SendbirdException> connectBlocking(@NonNull SendbirdChatContract sendbirdChat) throws InterruptedException {
         final AtomicReference<User> result = new AtomicReference<>();
@@ -846,6 +970,26 @@ public class SendbirdUIKit {
         return fragmentFactory;
     }
 
+    @WorkerThread
+    private static void updateEmojiListBlocking() {
+        final CountDownLatch latch = new CountDownLatch(1);
+        SendbirdChat.getAllEmoji((emojiContainer, e) -> {
+            try {
+                if (e != null) {
+                    Logger.e(e);
+                } else if (emojiContainer != null) {
+                    EmojiManager.upsertEmojiContainer(emojiContainer);
+                }
+            } finally {
+                latch.countDown();
+            }
+        });
+        try {
+            latch.await();
+        } catch (InterruptedException ignore) {
+        }
+    }
+
     private static void updateEmojiList() {
         Logger.d(">> SendBirdUIkit::updateEmojiList()");
         SendbirdChat.getAllEmoji((emojiContainer, e) -> {
@@ -928,6 +1072,62 @@ public class SendbirdUIKit {
         return SendbirdUIKit.resizingSize;
     }
 
+    /**
+     * Sets the maximum bytes of the bitmaps that can be held at the same time while resizing the images to send.
+     * If an image needs more memory than this value even after resizing, it's resized to a smaller size that fits in this value.
+     * Default value is the smaller of 32MB and 1/8 of the max heap size.
+     *
+     * @param bytes The maximum bytes of the bitmaps used for resizing the images
+     * since 3.22.0
+     */
+    public static void setImageTranscodingMemoryBudget(long bytes) {
+        SendbirdUIKit.imageTranscodingMemoryBudget = bytes;
+    }
+
+    /**
+     * Returns the maximum bytes of the bitmaps that can be held at the same time while resizing the images to send.
+     *
+     * @return The maximum bytes of the bitmaps used for resizing the images
+     * since 3.22.0
+     */
+    public static long getImageTranscodingMemoryBudget() {
+        return SendbirdUIKit.imageTranscodingMemoryBudget;
+    }
+
+    /**
+     * Sets the maximum bytes of the files that UIKit keeps in the cache directory.
+     * It bounds the channel files such as voice files, the downloaded files and the temporary files.
+     * When the total size exceeds this value, the least recently used files are removed in background. Default value is 200MB.
+     *
+     * @param bytes The maximum bytes of the cached files
+     * since 3.22.0
+     */
+    public static void setDiskCacheBudget(long bytes) {
+        SendbirdUIKit.diskCacheBudget = bytes;
+        DiskCacheManager.requestTrim();
+    }
+
+    /**
+     * Returns the maximum bytes of the files that UIKit keeps in the cache directory.
+     *
+     * @return The maximum bytes of the cached files
+     * since 3.22.0
+     */
+    public static long getDiskCacheBudget() {
+        return SendbirdUIKit.diskCacheBudget;
+    }
+
+    /**
+     * Returns the total bytes of the files that UIKit keeps in the cache directory.
+     * It's measured periodically in background, so it can be different from the current size.
+     *
+     * @return The total bytes of the cached files, or -1 if it's not measured yet
+     * since 3.22.0
+     */
+    public static long getDiskCacheUsage() {
+        return DiskCacheManager.getUsage();
+    }
+
     /**
      * Returns the user mention configuration.
      *
@@ -972,6 +1172,52 @@ public class SendbirdUIKit {
         SendbirdUIKit.voiceRecorderConfig = config;
     }
 
+    /**
+     * Sets whether the voice files of the voice messages displayed on the screen are downloaded in advance.
+     * If it's enabled, the voice message starts playing without waiting for the download. Default value is false.
+     *
+     * @param enabled true if the voice files are downloaded in advance
+     * since 3.22.0
+     */
+    public static void setVoiceMessagePrefetchEnabled(boolean enabled) {
+        SendbirdUIKit.useVoiceMessagePrefetch = enabled;
+    }
+
+    /**
+     * Returns whether the voice files of the voice messages displayed on the screen are downloaded in advance.
+     *
+     * @return true if the voice files are downloaded in advance
+     * since 3.22.0
+     */
+    public static boolean isVoiceMessagePrefetchEnabled() {
+        return SendbirdUIKit.useVoiceMessagePrefetch;
+    }
+
+    /**
+     * Sets whether {@link #connect(ConnectHandler)} reports the connection as soon as the session is up. Default value is false.
+     * If it's enabled, the configurations, the templates, the emojis and the user information are synchronized in the background after the connection is reported,
+     * and the features which need them wait for them individually.
+     * The configurations of the dashboard are applied to the screens when they're created. If they're cached by the previous connections,
+     * the screens opened before the synchronization finishes use the cached ones, and the latest ones are applied after the app restarts, the same as before.
+     * If nothing is cached, such as on the first launch, the configurations are requested before the connection is reported.
+     *
+     * @param enabled true if the connection is reported before the resources are synchronized
+     * since 3.22.0
+     */
+    public static void setStagedConnectEnabled(boolean enabled) {
+        SendbirdUIKit.useStagedConnect = enabled;
+    }
+
+    /**
+     * Returns whether {@link #connect(ConnectHandler)} reports the connection as soon as the session is up.
+     *
+     * @return true if the connection is reported before the resources are synchronized
+     * since 3.22.0
+     */
+    public static boolean isStagedConnectEnabled() {
+        return SendbirdUIKit.useStagedConnect;
+    }
+
     /**
      * @param level set the displaying log level. {@link LogLevel}
      * since 1.0.2
@@ -980,6 +1226,54 @@ public class SendbirdUIKit {
         Logger.setLogLevel(level.getLevel());
     }
 
+    /**
+     * Sets the listener to receive the timings and the counters of UIKit operations.
+     * The timings are also emitted as the trace sections regardless of the listener.
+     *
+     * @param listener The listener to receive the metrics. If null, nothing is measured
+     * since 3.22.0
+     */
+    public static void setMetricsListener(@Nullable OnMetricsListener listener) {
+        MetricsTracker.setListener(listener);
+    }
+
+    /**
+     * Sets the level of the logs kept in the memory. The logs are kept regardless of {@link #setLogLevel(LogLevel)},
+     * so the detailed logs can be collected in the production without printing them to the logcat.
+     * Only the latest logs are kept, and they can be written with {@link #dumpRecordedLogs(OutputStream)}.
+     * The default value is {@link LogLevel#NONE}, which doesn't keep any logs.
+     *
+     * @param level The level of the logs to keep in the memory. {@link LogLevel}
+     * since 3.22.0
+     */
+    public static void setLogRecordLevel(@NonNull LogLevel level) {
+        Logger.setRecordLevel(level.getLevel());
+    }
+
+    /**
+     * Writes the logs kept in the memory to the stream from the oldest one. The stream is flushed but not closed.
+     *
+     * @param outputStream The stream to write the logs to
+     * @throws IOException if the logs can't be written
+     * since 3.22.0
+     */
+    public static void dumpRecordedLogs(@NonNull OutputStream outputStream) throws IOException {
+        Logger.dumpRecordedLogs(outputStream);
+    }
+
+    /**
+     * Writes the logs kept in the memory to the file from the oldest one. The file is overwritten.
+     *
+     * @param file The file to write the logs to
+     * @throws IOException if the logs can't be written
+     * since 3.22.0
+     */
+    public static void dumpRecordedLogs(@NonNull File file) throws IOException {
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            Logger.dumpRecordedLogs(outputStream);
+        }
+    }
+
     /**
      * Returns the default theme mode.
      *
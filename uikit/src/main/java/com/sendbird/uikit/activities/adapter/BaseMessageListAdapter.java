@@ -23,6 +23,8 @@ import com.sendbird.uikit.R;
 import com.sendbird.uikit.activities.viewholder.MessageType;
 import com.sendbird.uikit.activities.viewholder.MessageViewHolder;
 import com.sendbird.uikit.activities.viewholder.MessageViewHolderFactory;
+import com.sendbird.uikit.consts.StringSet;
+import com.sendbird.uikit.consts.UIKitMetric;
 import com.sendbird.uikit.interfaces.EmojiReactionHandler;
 import com.sendbird.uikit.interfaces.MessageDisplayDataProvider;
 import com.sendbird.uikit.interfaces.OnEmojiReactionClickListener;
@@ -36,6 +38,7 @@ import com.sendbird.uikit.internal.contracts.SendbirdUIKitImpl;
 import com.sendbird.uikit.internal.extensions.MessageExtensionsKt;
 import com.sendbird.uikit.internal.interfaces.OnFeedbackRatingClickListener;
 import com.sendbird.uikit.internal.singleton.MessageDisplayDataManager;
+import com.sendbird.uikit.internal.singleton.MetricsTracker;
 import com.sendbird.uikit.internal.ui.viewholders.MyUserMessageViewHolder;
 import com.sendbird.uikit.internal.ui.viewholders.OtherUserMessageViewHolder;
 import com.sendbird.uikit.log.Logger;
@@ -171,7 +174,13 @@ abstract public class BaseMessageListAdapter extends BaseMessageAdapter<BaseMess
         parent.getContext().getTheme().resolveAttribute(R.attr.sb_component_list, values, true);
         final Context contextWrapper = new ContextThemeWrapper(parent.getContext(), values.resourceId);
         LayoutInflater inflater = LayoutInflater.from(contextWrapper);
-        MessageViewHolder viewHolder = createViewHolder(parent, viewType, inflater);
+        final long startedAt = MetricsTracker.begin(UIKitMetric.VIEW_HOLDER_CREATE);
+        final MessageViewHolder viewHolder;
+        try {
+            viewHolder = createViewHolder(parent, viewType, inflater);
+        } finally {
+            MetricsTracker.end(UIKitMetric.VIEW_HOLDER_CREATE, startedAt == 0 ? null : MessageType.from(viewType).name(), startedAt);
+        }
 
         viewHolder.setMessageUIConfig(messageUIConfig);
 
@@ -211,7 +220,12 @@ abstract public class BaseMessageListAdapter extends BaseMessageAdapter<BaseMess
                 holder.itemView.startAnimation(animation);
             }
         }
-        super.onBindViewHolder(holder, position, payloads);
+        final long startedAt = MetricsTracker.begin(UIKitMetric.VIEW_HOLDER_BIND);
+        try {
+            super.onBindViewHolder(holder, position, payloads);
+        } finally {
+            MetricsTracker.end(UIKitMetric.VIEW_HOLDER_BIND, startedAt == 0 ? null : MessageType.from(holder.getItemViewType()).name(), startedAt);
+        }
     }
 
     /**
@@ -359,14 +373,14 @@ abstract public class BaseMessageListAdapter extends BaseMessageAdapter<BaseMess
         if (messageDisplayDataProvider == null || messageDisplayDataProvider.shouldRunOnUIThread()) {
             if (messageDisplayDataProvider != null)
                 MessageDisplayDataManager.checkAndGenerateDisplayData(messageList, messageDisplayDataProvider);
-            MessageExtensionsKt.updateMessageEmojiCategories(messageList, this::getEmojiCategories);
+            MessageExtensionsKt.updateMessageEmojiCategories(this, messageList, this::getEmojiCategories);
             notifyMessageListChanged(channel, messageList, callback);
             return;
         }
 
         messageDisplayDataProvider.threadPool().submit(() -> {
             MessageDisplayDataManager.checkAndGenerateDisplayData(messageList, messageDisplayDataProvider);
-            MessageExtensionsKt.updateMessageEmojiCategories(messageList, this::getEmojiCategories);
+            MessageExtensionsKt.updateMessageEmojiCategories(this, messageList, this::getEmojiCategories);
             notifyMessageListChanged(channel, messageList, callback);
         });
     }
@@ -666,6 +680,11 @@ abstract public class BaseMessageListAdapter extends BaseMessageAdapter<BaseMess
     @VisibleForTesting
     @NonNull
     DiffUtil.DiffResult calculateDiff(MessageDiffCallback diffCallback) {
-        return DiffUtil.calculateDiff(diffCallback);
+        final long startedAt = MetricsTracker.begin(UIKitMetric.DIFF_CALCULATION);
+        try {
+            return DiffUtil.calculateDiff(diffCallback);
+        } finally {
+            MetricsTracker.end(UIKitMetric.DIFF_CALCULATION, StringSet.message, startedAt);
+        }
     }
 }
@@ -4,6 +4,7 @@ import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.DiffUtil;
 
 import java.util.List;
+import java.util.Objects;
 
 class ChannelDiffCallback extends DiffUtil.Callback {
     private final List<ChannelListAdapter.ChannelInfo> oldChannelList;
@@ -24,10 +25,14 @@ class ChannelDiffCallback extends DiffUtil.Callback {
         return newChannelList.size();
     }
 
+    // the placeholders of the paged channel list are null, and they're regarded as the same item.
     @Override
     public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
         ChannelListAdapter.ChannelInfo oldChannel = oldChannelList.get(oldItemPosition);
         ChannelListAdapter.ChannelInfo newChannel = newChannelList.get(newItemPosition);
+        if (oldChannel == null || newChannel == null) {
+            return oldChannel == newChannel;
+        }
         if (!newChannel.getChannelUrl().equals(oldChannel.getChannelUrl())) {
             return false;
         }
@@ -40,6 +45,6 @@ class ChannelDiffCallback extends DiffUtil.Callback {
         final ChannelListAdapter.ChannelInfo oldChannel = oldChannelList.get(oldItemPosition);
         final ChannelListAdapter.ChannelInfo newChannel = newChannelList.get(newItemPosition);
 
-        return oldChannel.equals(newChannel);
+        return Objects.equals(oldChannel, newChannel);
     }
 }
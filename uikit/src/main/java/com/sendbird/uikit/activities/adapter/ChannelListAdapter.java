@@ -3,8 +3,11 @@ package com.sendbird.uikit.activities.adapter;
 import static androidx.recyclerview.widget.RecyclerView.NO_POSITION;
 
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.TypedValue;
 import android.view.LayoutInflater;
+import android.view.View;
 import android.view.ViewGroup;
 
 import androidx.annotation.NonNull;
@@ -12,6 +15,8 @@ import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import androidx.appcompat.view.ContextThemeWrapper;
 import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListUpdateCallback;
+import androidx.recyclerview.widget.RecyclerView;
 
 import com.sendbird.android.channel.GroupChannel;
 import com.sendbird.android.message.BaseMessage;
@@ -20,28 +25,56 @@ import com.sendbird.android.message.UserMessage;
 import com.sendbird.android.user.User;
 import com.sendbird.uikit.R;
 import com.sendbird.uikit.activities.viewholder.BaseViewHolder;
+import com.sendbird.uikit.consts.UIKitMetric;
 import com.sendbird.uikit.databinding.SbViewChannelPreviewBinding;
 import com.sendbird.uikit.interfaces.MessageDisplayDataProvider;
 import com.sendbird.uikit.interfaces.OnItemClickListener;
 import com.sendbird.uikit.interfaces.OnItemLongClickListener;
+import com.sendbird.uikit.internal.model.ChannelPreviewModel;
 import com.sendbird.uikit.internal.singleton.MessageDisplayDataManager;
+import com.sendbird.uikit.internal.singleton.MetricsTracker;
+import com.sendbird.uikit.log.Logger;
+import com.sendbird.uikit.model.ChannelListDelta;
 import com.sendbird.uikit.model.ChannelListUIParams;
 import com.sendbird.uikit.model.configurations.UIKitConfig;
 import com.sendbird.uikit.utils.ChannelUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ChannelListAdapter provides a binding from a {@link GroupChannel} type data set to views that are displayed within a RecyclerView.
  */
 public class ChannelListAdapter extends BaseAdapter<GroupChannel, BaseViewHolder<GroupChannel>> {
+    private static final int VIEW_TYPE_CHANNEL = 0;
+    private static final int VIEW_TYPE_PLACEHOLDER = 1;
+    // the diff and the preview models are calculated on this thread and applied on the main thread in order.
+    @NonNull
+    private static final ExecutorService diffExecutor = Executors.newSingleThreadExecutor();
+    @NonNull
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    // the number of the lists calculated in the background and not applied yet.
+    private final AtomicInteger pendingUpdates = new AtomicInteger();
+    // the order of the lists set. The list generated after the newer one is calculated is dropped.
+    private final AtomicLong requestedSequence = new AtomicLong();
+    private long calculatedSequence = 0;
     @NonNull
     private final List<GroupChannel> channelList = new ArrayList<>();
     @NonNull
     private List<ChannelInfo> cachedChannelList = new ArrayList<>();
+    // the latest calculated list which may not be applied to the adapter yet.
+    @NonNull
+    private List<ChannelInfo> latestChannelInfoList = new ArrayList<>();
+    @Nullable
+    private volatile Context context;
     @Nullable
     private OnItemClickListener<GroupChannel> listener;
     @Nullable
@@ -50,6 +83,12 @@ public class ChannelListAdapter extends BaseAdapter<GroupChannel, BaseViewHolder
     private MessageDisplayDataProvider messageDisplayDataProvider;
     @NonNull
     private final ChannelListUIParams params;
+    private long appliedDeltaVersion = -1;
+    // the window of the paged channel list. See ChannelListPagingConfig.
+    private int windowOffset = 0;
+    private int totalCount = 0;
+    private int latestWindowOffset = 0;
+    private int latestTotalCount = 0;
 
     /**
      * Constructor
@@ -91,7 +130,35 @@ public class ChannelListAdapter extends BaseAdapter<GroupChannel, BaseViewHolder
         final TypedValue values = new TypedValue();
         parent.getContext().getTheme().resolveAttribute(R.attr.sb_component_list, values, true);
         final Context contextWrapper = new ContextThemeWrapper(parent.getContext(), values.resourceId);
-        return new ChannelPreviewHolder(SbViewChannelPreviewBinding.inflate(LayoutInflater.from(contextWrapper), parent, false), params);
+        final SbViewChannelPreviewBinding binding = SbViewChannelPreviewBinding.inflate(LayoutInflater.from(contextWrapper), parent, false);
+        if (viewType == VIEW_TYPE_PLACEHOLDER) {
+            return new PlaceholderHolder(binding);
+        }
+        return new ChannelPreviewHolder(binding, params);
+    }
+
+    /**
+     * Return the view type of the item at <code>position</code> for the purposes of view recycling.
+     * The rows outside of the window of the paged channel list are displayed as placeholders.
+     *
+     * @param position position to query
+     * @return integer value identifying the type of the view needed to represent the item at <code>position</code>.
+     * since 3.22.0
+     */
+    @Override
+    public int getItemViewType(int position) {
+        return isPlaceholder(position) ? VIEW_TYPE_PLACEHOLDER : VIEW_TYPE_CHANNEL;
+    }
+
+    /**
+     * Returns whether the item at the position is a placeholder outside of the window of the paged channel list.
+     *
+     * @param position The position of the item within the adapter's data set.
+     * @return {@code true} if the item is a placeholder, {@code false} otherwise
+     * since 3.22.0
+     */
+    public boolean isPlaceholder(int position) {
+        return position < windowOffset || position >= windowOffset + channelList.size();
     }
 
     /**
@@ -106,24 +173,43 @@ public class ChannelListAdapter extends BaseAdapter<GroupChannel, BaseViewHolder
     @Override
     public void onBindViewHolder(@NonNull BaseViewHolder<GroupChannel> holder, int position) {
         final GroupChannel channel = getItem(position);
-        holder.bind(channel);
+        if (holder instanceof PlaceholderHolder || channel == null) {
+            holder.itemView.setOnClickListener(null);
+            holder.itemView.setOnLongClickListener(null);
+            return;
+        }
+        final int index = position - windowOffset;
+        final ChannelPreviewModel previewModel = index < cachedChannelList.size() ? cachedChannelList.get(index).getPreviewModel() : null;
+        if (holder instanceof ChannelPreviewHolder && previewModel != null && previewModel.getChannelUrl().equals(channel.getUrl())) {
+            ((ChannelPreviewHolder) holder).bind(previewModel);
+        } else {
+            holder.bind(channel);
+        }
 
         holder.itemView.setOnClickListener(v -> {
             int channelPosition = holder.getBindingAdapterPosition();
-            if (channelPosition != NO_POSITION && listener != null) {
-                listener.onItemClick(v, channelPosition, getItem(channelPosition));
+            final GroupChannel item = channelPosition != NO_POSITION ? getItem(channelPosition) : null;
+            if (item != null && listener != null) {
+                listener.onItemClick(v, channelPosition, item);
             }
         });
         holder.itemView.setOnLongClickListener(v -> {
             int channelPosition = holder.getBindingAdapterPosition();
-            if (channelPosition != NO_POSITION && longClickListener != null) {
-                longClickListener.onItemLongClick(v, channelPosition, getItem(channelPosition));
+            final GroupChannel item = channelPosition != NO_POSITION ? getItem(channelPosition) : null;
+            if (item != null && longClickListener != null) {
+                longClickListener.onItemLongClick(v, channelPosition, item);
                 return true;
             }
             return false;
         });
     }
 
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        this.context = recyclerView.getContext();
+    }
+
     /**
      * Register a callback to be invoked when the {@link BaseViewHolder#itemView} is clicked.
      *
@@ -176,6 +262,7 @@ public class ChannelListAdapter extends BaseAdapter<GroupChannel, BaseViewHolder
 
     /**
      * Returns the {@link List<GroupChannel>} in the data set held by the adapter.
+     * If the paged channel list is used, only the channels in the window are returned.
      *
      * @return The {@link List<GroupChannel>} in this adapter.
      */
@@ -187,14 +274,17 @@ public class ChannelListAdapter extends BaseAdapter<GroupChannel, BaseViewHolder
 
     /**
      * Returns the {@link GroupChannel} in the data set held by the adapter.
+     * If the paged channel list is used, the positions out of the window are placeholders and {@code null} is returned for them.
      *
      * @param position The position of the item within the adapter's data set.
-     * @return The {@link GroupChannel} to retrieve the position of in this adapter.
+     * @return The {@link GroupChannel} to retrieve the position of in this adapter, or {@code null} if the position is a placeholder.
+     * @see #isPlaceholder(int)
      */
-    @NonNull
+    @Nullable
     @Override
     public GroupChannel getItem(int position) {
-        return channelList.get(position);
+        if (isPlaceholder(position)) return null;
+        return channelList.get(position - windowOffset);
     }
 
     /**
@@ -204,43 +294,173 @@ public class ChannelListAdapter extends BaseAdapter<GroupChannel, BaseViewHolder
      */
     @Override
     public int getItemCount() {
-        return channelList.size();
+        return Math.max(totalCount, windowOffset + channelList.size());
     }
 
     /**
      * Sets the {@link List<GroupChannel>} to be displayed.
+     * If it's called on the UI thread and no list is being applied in the background, the list is applied synchronously.
      *
      * @param channelList list to be displayed
      */
     public void setItems(@NonNull List<GroupChannel> channelList) {
+        setItems(channelList, null);
+    }
+
+    /**
+     * Sets the {@link List<GroupChannel>} to be displayed with the changes from the previous list.
+     * If the delta is continuous with the last applied one, only the channels inserted or updated in the delta are snapshotted again,
+     * and the others reuse the previous snapshot. Otherwise, the whole list is refreshed.
+     *
+     * @param channelList list to be displayed
+     * @param delta The changes of the channel list calculated from the previous emission
+     * since 3.22.0
+     */
+    public void setItems(@NonNull List<GroupChannel> channelList, @Nullable ChannelListDelta delta) {
+        final long sequence = requestedSequence.incrementAndGet();
         if (messageDisplayDataProvider == null || messageDisplayDataProvider.shouldRunOnUIThread()) {
             if (messageDisplayDataProvider != null)
                 MessageDisplayDataManager.checkAndGenerateDisplayDataFromChannelList(channelList, messageDisplayDataProvider);
-            notifyChannelListChanged(channelList);
+            // without the delta, nothing is precomputed, so getItems() and getItemCount() are updated right away as before.
+            // the lists being applied in the background must be applied first to keep the order.
+            if (delta == null && Looper.myLooper() == Looper.getMainLooper() && pendingUpdates.get() == 0) {
+                final Runnable applyChange = calculateChannelListChange(channelList, null, sequence);
+                if (applyChange != null) applyChange.run();
+                return;
+            }
+            pendingUpdates.incrementAndGet();
+            diffExecutor.submit(() -> notifyChannelListChanged(channelList, delta, sequence));
             return;
         }
 
+        pendingUpdates.incrementAndGet();
+        // only the display data is generated on the provider's pool, and the diff is calculated on the diff thread in order.
         messageDisplayDataProvider.threadPool().submit(() -> {
             MessageDisplayDataManager.checkAndGenerateDisplayDataFromChannelList(channelList, messageDisplayDataProvider);
-            notifyChannelListChanged(channelList);
+            diffExecutor.submit(() -> notifyChannelListChanged(channelList, delta, sequence));
+        });
+    }
+
+    private void notifyChannelListChanged(@NonNull List<GroupChannel> channelList, @Nullable ChannelListDelta delta, long sequence) {
+        final Runnable applyChange = calculateChannelListChange(channelList, delta, sequence);
+        mainHandler.post(() -> {
+            if (applyChange != null) applyChange.run();
+            pendingUpdates.decrementAndGet();
         });
     }
 
-    private void notifyChannelListChanged(@NonNull List<GroupChannel> channelList) {
-        final List<ChannelInfo> newChannelInfo = ChannelInfo.toChannelInfoList(channelList, new ChannelListUIParams());
-        final ChannelDiffCallback diffCallback = new ChannelDiffCallback(this.cachedChannelList, newChannelInfo);
-        final DiffUtil.DiffResult diffResult = calculateDiff(diffCallback);
+    // Returns the task to apply the calculated change on the UI thread, or null if the newer list is already calculated.
+    @Nullable
+    private synchronized Runnable calculateChannelListChange(@NonNull List<GroupChannel> channelList, @Nullable ChannelListDelta delta, long sequence) {
+        if (sequence < calculatedSequence) {
+            Logger.d("++ stale channel list is dropped. sequence=%s, calculated=%s", sequence, calculatedSequence);
+            return null;
+        }
+        calculatedSequence = sequence;
+        final List<ChannelInfo> newChannelInfo;
+        if (delta != null && delta.getBaseVersion() == appliedDeltaVersion) {
+            newChannelInfo = ChannelInfo.toChannelInfoList(channelList, params, context, latestChannelInfoList, delta);
+        } else {
+            newChannelInfo = ChannelInfo.toChannelInfoList(channelList, params, context);
+        }
+        final int newWindowOffset = delta != null ? delta.getWindowOffset() : 0;
+        final int newTotalCount = delta != null ? delta.getTotalCount() : channelList.size();
+        final boolean isFullWindow = newWindowOffset == 0 && newTotalCount == channelList.size();
+        final boolean wasFullWindow = latestWindowOffset == 0 && latestTotalCount == latestChannelInfoList.size();
+        // If the window isn't moved, the diff is calculated only for the window.
+        // Otherwise, it's calculated from the first row of both windows to the end, and the rows out of the window are placeholders.
+        final boolean isSameWindow = (isFullWindow && wasFullWindow) || (newWindowOffset == latestWindowOffset && newTotalCount == latestTotalCount);
+        final DiffUtil.DiffResult diffResult;
+        final int diffOffset;
+        if (isSameWindow) {
+            diffResult = calculateDiff(new ChannelDiffCallback(this.latestChannelInfoList, newChannelInfo));
+            diffOffset = newWindowOffset;
+        } else {
+            diffOffset = Math.min(latestWindowOffset, newWindowOffset);
+            final int latestItemCount = Math.max(latestTotalCount, latestWindowOffset + latestChannelInfoList.size());
+            final int newItemCount = Math.max(newTotalCount, newWindowOffset + newChannelInfo.size());
+            diffResult = calculateDiff(new ChannelDiffCallback(
+                toRows(this.latestChannelInfoList, latestWindowOffset, diffOffset, latestItemCount),
+                toRows(newChannelInfo, newWindowOffset, diffOffset, newItemCount)
+            ));
+        }
+        this.latestChannelInfoList = newChannelInfo;
+        this.latestWindowOffset = newWindowOffset;
+        this.latestTotalCount = newTotalCount;
+        this.appliedDeltaVersion = delta != null ? delta.getVersion() : -1;
+
+        return () -> {
+            this.channelList.clear();
+            this.channelList.addAll(channelList);
+            this.cachedChannelList = newChannelInfo;
+            this.windowOffset = newWindowOffset;
+            this.totalCount = newTotalCount;
+            diffResult.dispatchUpdatesTo(new OffsetListUpdateCallback(this, diffOffset));
+        };
+    }
 
-        this.channelList.clear();
-        this.channelList.addAll(channelList);
-        this.cachedChannelList = newChannelInfo;
-        diffResult.dispatchUpdatesTo(this);
+    // Returns the rows from the start position to the end of the list. The rows out of the window are placeholders, which are null.
+    @NonNull
+    private static List<ChannelInfo> toRows(@NonNull List<ChannelInfo> window, int windowOffset, int start, int itemCount) {
+        final List<ChannelInfo> rows = new ArrayList<>(Math.max(itemCount - start, 0));
+        for (int position = start; position < itemCount; position++) {
+            final int index = position - windowOffset;
+            rows.add(index >= 0 && index < window.size() ? window.get(index) : null);
+        }
+        return rows;
     }
 
     @VisibleForTesting
     @NonNull
     DiffUtil.DiffResult calculateDiff(ChannelDiffCallback diffCallback) {
-        return DiffUtil.calculateDiff(diffCallback);
+        final long startedAt = MetricsTracker.begin(UIKitMetric.DIFF_CALCULATION);
+        try {
+            return DiffUtil.calculateDiff(diffCallback);
+        } finally {
+            MetricsTracker.end(UIKitMetric.DIFF_CALCULATION, "channel", startedAt);
+        }
+    }
+
+    private static class OffsetListUpdateCallback implements ListUpdateCallback {
+        @NonNull
+        private final RecyclerView.Adapter<?> adapter;
+        private final int offset;
+
+        OffsetListUpdateCallback(@NonNull RecyclerView.Adapter<?> adapter, int offset) {
+            this.adapter = adapter;
+            this.offset = offset;
+        }
+
+        @Override
+        public void onInserted(int position, int count) {
+            adapter.notifyItemRangeInserted(position + offset, count);
+        }
+
+        @Override
+        public void onRemoved(int position, int count) {
+            adapter.notifyItemRangeRemoved(position + offset, count);
+        }
+
+        @Override
+        public void onMoved(int fromPosition, int toPosition) {
+            adapter.notifyItemMoved(fromPosition + offset, toPosition + offset);
+        }
+
+        @Override
+        public void onChanged(int position, int count, @Nullable Object payload) {
+            adapter.notifyItemRangeChanged(position + offset, count, payload);
+        }
+    }
+
+    private static class PlaceholderHolder extends BaseViewHolder<GroupChannel> {
+        PlaceholderHolder(@NonNull SbViewChannelPreviewBinding binding) {
+            super(binding.getRoot());
+            binding.channelPreview.getLayout().setVisibility(View.INVISIBLE);
+        }
+
+        @Override
+        public void bind(@NonNull GroupChannel channel) {
+        }
     }
 
     private static class ChannelPreviewHolder extends BaseViewHolder<GroupChannel> {
@@ -259,6 +479,10 @@ public class ChannelListAdapter extends BaseAdapter<GroupChannel, BaseViewHolder
         public void bind(@NonNull GroupChannel channel) {
             binding.channelPreview.drawChannel(channel);
         }
+
+        void bind(@NonNull ChannelPreviewModel previewModel) {
+            binding.channelPreview.drawChannel(previewModel);
+        }
     }
 
     static class ChannelInfo {
@@ -284,8 +508,14 @@ public class ChannelListAdapter extends BaseAdapter<GroupChannel, BaseViewHolder
         private int unDeliveredMemberCount;
         @NonNull
         private final ChannelListUIParams params;
+        @Nullable
+        private final ChannelPreviewModel previewModel;
 
         ChannelInfo(@NonNull GroupChannel channel, @NonNull ChannelListUIParams params) {
+            this(channel, params, null);
+        }
+
+        ChannelInfo(@NonNull GroupChannel channel, @NonNull ChannelListUIParams params, @Nullable Context context) {
             this.channelUrl = channel.getUrl();
             this.createdAt = channel.getCreatedAt();
             this.memberCount = channel.getMemberCount();
@@ -307,6 +537,13 @@ public class ChannelListAdapter extends BaseAdapter<GroupChannel, BaseViewHolder
                     this.unDeliveredMemberCount = channel.getUndeliveredMemberCount(channel.getLastMessage());
                 }
             }
+            this.previewModel = context != null ? ChannelPreviewModel.from(
+                context,
+                channel,
+                params.getEnableTypingIndicator(),
+                params.getEnableMessageReceiptStatus(),
+                UIKitConfig.getGroupChannelConfig().getEnableMention()
+            ) : null;
         }
 
         @NonNull
@@ -366,6 +603,11 @@ public class ChannelListAdapter extends BaseAdapter<GroupChannel, BaseViewHolder
             return unReadMemberCount;
         }
 
+        @Nullable
+        ChannelPreviewModel getPreviewModel() {
+            return previewModel;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -457,9 +699,36 @@ public class ChannelListAdapter extends BaseAdapter<GroupChannel, BaseViewHolder
 
         @NonNull
         static List<ChannelInfo> toChannelInfoList(@NonNull List<GroupChannel> channelList, @NonNull ChannelListUIParams params) {
+            return toChannelInfoList(channelList, params, null);
+        }
+
+        @NonNull
+        static List<ChannelInfo> toChannelInfoList(@NonNull List<GroupChannel> channelList, @NonNull ChannelListUIParams params, @Nullable Context context) {
             List<ChannelInfo> results = new ArrayList<>();
             for (GroupChannel channel : channelList) {
-                results.add(new ChannelInfo(channel, params));
+                results.add(new ChannelInfo(channel, params, context));
+            }
+            return results;
+        }
+
+        @NonNull
+        static List<ChannelInfo> toChannelInfoList(@NonNull List<GroupChannel> channelList,
+                                                   @NonNull ChannelListUIParams params,
+                                                   @Nullable Context context,
+                                                   @NonNull List<ChannelInfo> cachedChannelList,
+                                                   @NonNull ChannelListDelta delta) {
+            final Map<String, ChannelInfo> cachedChannelInfoMap = new HashMap<>();
+            for (ChannelInfo channelInfo : cachedChannelList) {
+                cachedChannelInfoMap.put(channelInfo.getChannelUrl(), channelInfo);
+            }
+            final List<ChannelInfo> results = new ArrayList<>();
+            for (GroupChannel channel : channelList) {
+                final ChannelInfo cached = cachedChannelInfoMap.get(channel.getUrl());
+                if (cached != null && !delta.isChanged(channel.getUrl()) && (context == null || cached.getPreviewModel() != null)) {
+                    results.add(cached);
+                } else {
+                    results.add(new ChannelInfo(channel, params, context));
+                }
             }
             return results;
         }
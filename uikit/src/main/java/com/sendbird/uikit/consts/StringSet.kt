@@ -84,6 +84,7 @@ object StringSet {
     const val KEY_EMOJI_REACTION_USER_ = "KEY_EMOJI_REACTION_USER_"
     const val KEY_CUSTOM_API_HOST = "KEY_CUSTOM_API_HOST"
     const val KEY_CUSTOM_WS_HOST = "KEY_CUSTOM_WS_HOST"
+    const val KEY_LEGACY_CHANNEL_DIRS_MIGRATED = "KEY_LEGACY_CHANNEL_DIRS_MIGRATED"
     const val sb_uikit = "sb_uikit"
     const val sbu_type = "sbu_type"
     const val audio = "audio"
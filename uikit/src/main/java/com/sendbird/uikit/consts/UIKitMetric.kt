@@ -0,0 +1,110 @@
+package com.sendbird.uikit.consts
+
+/**
+ * Represents the operations of UIKit measured for [com.sendbird.uikit.interfaces.OnMetricsListener].
+ * The same names are used for the trace sections of the timings.
+ *
+ * @since 3.22.0
+ */
+enum class UIKitMetric(internal val traceName: String) {
+    /**
+     * The time to build the message list to display with `buildMessageList()`.
+     *
+     * @since 3.22.0
+     */
+    MESSAGE_LIST_BUILD("SBUIKIT:buildMessageList"),
+
+    /**
+     * The time to calculate the changes of the message list or the channel list.
+     * The detail is `message` or `channel`.
+     *
+     * @since 3.22.0
+     */
+    DIFF_CALCULATION("SBUIKIT:calculateDiff"),
+
+    /**
+     * The time to create a view holder of the message list. The detail is the view type.
+     *
+     * @since 3.22.0
+     */
+    VIEW_HOLDER_CREATE("SBUIKIT:createViewHolder"),
+
+    /**
+     * The time to bind a view holder of the message list. The detail is the view type.
+     *
+     * @since 3.22.0
+     */
+    VIEW_HOLDER_BIND("SBUIKIT:bindViewHolder"),
+
+    /**
+     * The time to resolve the message templates of the messages.
+     *
+     * @since 3.22.0
+     */
+    TEMPLATE_RESOLUTION("SBUIKIT:resolveTemplates"),
+
+    /**
+     * The count of the message templates found in the cache.
+     *
+     * @since 3.22.0
+     */
+    TEMPLATE_CACHE_HIT("SBUIKIT:templateCacheHit"),
+
+    /**
+     * The count of the message templates not found in the cache.
+     *
+     * @since 3.22.0
+     */
+    TEMPLATE_CACHE_MISS("SBUIKIT:templateCacheMiss"),
+
+    /**
+     * The count of the loads that found the stored emojis. It's counted once when the emojis are loaded.
+     *
+     * @since 3.22.0
+     */
+    EMOJI_CACHE_HIT("SBUIKIT:emojiCacheHit"),
+
+    /**
+     * The count of the loads that found no stored emojis. It's counted once when the emojis are loaded.
+     *
+     * @since 3.22.0
+     */
+    EMOJI_CACHE_MISS("SBUIKIT:emojiCacheMiss"),
+
+    /**
+     * The time to prepare the files to send.
+     *
+     * @since 3.22.0
+     */
+    FILE_PREPARATION("SBUIKIT:prepareFiles"),
+
+    /**
+     * The time of a phase of `SendbirdUIKit.connect()`.
+     * The detail is `connect`, `update_user`, `templates` or `configurations`.
+     *
+     * @since 3.22.0
+     */
+    CONNECT_PHASE("SBUIKIT:connect"),
+
+    /**
+     * The time to load the first page of the messages from the server.
+     *
+     * @since 3.22.0
+     */
+    LOAD_INITIAL("SBUIKIT:loadInitial"),
+
+    /**
+     * The time to load the previous page of the messages.
+     *
+     * @since 3.22.0
+     */
+    LOAD_PREVIOUS("SBUIKIT:loadPrevious"),
+
+    /**
+     * The time blocked to wait for a subsystem initialized in the background by `SendbirdUIKit.init()`.
+     * The detail is the name of the subsystem.
+     *
+     * @since 3.22.0
+     */
+    INITIALIZATION_WAIT("SBUIKIT:awaitInitialization"),
+}
@@ -9,6 +9,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.sendbird.uikit.interfaces.AuthenticateHandler;
+import com.sendbird.uikit.internal.singleton.UIKitConfigRepository;
 import com.sendbird.uikit.model.ReadyStatus;
 import com.sendbird.uikit.modules.BaseModule;
 import com.sendbird.uikit.vm.BaseViewModel;
@@ -50,6 +51,8 @@ public abstract class BaseModuleFragment<MT extends BaseModule, VM extends BaseV
     @Override
     public void onCreate(@Nullable Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        // the configurations cached from the dashboard are loaded in the background by SendbirdUIKit.init(), and the module reads them.
+        UIKitConfigRepository.awaitLoaded();
         this.viewModel = onCreateViewModel();
         this.module = onCreateModule(getArguments() == null ? new Bundle() : getArguments());
         onConfigureParams(this.module, getArguments() == null ? new Bundle() : getArguments());
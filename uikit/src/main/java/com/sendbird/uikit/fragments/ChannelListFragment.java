@@ -27,6 +27,7 @@ import com.sendbird.uikit.interfaces.OnItemClickListener;
 import com.sendbird.uikit.interfaces.OnItemLongClickListener;
 import com.sendbird.uikit.internal.ui.widgets.SelectChannelTypeView;
 import com.sendbird.uikit.log.Logger;
+import com.sendbird.uikit.model.ChannelListPagingConfig;
 import com.sendbird.uikit.model.DialogListItem;
 import com.sendbird.uikit.model.ReadyStatus;
 import com.sendbird.uikit.model.configurations.ChannelListConfig;
@@ -64,6 +65,8 @@ public class ChannelListFragment extends BaseModuleFragment<ChannelListModule, C
     private OnItemLongClickListener<GroupChannel> itemLongClickListener;
     @Nullable
     private GroupChannelListQuery query;
+    @Nullable
+    private ChannelListPagingConfig pagingConfig;
 
     @NonNull
     @Override
@@ -90,6 +93,9 @@ public class ChannelListFragment extends BaseModuleFragment<ChannelListModule, C
     protected void onBeforeReady(@NonNull ReadyStatus status, @NonNull ChannelListModule module, @NonNull ChannelListViewModel viewModel) {
         Logger.d(">> ChannelListFragment::initModule()");
         module.getChannelListComponent().setPagedDataLoader(viewModel);
+        if (this.pagingConfig != null) {
+            viewModel.setPagingConfig(pagingConfig);
+        }
         if (this.adapter != null) {
             module.getChannelListComponent().setAdapter(adapter);
         }
@@ -133,7 +139,8 @@ public class ChannelListFragment extends BaseModuleFragment<ChannelListModule, C
         Logger.d(">> ChannelListFragment::setupChannelListComponent()");
         channelListComponent.setOnItemClickListener(this::onItemClicked);
         channelListComponent.setOnItemLongClickListener(this::onItemLongClicked);
-        viewModel.getChannelList().observe(getViewLifecycleOwner(), channelListComponent::notifyDataSetChanged);
+        channelListComponent.setOnVisibleRangeChangedListener(viewModel::onVisibleRangeChanged);
+        viewModel.getChannelListDelta().observe(getViewLifecycleOwner(), channelListComponent::notifyDataSetChanged);
     }
 
     /**
@@ -150,7 +157,7 @@ public class ChannelListFragment extends BaseModuleFragment<ChannelListModule, C
             shouldAuthenticate();
         });
 
-        viewModel.getChannelList().observe(getViewLifecycleOwner(), channels -> statusComponent.notifyStatusChanged(channels.isEmpty() ? StatusFrameView.Status.EMPTY : StatusFrameView.Status.NONE));
+        viewModel.getChannelListDelta().observe(getViewLifecycleOwner(), delta -> statusComponent.notifyStatusChanged(delta.getTotalCount() == 0 ? StatusFrameView.Status.EMPTY : StatusFrameView.Status.NONE));
     }
 
     private void showChannelTypeSelectDialog() {
@@ -323,6 +330,8 @@ public class ChannelListFragment extends BaseModuleFragment<ChannelListModule, C
         @Nullable
         private GroupChannelListQuery query;
         @Nullable
+        private ChannelListPagingConfig pagingConfig;
+        @Nullable
         private ChannelListFragment customFragment;
 
         /**
@@ -574,6 +583,20 @@ public class ChannelListFragment extends BaseModuleFragment<ChannelListModule, C
             return this;
         }
 
+        /**
+         * Sets the paging configuration to display the channel list with a bounded window of channels.
+         * It's recommended for the users who belong to a huge number of channels.
+         *
+         * @param pagingConfig The paging configuration of the channel list
+         * @return This Builder object to allow for chaining of calls to set methods.
+         * since 3.22.0
+         */
+        @NonNull
+        public Builder setPagingConfig(@NonNull ChannelListPagingConfig pagingConfig) {
+            this.pagingConfig = pagingConfig;
+            return this;
+        }
+
         /**
          * Sets the icon when the data is not exists.
          *
@@ -668,6 +691,7 @@ public class ChannelListFragment extends BaseModuleFragment<ChannelListModule, C
             fragment.itemClickListener = itemClickListener;
             fragment.itemLongClickListener = itemLongClickListener;
             fragment.query = query;
+            fragment.pagingConfig = pagingConfig;
             return fragment;
         }
     }
@@ -5,7 +5,9 @@ import com.sendbird.android.message.UserMessage
 import com.sendbird.uikit.model.MessageDisplayData
 import com.sendbird.uikit.model.UserMessageDisplayData
 import java.util.concurrent.ExecutorService
-import java.util.concurrent.Executors
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
 
 interface MessageDisplayDataGenerator<O> {
     /**
@@ -57,6 +59,13 @@ abstract class MessageDisplayDataProvider {
      */
     open fun shouldRunOnUIThread(): Boolean = true
 
+    // the adapters apply the generated lists in the submitted order, so it runs one task at a time.
+    private val threadPool: ExecutorService by lazy {
+        ThreadPoolExecutor(1, 1, 30L, TimeUnit.SECONDS, LinkedBlockingQueue()).apply {
+            allowCoreThreadTimeOut(true)
+        }
+    }
+
     @JvmName("threadPool")
-    internal fun threadPool(): ExecutorService = Executors.newSingleThreadExecutor()
+    internal fun threadPool(): ExecutorService = threadPool
 }
@@ -0,0 +1,18 @@
+package com.sendbird.uikit.interfaces;
+
+/**
+ * Interface definition for a callback to be invoked when the bytes of a file are downloaded.
+ *
+ * since 3.22.0
+ */
+public interface OnDownloadProgressListener {
+    /**
+     * Called when the bytes of a file are downloaded.
+     * It's invoked on the UI thread, and it can be skipped if the progress is updated too frequently.
+     *
+     * @param downloadedBytes The number of bytes downloaded so far
+     * @param totalBytes      The number of bytes of the file. It's -1 if the size is unknown
+     * since 3.22.0
+     */
+    void onProgress(long downloadedBytes, long totalBytes);
+}
@@ -0,0 +1,34 @@
+package com.sendbird.uikit.interfaces;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.sendbird.uikit.consts.UIKitMetric;
+
+/**
+ * Interface definition for a callback to be invoked when UIKit measures its operations.
+ * The callbacks are invoked on the thread which runs the operation, so they must return quickly.
+ *
+ * since 3.22.0
+ */
+public interface OnMetricsListener {
+    /**
+     * Called when an operation is finished.
+     *
+     * @param metric         The measured operation
+     * @param detail         The detail of the operation. (e.g. the view type of the view holder)
+     * @param durationMillis The elapsed time of the operation in milliseconds
+     * since 3.22.0
+     */
+    void onTiming(@NonNull UIKitMetric metric, @Nullable String detail, double durationMillis);
+
+    /**
+     * Called when an event is counted.
+     *
+     * @param metric The counted event
+     * @param detail The detail of the event
+     * @param count  The number of the events
+     * since 3.22.0
+     */
+    void onCount(@NonNull UIKitMetric metric, @Nullable String detail, long count);
+}
@@ -0,0 +1,17 @@
+package com.sendbird.uikit.interfaces;
+
+/**
+ * Interface definition for a callback to be invoked when the visible range of the list is changed.
+ *
+ * since 3.22.0
+ */
+public interface OnVisibleRangeChangedListener {
+    /**
+     * Called when the visible range of the list has been changed.
+     *
+     * @param firstVisiblePosition The adapter position of the first visible item
+     * @param lastVisiblePosition  The adapter position of the last visible item
+     * since 3.22.0
+     */
+    void onVisibleRangeChanged(int firstVisiblePosition, int lastVisiblePosition);
+}
@@ -0,0 +1,26 @@
+package com.sendbird.uikit.internal.contracts
+
+import com.sendbird.android.handler.GroupChannelCollectionHandler
+import com.sendbird.uikit.internal.singleton.ChatEventSimulator
+
+/**
+ * Delivers the events of [ChatEventSimulator] to the handler of the collection in addition to the events of [delegate].
+ */
+internal class SimulatedGroupChannelCollection(
+    private val delegate: GroupChannelCollectionContract
+) : GroupChannelCollectionContract by delegate {
+    @Volatile
+    var handler: GroupChannelCollectionHandler? = null
+        private set
+
+    override fun setGroupChannelCollectionHandler(handler: GroupChannelCollectionHandler?) {
+        this.handler = handler
+        if (handler != null) ChatEventSimulator.register(this) else ChatEventSimulator.unregister(this)
+        delegate.setGroupChannelCollectionHandler(handler)
+    }
+
+    override fun dispose() {
+        ChatEventSimulator.unregister(this)
+        delegate.dispose()
+    }
+}
@@ -0,0 +1,60 @@
+package com.sendbird.uikit.internal.contracts
+
+import com.sendbird.android.channel.GroupChannel
+import com.sendbird.android.collection.MessageCollectionInitPolicy
+import com.sendbird.android.exception.SendbirdException
+import com.sendbird.android.handler.BaseMessagesHandler
+import com.sendbird.android.handler.MessageCollectionHandler
+import com.sendbird.android.handler.MessageCollectionInitHandler
+import com.sendbird.android.message.BaseMessage
+import com.sendbird.uikit.internal.singleton.ChatEventSimulator
+
+/**
+ * Delivers the events of [ChatEventSimulator] to the handler of the collection in addition to the events of [delegate].
+ * The loaded messages are kept to be replayed by the simulator.
+ */
+internal class SimulatedMessageCollection(
+    private val delegate: MessageCollectionContract,
+    val channel: GroupChannel,
+    @Volatile var handler: MessageCollectionHandler?
+) : MessageCollectionContract by delegate {
+    override fun initialize(initPolicy: MessageCollectionInitPolicy, handler: MessageCollectionInitHandler?) {
+        ChatEventSimulator.register(this)
+        delegate.initialize(initPolicy, object : MessageCollectionInitHandler {
+            override fun onCacheResult(cachedList: List<BaseMessage>?, e: SendbirdException?) {
+                ChatEventSimulator.recordMessages(channel, cachedList)
+                handler?.onCacheResult(cachedList, e)
+            }
+
+            override fun onApiResult(apiResultList: List<BaseMessage>?, e: SendbirdException?) {
+                ChatEventSimulator.recordMessages(channel, apiResultList)
+                handler?.onApiResult(apiResultList, e)
+            }
+        })
+    }
+
+    override fun loadPrevious(handler: BaseMessagesHandler?) {
+        delegate.loadPrevious(recording(handler))
+    }
+
+    override fun loadNext(handler: BaseMessagesHandler?) {
+        delegate.loadNext(recording(handler))
+    }
+
+    override fun setMessageCollectionHandler(listener: MessageCollectionHandler?) {
+        handler = listener
+        delegate.setMessageCollectionHandler(listener)
+    }
+
+    override fun dispose() {
+        ChatEventSimulator.unregister(this)
+        delegate.dispose()
+    }
+
+    private fun recording(handler: BaseMessagesHandler?): BaseMessagesHandler {
+        return BaseMessagesHandler { messages, e ->
+            ChatEventSimulator.recordMessages(channel, messages)
+            handler?.onResult(messages, e)
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.sendbird.uikit.internal.contracts
+
+import com.sendbird.android.handler.BaseChannelHandler
+import com.sendbird.android.handler.ConnectionHandler
+import com.sendbird.uikit.internal.singleton.ChatEventSimulator
+
+/**
+ * Delivers the events of [ChatEventSimulator] to the channel handlers and the connection handlers in addition to the events of [delegate].
+ */
+internal class SimulatedSendbirdChat(
+    private val delegate: SendbirdChatContract
+) : SendbirdChatContract by delegate {
+    override fun addChannelHandler(identifier: String, handler: BaseChannelHandler) {
+        ChatEventSimulator.addChannelHandler(identifier, handler)
+        delegate.addChannelHandler(identifier, handler)
+    }
+
+    override fun addConnectionHandler(identifier: String, handler: ConnectionHandler) {
+        ChatEventSimulator.addConnectionHandler(identifier, handler)
+        delegate.addConnectionHandler(identifier, handler)
+    }
+
+    override fun removeChannelHandler(identifier: String): BaseChannelHandler? {
+        ChatEventSimulator.removeChannelHandler(identifier)
+        return delegate.removeChannelHandler(identifier)
+    }
+
+    override fun removeConnectionHandler(identifier: String): ConnectionHandler? {
+        ChatEventSimulator.removeConnectionHandler(identifier)
+        return delegate.removeConnectionHandler(identifier)
+    }
+}
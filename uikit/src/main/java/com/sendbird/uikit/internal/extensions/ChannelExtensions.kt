@@ -1,10 +1,15 @@
 package com.sendbird.uikit.internal.extensions
 
+import com.sendbird.android.channel.BaseChannel
 import com.sendbird.android.channel.GroupChannel
 import com.sendbird.android.message.BaseMessage
+import com.sendbird.uikit.consts.StringSet
 import com.sendbird.uikit.internal.ui.messages.MESSAGE_FORM_VERSION
 import com.sendbird.uikit.model.configurations.ChannelConfig
 
+internal val BaseChannel.hasDefaultCover: Boolean
+    get() = coverUrl.isEmpty() || coverUrl.contains(StringSet.DEFAULT_CHANNEL_COVER_URL)
+
 internal fun GroupChannel.shouldDisableInput(channelConfig: ChannelConfig): Boolean {
     val disabledChatInputMessages = disabledChatInputMessagesMap[url]
     if (!disabledChatInputMessages.isNullOrEmpty()) {
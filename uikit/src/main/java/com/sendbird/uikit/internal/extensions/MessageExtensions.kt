@@ -1,6 +1,7 @@
 package com.sendbird.uikit.internal.extensions
 
 import android.content.Context
+import android.util.LongSparseArray
 import com.sendbird.android.annotation.AIChatBotExperimental
 import com.sendbird.android.message.BaseFileMessage
 import com.sendbird.android.message.BaseMessage
@@ -18,6 +19,8 @@ import com.sendbird.uikit.log.Logger
 import com.sendbird.uikit.model.EmojiManager
 import com.sendbird.uikit.model.UserMessageDisplayData
 import com.sendbird.uikit.utils.MessageUtils
+import java.util.WeakHashMap
+import java.util.concurrent.ConcurrentHashMap
 
 internal fun BaseMessage.hasParentMessage() = parentMessageId != 0L
 
@@ -112,20 +115,24 @@ internal fun MessageFormItem.MessageFormLayout.convertToViewType(): Int {
     }
 }
 
-private val emojiCategoriesMap: MutableMap<Long, List<Long>> = mutableMapOf()
+private val emojiCategoriesMap: MutableMap<Long, List<Long>> = ConcurrentHashMap()
+// the reactions of the messages when their emoji categories were computed, kept for each owner until the owner is collected.
+private val emojiCategoriesSignatureMap: MutableMap<Any, LongSparseArray<EmojiCategoriesSignature>> = WeakHashMap()
+// the same category lists share one instance, so the diff of the message list doesn't regard them as changed.
+private val emojiCategoriesPool: MutableMap<List<Long>, List<Long>> = ConcurrentHashMap()
 internal var BaseMessage.emojiCategories: List<Long>?
     get() = emojiCategoriesMap[this.messageId]
     set(value) {
         if (value == null) {
             emojiCategoriesMap.remove(this.messageId)
         } else {
-            emojiCategoriesMap[this.messageId] = value
+            emojiCategoriesMap[this.messageId] = emojiCategoriesPool.putIfAbsent(value, value) ?: value
         }
     }
 
 internal fun allowedEmojiList(message: BaseMessage): List<Emoji> {
     val categories = message.emojiCategories
-    Logger.d("emoji categories for message: $categories")
+    Logger.d { "emoji categories for message: $categories" }
     return if (categories == null) {
         EmojiManager.allEmojis
     } else {
@@ -133,14 +140,49 @@ internal fun allowedEmojiList(message: BaseMessage): List<Emoji> {
     }
 }
 
-internal fun updateMessageEmojiCategories(messageList: List<BaseMessage>, emojiCategories: (BaseMessage) -> List<Long>?) {
-    messageList.forEach { message ->
-        if (message.reactions.isEmpty()) {
-            // If there is no reaction, total emoji category allowed is not needed
-            message.emojiCategories = null
-            return@forEach
+/**
+ * Updates the emoji categories of the messages which are new or whose reactions have changed since the last update.
+ * The [owner] provides [emojiCategories], so the state of the reactions is kept for each owner until the owner is collected.
+ */
+internal fun updateMessageEmojiCategories(owner: Any, messageList: List<BaseMessage>, emojiCategories: (BaseMessage) -> List<Long>?) {
+    synchronized(emojiCategoriesSignatureMap) {
+        val signatures = emojiCategoriesSignatureMap.getOrPut(owner) { LongSparseArray() }
+        messageList.forEach { message ->
+            if (message.reactions.isEmpty()) {
+                // If there is no reaction, total emoji category allowed is not needed
+                message.emojiCategories = null
+                signatures.remove(message.messageId)
+                return@forEach
+            }
+            // the pending messages share the message id 0, so they're always computed.
+            if (message.messageId == 0L) {
+                message.emojiCategories = emojiCategories(message)
+                return@forEach
+            }
+            val signature = EmojiCategoriesSignature.from(message)
+            // the categories are kept by the message id for all owners, so they're computed again if another owner has removed them.
+            if (signatures[message.messageId] == signature && message.emojiCategories != null) return@forEach
+            message.emojiCategories = emojiCategories(message)
+            signatures.put(message.messageId, signature)
         }
-        message.emojiCategories = emojiCategories(message)
+    }
+}
+
+internal fun clearEmojiCategories() {
+    synchronized(emojiCategoriesSignatureMap) {
+        emojiCategoriesSignatureMap.clear()
+    }
+    emojiCategoriesMap.clear()
+}
+
+private data class EmojiCategoriesSignature(val updatedAt: Long, val reactions: List<ReactionSignature>) {
+    data class ReactionSignature(val key: String, val count: Int, val updatedAt: Long)
+
+    companion object {
+        fun from(message: BaseMessage) = EmojiCategoriesSignature(
+            message.updatedAt,
+            message.reactions.map { ReactionSignature(it.key, it.userIds.size, it.updatedAt) }
+        )
     }
 }
 
@@ -1,6 +1,7 @@
 package com.sendbird.uikit.internal.extensions
 
 import com.sendbird.uikit.consts.StringSet
+import java.security.MessageDigest
 import java.util.Locale
 
 internal fun String?.toDisplayText(default: String): String {
@@ -21,3 +22,19 @@ internal fun String.upperFirstChar(): String {
 internal infix fun List<String>?.isEqualTo(other: List<String>?): Boolean {
     return this == other
 }
+
+private val HEX_DIGITS = "0123456789abcdef".toCharArray()
+
+internal fun String.toSha1Hex(): String {
+    return MessageDigest.getInstance("SHA-1").digest(this.toByteArray(Charsets.UTF_8)).toHex()
+}
+
+internal fun ByteArray.toHex(): String {
+    val chars = CharArray(size * 2)
+    forEachIndexed { index, byte ->
+        val value = byte.toInt() and 0xff
+        chars[index * 2] = HEX_DIGITS[value ushr 4]
+        chars[index * 2 + 1] = HEX_DIGITS[value and 0x0f]
+    }
+    return String(chars)
+}
@@ -0,0 +1,135 @@
+package com.sendbird.uikit.internal.model
+
+import android.content.Context
+import androidx.annotation.AnyThread
+import com.sendbird.android.channel.GroupChannel
+import com.sendbird.android.message.AdminMessage
+import com.sendbird.android.message.BaseFileMessage
+import com.sendbird.android.message.UserMessage
+import com.sendbird.uikit.R
+import com.sendbird.uikit.SendbirdUIKit
+import com.sendbird.uikit.internal.extensions.getDisplayMessage
+import com.sendbird.uikit.internal.extensions.hasDefaultCover
+import com.sendbird.uikit.internal.extensions.removeMarkdownFormatting
+import com.sendbird.uikit.internal.extensions.toDisplayText
+import com.sendbird.uikit.model.configurations.UIKitConfig
+import com.sendbird.uikit.utils.ChannelUtils
+import com.sendbird.uikit.utils.MessageUtils
+
+/**
+ * Immutable snapshot of everything [com.sendbird.uikit.internal.ui.channels.ChannelPreview] displays.
+ * It's created off the main thread together with the diff, so the row binding only formats the date of [updatedAt].
+ */
+internal data class ChannelPreviewModel(
+    val channelUrl: String,
+    val title: String,
+    val coverUrls: List<String>,
+    val useBroadcastCover: Boolean,
+    val isPushOff: Boolean,
+    val isFrozen: Boolean,
+    val isBroadcast: Boolean,
+    val unreadMessageCount: Int,
+    val unreadMessageCountText: String,
+    val hasUnreadMention: Boolean,
+    val unreadMentionText: String,
+    val memberCount: Int,
+    val memberCountText: CharSequence,
+    // the relative text (e.g. "Yesterday") changes with the date, so it's formatted when the row is bound.
+    val updatedAt: Long,
+    val lastMessageText: CharSequence,
+    val lastMessageStyle: LastMessageStyle,
+    val lastMessageStatus: LastMessageStatus
+) {
+    internal enum class LastMessageStyle {
+        // keeps the current style of the view. (e.g. typing indicator)
+        NONE,
+        TEXT,
+        FILE
+    }
+
+    internal enum class LastMessageStatus {
+        HIDDEN,
+        SENT,
+        DELIVERED,
+        READ
+    }
+
+    companion object {
+        @AnyThread
+        @JvmStatic
+        fun from(
+            context: Context,
+            channel: GroupChannel,
+            useTypingIndicator: Boolean,
+            useMessageReceiptStatus: Boolean,
+            useUnreadMentionCount: Boolean
+        ): ChannelPreviewModel {
+            val lastMessage = channel.lastMessage
+            val unreadMessageCount = channel.unreadMessageCount
+            val title = if (channel.isChatNotification) {
+                channel.name.ifEmpty { context.getString(R.string.sb_text_channel_list_title_unknown) }
+            } else {
+                ChannelUtils.makeTitleText(context, channel)
+            }
+            val unreadMessageCountText = if (unreadMessageCount > 99) {
+                context.getString(R.string.sb_text_channel_list_unread_count_max)
+            } else {
+                unreadMessageCount.toString()
+            }
+
+            var lastMessageText: CharSequence = ""
+            var lastMessageStyle = LastMessageStyle.NONE
+            val typingUsers = if (useTypingIndicator) channel.typingUsers else emptyList()
+            if (typingUsers.isNotEmpty()) {
+                lastMessageText = ChannelUtils.makeTypingText(context, typingUsers)
+            } else {
+                when (lastMessage) {
+                    is AdminMessage,
+                    is UserMessage -> {
+                        lastMessageStyle = LastMessageStyle.TEXT
+                        lastMessageText = lastMessage.getDisplayMessage().run {
+                            if (!UIKitConfig.groupChannelConfig.enableMarkdownForUserMessage) this
+                            else this.removeMarkdownFormatting()
+                        }
+                    }
+                    is BaseFileMessage -> {
+                        lastMessageStyle = LastMessageStyle.FILE
+                        lastMessageText = lastMessage.toDisplayText(context)
+                    }
+                    else -> {}
+                }
+            }
+
+            var lastMessageStatus = LastMessageStatus.HIDDEN
+            if (useMessageReceiptStatus && lastMessage != null &&
+                MessageUtils.isMine(lastMessage) && !channel.isSuper && channel.isGroupChannel
+            ) {
+                lastMessageStatus = when {
+                    channel.getUnreadMemberCount(lastMessage) == 0 -> LastMessageStatus.READ
+                    channel.getUndeliveredMemberCount(lastMessage) == 0 -> LastMessageStatus.DELIVERED
+                    else -> LastMessageStatus.SENT
+                }
+            }
+
+            return ChannelPreviewModel(
+                channelUrl = channel.url,
+                title = title,
+                coverUrls = ChannelUtils.makeProfileUrlsFromChannel(channel),
+                useBroadcastCover = channel.isBroadcast && channel.hasDefaultCover,
+                isPushOff = ChannelUtils.isChannelPushOff(channel),
+                isFrozen = channel.isFrozen,
+                isBroadcast = channel.isBroadcast,
+                unreadMessageCount = unreadMessageCount,
+                unreadMessageCountText = unreadMessageCountText,
+                hasUnreadMention = useUnreadMentionCount && channel.unreadMentionCount > 0,
+                unreadMentionText = SendbirdUIKit.getUserMentionConfig().trigger,
+                memberCount = channel.memberCount,
+                memberCountText = ChannelUtils.makeMemberCountText(channel.memberCount),
+                updatedAt = lastMessage?.createdAt ?: channel.createdAt,
+                lastMessageText = lastMessageText,
+                lastMessageStyle = lastMessageStyle,
+                lastMessageStatus = lastMessageStatus
+            )
+        }
+    }
+}
@@ -5,4 +5,8 @@ import com.sendbird.uikit.model.MessageDisplayData
 internal data class MessageDisplayDataWrapper(
     val messageDisplayData: MessageDisplayData,
     val updatedAt: Long
-)
+) {
+    // the last time the data is used. It's used to evict the data not used recently.
+    @Volatile
+    var accessedAt: Long = 0
+}
@@ -4,20 +4,16 @@ import android.content.Context
 import android.media.AudioAttributes
 import android.media.MediaPlayer
 import android.net.Uri
-import android.os.Handler
-import android.os.Looper
 import androidx.annotation.AnyThread
 import androidx.annotation.UiThread
 import com.sendbird.android.exception.SendbirdException
 import com.sendbird.android.message.FileMessage
 import com.sendbird.uikit.interfaces.OnResultHandler
-import com.sendbird.uikit.internal.extensions.runOnUiThread
+import com.sendbird.uikit.internal.singleton.DiskCacheManager
 import com.sendbird.uikit.log.Logger
-import com.sendbird.uikit.utils.ClearableScheduledExecutorService
 import com.sendbird.uikit.utils.FileUtils
 import com.sendbird.uikit.vm.FileDownloader
 import java.io.File
-import java.util.concurrent.TimeUnit
 
 internal class VoicePlayer(val key: String) {
     enum class Status {
@@ -41,8 +37,6 @@ internal class VoicePlayer(val key: String) {
         private set
 
     private val player: MediaPlayer = MediaPlayer()
-    private val progressExecutor by lazy { ClearableScheduledExecutorService() }
-    private val uiThreadHandler by lazy { Handler(Looper.getMainLooper()) }
 
     @UiThread
     @Synchronized
@@ -71,7 +65,7 @@ internal class VoicePlayer(val key: String) {
                     voiceFile: File?,
                     e: SendbirdException?
                 ) {
-                    Logger.i(">> VoicePlayer::onVoiceFileDownloaded, status=$status")
+                    Logger.i { ">> VoicePlayer::onVoiceFileDownloaded, status=$status" }
                     if (e != null || status != Status.PREPARING || voiceFile == null) {
                         stop()
                         return
@@ -99,7 +93,8 @@ internal class VoicePlayer(val key: String) {
         prepare(context, voiceFile.absolutePath, duration)
         player.start()
         updateStatus(Status.PLAYING)
-        startProgressExecutor()
+        updateProgress(getSeekTo())
+        VoicePlayerManager.startProgressTicker()
     }
 
     private fun prepare(context: Context, filePath: String, duration: Int) {
@@ -135,9 +130,8 @@ internal class VoicePlayer(val key: String) {
     @Synchronized
     fun pause() {
         if (status == Status.STOPPED || status == Status.PAUSED) return
-        Logger.i("VoicePlayer::pause(), seekTo=${getSeekTo()}")
+        Logger.i { "VoicePlayer::pause(), seekTo=${getSeekTo()}" }
 
-        progressExecutor.cancelAllJobs(true)
         updateStatus(Status.PAUSED)
         updateProgress(getSeekTo())
         player.pause()
@@ -149,7 +143,6 @@ internal class VoicePlayer(val key: String) {
         if (status == Status.STOPPED) return
         Logger.i("VoicePlayer::stop()")
 
-        progressExecutor.cancelAllJobs(true)
         updateStatus(Status.STOPPED)
         updateProgress(0)
         player.reset()
@@ -159,7 +152,7 @@ internal class VoicePlayer(val key: String) {
     @Synchronized
     private fun updateStatus(status: Status) {
         if (this.status == status) return
-        Logger.i("VoicePlayer::updateProgress(), status : $status")
+        Logger.i { "VoicePlayer::updateProgress(), status : $status" }
 
         this.status = status
         onUpdateListenerSet.forEach {
@@ -170,7 +163,7 @@ internal class VoicePlayer(val key: String) {
     @UiThread
     @Synchronized
     private fun updateProgress(currentPosition: Int) {
-        Logger.i("VoicePlayer::updateProgress(), currentPosition : $currentPosition")
+        Logger.i { "VoicePlayer::updateProgress(), currentPosition : $currentPosition" }
 
         onProgressUpdateListenerSet.forEach {
             it.onProgressUpdated(
@@ -185,27 +178,24 @@ internal class VoicePlayer(val key: String) {
     @Synchronized
     fun getSeekTo(): Int = player.currentPosition
 
-    private fun startProgressExecutor() {
-        Logger.i("VoicePlayer::startProgressExecutor()")
-        progressExecutor.cancelAllJobs(true)
-        progressExecutor.scheduleAtFixedRate({
-            runOnUiThread {
-                try {
-                    Logger.i("VoicePlayer >> onProgress, current pos : ${getSeekTo()}, status : $status")
-                    if (status == Status.PLAYING) {
-                        updateProgress(getSeekTo())
-                    }
-                } catch (ignore: Throwable) {
-                }
+    /**
+     * Called by the shared progress ticker of [VoicePlayerManager] while this player is playing.
+     */
+    @UiThread
+    @Synchronized
+    fun onProgressTick() {
+        try {
+            if (status == Status.PLAYING) {
+                updateProgress(getSeekTo())
             }
-        }, 0, 100, TimeUnit.MILLISECONDS)
+        } catch (ignore: Throwable) {
+        }
     }
 
     @Synchronized
     fun dispose() {
         Logger.i("VoicePlayer::dispose()")
         player.release()
-        progressExecutor.shutdownNow()
         onUpdateListenerSet.clear()
         onProgressUpdateListenerSet.clear()
         status = Status.STOPPED
@@ -240,6 +230,7 @@ internal class VoicePlayer(val key: String) {
         if (voiceFile.exists()) {
             if (voiceFile.length().toInt() == fileMessage.size) {
                 Logger.dev("__ return exist voice file")
+                DiskCacheManager.touch(voiceFile)
                 return voiceFile
             }
         }
@@ -1,19 +1,52 @@
 package com.sendbird.uikit.internal.model
 
 import android.content.Context
+import android.view.Choreographer
 import androidx.annotation.AnyThread
 import androidx.annotation.UiThread
+import com.sendbird.android.exception.SendbirdException
 import com.sendbird.android.message.FileMessage
+import com.sendbird.android.message.SendingStatus
+import com.sendbird.uikit.SendbirdUIKit
+import com.sendbird.uikit.interfaces.OnResultHandler
 import com.sendbird.uikit.log.Logger
+import com.sendbird.uikit.utils.FileUtils
 import com.sendbird.uikit.utils.MessageUtils
+import com.sendbird.uikit.vm.FileDownloader
 import java.io.File
 import java.util.concurrent.ConcurrentHashMap
 
 internal object VoicePlayerManager {
+    private const val PROGRESS_INTERVAL_MS = 100L
+    private const val MAX_CONCURRENT_PREFETCHES = 2
 
     private val cache: MutableMap<String, VoicePlayer> = ConcurrentHashMap()
     private var currentPlayer: VoicePlayer? = null
 
+    // One ticker drives the progress of the current player on the frame callback instead of a thread per player.
+    private var isTicking = false
+    private var lastTickTimeMs = 0L
+    private val progressTicker = object : Choreographer.FrameCallback {
+        override fun doFrame(frameTimeNanos: Long) {
+            val player = synchronized(this@VoicePlayerManager) {
+                currentPlayer?.takeIf { it.status == VoicePlayer.Status.PLAYING }.also {
+                    if (it == null) isTicking = false
+                }
+            } ?: return
+            val frameTimeMs = frameTimeNanos / 1_000_000
+            if (frameTimeMs - lastTickTimeMs >= PROGRESS_INTERVAL_MS) {
+                lastTickTimeMs = frameTimeMs
+                player.onProgressTick()
+            }
+            Choreographer.getInstance().postFrameCallback(this)
+        }
+    }
+
+    // the voice messages waiting to be prefetched, the most recently bound one first.
+    private val pendingPrefetches: LinkedHashMap<String, FileMessage> = LinkedHashMap()
+    private val prefetchRequests: MutableMap<String, FileDownloader.DownloadRequest> = HashMap()
+    private var prefetchContext: Context? = null
+
     @UiThread
     @Synchronized
     @JvmStatic
@@ -67,6 +100,78 @@ internal object VoicePlayerManager {
         return requireNotNull(currentPlayer)
     }
 
+    @UiThread
+    @Synchronized
+    @JvmStatic
+    fun startProgressTicker() {
+        if (isTicking) return
+        Logger.i("VoicePlayerManager::startProgressTicker")
+        isTicking = true
+        lastTickTimeMs = 0L
+        Choreographer.getInstance().postFrameCallback(progressTicker)
+    }
+
+    /**
+     * Downloads the voice file of the message in advance, so it can be played as soon as it's tapped.
+     * It works only if [SendbirdUIKit.isVoiceMessagePrefetchEnabled] is `true`.
+     */
+    @UiThread
+    @Synchronized
+    @JvmStatic
+    fun prefetch(context: Context, fileMessage: FileMessage) {
+        if (!SendbirdUIKit.isVoiceMessagePrefetchEnabled()) return
+        if (fileMessage.sendingStatus != SendingStatus.SUCCEEDED) return
+        val key = MessageUtils.getVoiceMessageKey(fileMessage)
+        if (prefetchRequests.containsKey(key)) return
+        val voiceFile = FileUtils.getVoiceFile(context, fileMessage)
+        if (voiceFile.exists() && voiceFile.length() == fileMessage.size.toLong()) return
+
+        pendingPrefetches.remove(key)
+        pendingPrefetches[key] = fileMessage
+        prefetchContext = context.applicationContext
+        runPendingPrefetches()
+    }
+
+    /**
+     * Cancels the prefetch of the voice message which is not displayed anymore.
+     * If the file is being downloaded for playing, the download continues.
+     */
+    @UiThread
+    @Synchronized
+    @JvmStatic
+    fun cancelPrefetch(key: String) {
+        pendingPrefetches.remove(key)
+        prefetchRequests.remove(key)?.let {
+            it.cancel()
+            runPendingPrefetches()
+        }
+    }
+
+    @Synchronized
+    private fun runPendingPrefetches() {
+        val context = prefetchContext ?: return
+        while (prefetchRequests.size < MAX_CONCURRENT_PREFETCHES && pendingPrefetches.isNotEmpty()) {
+            val (key, fileMessage) = pendingPrefetches.entries.last().toPair()
+            pendingPrefetches.remove(key)
+            Logger.d { "VoicePlayerManager::prefetch, key=$key" }
+            prefetchRequests[key] = FileDownloader.downloadFile(
+                context,
+                fileMessage,
+                object : OnResultHandler<File> {
+                    override fun onResult(result: File) = onPrefetchFinished(key)
+                    override fun onError(e: SendbirdException?) = onPrefetchFinished(key)
+                },
+                null
+            )
+        }
+    }
+
+    @Synchronized
+    private fun onPrefetchFinished(key: String) {
+        prefetchRequests.remove(key)
+        runPendingPrefetches()
+    }
+
     @UiThread
     @Synchronized
     @JvmStatic
@@ -79,7 +184,7 @@ internal object VoicePlayerManager {
     @Synchronized
     @JvmStatic
     fun dispose(key: String) {
-        Logger.i("VoicePlayerManager::dispose, key=$key")
+        Logger.i { "VoicePlayerManager::dispose, key=$key" }
         val player = cache.remove(key)
         player?.dispose()
         if (player == currentPlayer) currentPlayer = null
@@ -90,6 +195,9 @@ internal object VoicePlayerManager {
     @JvmStatic
     fun disposeAll() {
         Logger.i("VoicePlayerManager::disposeAll")
+        pendingPrefetches.clear()
+        prefetchRequests.values.forEach { it.cancel() }
+        prefetchRequests.clear()
         cache.forEach {
             it.value.dispose()
         }
@@ -101,7 +209,7 @@ internal object VoicePlayerManager {
     @Synchronized
     @JvmStatic
     fun getSeekTo(key: String): Int {
-        Logger.i("VoicePlayerManager::getSeekTo, key=$key")
+        Logger.i { "VoicePlayerManager::getSeekTo, key=$key" }
         return try {
             cache[key]?.getSeekTo() ?: 0
         } catch (e: Throwable) {
@@ -113,7 +221,7 @@ internal object VoicePlayerManager {
     @Synchronized
     @JvmStatic
     fun getStatus(key: String): VoicePlayer.Status? {
-        Logger.i("VoicePlayerManager::getStatus, key=$key")
+        Logger.i { "VoicePlayerManager::getStatus, key=$key" }
         return cache[key]?.status
     }
 
@@ -129,7 +237,7 @@ internal object VoicePlayerManager {
     @Synchronized
     @JvmStatic
     fun addOnUpdateListener(key: String, onUpdateListener: VoicePlayer.OnUpdateListener) {
-        Logger.i("VoicePlayerManager::addOnUpdateListener, key=$key")
+        Logger.i { "VoicePlayerManager::addOnUpdateListener, key=$key" }
         cache[key]?.addOnUpdateListener(onUpdateListener)
     }
 
@@ -140,7 +248,7 @@ internal object VoicePlayerManager {
         key: String,
         onProgressUpdateListener: VoicePlayer.OnProgressUpdateListener
     ) {
-        Logger.i("VoicePlayerManager::addOnProgressUpdateListener, key=$key")
+        Logger.i { "VoicePlayerManager::addOnProgressUpdateListener, key=$key" }
         cache[key]?.addOnProgressUpdateListener(onProgressUpdateListener)
     }
 
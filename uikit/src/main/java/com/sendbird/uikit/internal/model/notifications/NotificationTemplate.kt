@@ -70,7 +70,7 @@ internal data class NotificationTemplate constructor(
 
             // 1. lookup and convert color variables first
             var convertedResult = _colorVariables[variable]?.let {
-                Logger.i("++ color variable key=$variable, value=$it")
+                Logger.i { "++ color variable key=$variable, value=$it" }
                 converted = true
                 val csvColor = CSVColor(it)
                 csvColor.getColorHexString(themeMode)
@@ -79,7 +79,7 @@ internal data class NotificationTemplate constructor(
             // 2. If color variables didn't convert, convert data variables then.
             if (!converted && variables.isNotEmpty()) {
                 convertedResult = variables[variable]?.let {
-                    Logger.i("++ data variable key=$variable, value=$it")
+                    Logger.i { "++ data variable key=$variable, value=$it" }
                     it
                 } ?: convertedResult
             }
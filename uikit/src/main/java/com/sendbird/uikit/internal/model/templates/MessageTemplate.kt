@@ -47,7 +47,7 @@ internal data class MessageTemplate(
 
             // 1. lookup and convert color variables first
             var convertedResult = _colorVariables[variable]?.let {
-                Logger.i("++ color variable key=$variable, value=$it")
+                Logger.i { "++ color variable key=$variable, value=$it" }
                 converted = true
                 val csvColor = CSVColor(it)
                 csvColor.getColorHexString(NotificationThemeMode.Default)
@@ -56,7 +56,7 @@ internal data class MessageTemplate(
             // 2. If color variables didn't convert, convert data variables then.
             if (!converted && variables.isNotEmpty()) {
                 convertedResult = variables[variable]?.let {
-                    Logger.i("++ data variable key=$variable, value=$it")
+                    Logger.i { "++ data variable key=$variable, value=$it" }
                     it
                 } ?: convertedResult
             }
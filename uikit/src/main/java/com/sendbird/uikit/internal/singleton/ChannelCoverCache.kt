@@ -0,0 +1,223 @@
+package com.sendbird.uikit.internal.singleton
+
+import android.content.Context
+import android.graphics.Bitmap
+import android.graphics.BitmapShader
+import android.graphics.Canvas
+import android.graphics.Paint
+import android.graphics.Rect
+import android.graphics.RectF
+import android.graphics.Shader
+import android.graphics.drawable.Drawable
+import android.os.Handler
+import android.os.Looper
+import androidx.annotation.WorkerThread
+import com.bumptech.glide.Glide
+import com.bumptech.glide.load.engine.DiskCacheStrategy
+import com.sendbird.uikit.internal.extensions.toSha1Hex
+import com.sendbird.uikit.log.Logger
+import com.sendbird.uikit.utils.FileUtils
+import java.io.File
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+
+/**
+ * This class composes the cover image of the group channel which has multiple members into a single rounded bitmap.
+ * The composed image is stored on the disk keyed by the ordered profile urls, so each cover is rendered only once
+ * and it can be displayed with a single image request.
+ */
+internal object ChannelCoverCache {
+    private const val DIR_NAME = "sb_channel_covers"
+    private const val MAX_DISK_ENTRIES = 500
+    private const val MAX_IMAGE_COUNT = 4
+    private const val DIVIDER_WIDTH = 1
+    private const val TRANSIENT_EXTENSION = "transient.png"
+
+    private val worker by lazy { Executors.newFixedThreadPool(2) }
+    private val mainHandler by lazy { Handler(Looper.getMainLooper()) }
+    private val composedFiles: MutableMap<String, File> = ConcurrentHashMap()
+    private val pendingCallbacks: MutableMap<String, MutableList<(File?) -> Unit>> = HashMap()
+
+    /**
+     * Creates the key of the composed cover.
+     * It's called whenever the channel is bound, so it only joins the values and the file name is hashed in background.
+     *
+     * @param urls The ordered profile urls from [com.sendbird.uikit.utils.ChannelUtils.makeProfileUrlsFromChannel]
+     * @param size The pixel size of the composed cover
+     * @param variant The value that distinguishes how the empty url is drawn. (e.g. theme)
+     */
+    @JvmStatic
+    fun makeKey(urls: List<String>, size: Int, variant: String): String {
+        return "${urls.take(MAX_IMAGE_COUNT).joinToString("|")}#$size#$variant"
+    }
+
+    /**
+     * Returns the composed cover file if it is already known to be on the disk.
+     * This doesn't access the disk, so it's safe to call on the main thread.
+     */
+    @JvmStatic
+    fun getCachedFile(key: String): File? = composedFiles[key]
+
+    /**
+     * Finds the composed cover from the disk or composes it in background.
+     * The requests for the same key share one composing job, and the [callback] is invoked on the main thread.
+     */
+    @JvmStatic
+    fun load(
+        context: Context,
+        key: String,
+        urls: List<String>,
+        size: Int,
+        fallback: Drawable?,
+        callback: (File?) -> Unit
+    ) {
+        synchronized(pendingCallbacks) {
+            val callbacks = pendingCallbacks[key]
+            if (callbacks != null) {
+                callbacks.add(callback)
+                return
+            }
+            pendingCallbacks[key] = mutableListOf(callback)
+        }
+
+        val appContext = context.applicationContext
+        worker.submit {
+            val file = try {
+                findOrCompose(appContext, key, urls, size, fallback)
+            } catch (e: Throwable) {
+                Logger.w(e)
+                null
+            }
+            val callbacks = synchronized(pendingCallbacks) { pendingCallbacks.remove(key) } ?: return@submit
+            mainHandler.post { callbacks.forEach { it(file) } }
+        }
+    }
+
+    @JvmStatic
+    fun getCacheDir(context: Context): File {
+        val dir = File(context.cacheDir, DIR_NAME)
+        if (!dir.exists()) dir.mkdirs()
+        return dir
+    }
+
+    @WorkerThread
+    private fun findOrCompose(context: Context, key: String, urls: List<String>, size: Int, fallback: Drawable?): File {
+        val dir = getCacheDir(context)
+        val fileName = key.toSha1Hex()
+        val file = File(dir, "$fileName.png")
+        if (file.exists() && file.length() > 0) {
+            file.setLastModified(System.currentTimeMillis())
+            composedFiles[key] = file
+            return file
+        }
+
+        val composed = ComposedCover(Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888))
+        compose(context, composed, urls.take(MAX_IMAGE_COUNT), fallback)
+        // the cover which has the fallback instead of a profile image failed to load is not kept, so it's composed again next time.
+        val target = if (composed.hasFallback) File(dir, "$fileName.$TRANSIENT_EXTENSION") else file
+        val tempFile = File(dir, "$fileName.tmp")
+        try {
+            FileUtils.bitmapToFile(composed.bitmap, tempFile, Bitmap.CompressFormat.PNG)
+        } finally {
+            composed.bitmap.recycle()
+        }
+        if (!tempFile.renameTo(target)) {
+            tempFile.delete()
+        }
+        if (!composed.hasFallback) {
+            File(dir, "$fileName.$TRANSIENT_EXTENSION").delete()
+            composedFiles[key] = file
+            trimToSize(dir)
+        }
+        Logger.d("++ channel cover composed. key=%s, count=%s, hasFallback=%s", key, urls.size, composed.hasFallback)
+        return target
+    }
+
+    private class ComposedCover(val bitmap: Bitmap) {
+        // true if any profile image failed to load and the fallback is drawn instead.
+        var hasFallback = false
+    }
+
+    @WorkerThread
+    private fun compose(context: Context, composed: ComposedCover, urls: List<String>, fallback: Drawable?) {
+        val size = composed.bitmap.width
+        val grid = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888)
+        val gridCanvas = Canvas(grid)
+        val paint = Paint(Paint.ANTI_ALIAS_FLAG or Paint.FILTER_BITMAP_FLAG)
+        val cells = layoutCells(urls.size, size)
+        urls.forEachIndexed { index, url ->
+            if (!drawCell(context, gridCanvas, cells[index], url, fallback, paint)) composed.hasFallback = true
+        }
+
+        paint.shader = BitmapShader(grid, Shader.TileMode.CLAMP, Shader.TileMode.CLAMP)
+        Canvas(composed.bitmap).drawOval(RectF(0f, 0f, size.toFloat(), size.toFloat()), paint)
+        grid.recycle()
+    }
+
+    /**
+     * Draws the profile image in the cell, and returns false if it failed to load and the fallback is drawn instead.
+     * The empty url is the user without a profile image, so it's not regarded as a failure.
+     */
+    @WorkerThread
+    private fun drawCell(context: Context, canvas: Canvas, cell: Rect, url: String, fallback: Drawable?, paint: Paint): Boolean {
+        if (url.isEmpty()) {
+            drawFallback(canvas, cell, fallback)
+            return true
+        }
+        val target = Glide.with(context)
+            .asBitmap()
+            .load(url)
+            .override(cell.width(), cell.height())
+            .centerCrop()
+            .diskCacheStrategy(DiskCacheStrategy.ALL)
+            .submit()
+        return try {
+            canvas.drawBitmap(target.get(), null, cell, paint)
+            true
+        } catch (e: Exception) {
+            Logger.w(e)
+            drawFallback(canvas, cell, fallback)
+            false
+        } finally {
+            Glide.with(context).clear(target)
+        }
+    }
+
+    private fun drawFallback(canvas: Canvas, cell: Rect, fallback: Drawable?) {
+        fallback ?: return
+        fallback.bounds = cell
+        fallback.draw(canvas)
+    }
+
+    // It follows the grid of ImageWaffleView.
+    private fun layoutCells(count: Int, size: Int): List<Rect> {
+        val half = (size - DIVIDER_WIDTH) / 2
+        return when (count) {
+            1 -> listOf(Rect(0, 0, size, size))
+            2 -> listOf(Rect(0, 0, half, size), Rect(size - half, 0, size, size))
+            3 -> listOf(
+                Rect(0, 0, size, half),
+                Rect(0, size - half, half, size),
+                Rect(size - half, size - half, size, size)
+            )
+            else -> listOf(
+                Rect(0, 0, half, half),
+                Rect(size - half, 0, size, half),
+                Rect(0, size - half, half, size),
+                Rect(size - half, size - half, size, size)
+            )
+        }
+    }
+
+    @WorkerThread
+    private fun trimToSize(dir: File) {
+        val files = dir.listFiles() ?: return
+        if (files.size <= MAX_DISK_ENTRIES) return
+        files.sortedBy { it.lastModified() }
+            .take(files.size - MAX_DISK_ENTRIES)
+            .forEach { file ->
+                composedFiles.values.remove(file)
+                file.delete()
+            }
+    }
+}
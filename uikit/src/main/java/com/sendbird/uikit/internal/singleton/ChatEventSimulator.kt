@@ -0,0 +1,284 @@
+package com.sendbird.uikit.internal.singleton
+
+import android.os.Handler
+import android.os.Looper
+import android.os.SystemClock
+import com.sendbird.android.channel.BaseChannel
+import com.sendbird.android.channel.GroupChannel
+import com.sendbird.android.channel.OpenChannel
+import com.sendbird.android.collection.CollectionEventSource
+import com.sendbird.android.collection.GroupChannelContext
+import com.sendbird.android.collection.MessageContext
+import com.sendbird.android.handler.BaseChannelHandler
+import com.sendbird.android.handler.ConnectionHandler
+import com.sendbird.android.handler.GroupChannelHandler
+import com.sendbird.android.handler.MessageCollectionHandler
+import com.sendbird.android.message.BaseMessage
+import com.sendbird.android.message.SendingStatus
+import com.sendbird.uikit.internal.contracts.GroupChannelCollectionContract
+import com.sendbird.uikit.internal.contracts.MessageCollectionContract
+import com.sendbird.uikit.internal.contracts.SendbirdChatContract
+import com.sendbird.uikit.internal.contracts.SimulatedGroupChannelCollection
+import com.sendbird.uikit.internal.contracts.SimulatedMessageCollection
+import com.sendbird.uikit.internal.contracts.SimulatedSendbirdChat
+import com.sendbird.uikit.internal.testing.ChatLoadConfig
+import com.sendbird.uikit.log.Logger
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArraySet
+import kotlin.random.Random
+
+/**
+ * This class generates the chat events described by [ChatLoadConfig] and delivers them to the handlers of the screens.
+ *
+ * The simulated view models provided by [com.sendbird.uikit.internal.testing.ChatLoadSimulation] wrap their contracts with the simulated ones, which register their handlers here.
+ * The SDK objects can't be created by UIKit, so the events replay the channels and the messages that the screens have loaded.
+ * All events are delivered on the main thread like the events of the SDK.
+ */
+internal object ChatEventSimulator {
+    private const val TICK_INTERVAL_MS = 50L
+    // the events are not caught up for longer than this after the main thread is blocked.
+    private const val MAX_ELAPSED_MS = 1000L
+    private const val MAX_REPLAY_MESSAGES = 200
+
+    private const val STREAM_MESSAGE = 0
+    private const val STREAM_REACTION = 1
+    private const val STREAM_TYPING = 2
+    private const val STREAM_CHANNEL = 3
+
+    /**
+     * The latest messages loaded in the channel.
+     */
+    private class ReplayPool(val channel: BaseChannel) {
+        private val messages = ArrayDeque<BaseMessage>()
+
+        @Synchronized
+        fun add(list: List<BaseMessage>) {
+            list.forEach { message ->
+                if (message.sendingStatus != SendingStatus.SUCCEEDED) return@forEach
+                messages.addLast(message)
+                if (messages.size > MAX_REPLAY_MESSAGES) messages.removeFirst()
+            }
+        }
+
+        @Synchronized
+        fun sample(count: Int): List<BaseMessage> {
+            if (messages.isEmpty()) return emptyList()
+            if (count >= messages.size) return messages.toList()
+            return List(count) { messages[Random.nextInt(messages.size)] }
+        }
+    }
+
+    private val mainHandler = Handler(Looper.getMainLooper())
+    private val pools: MutableMap<String, ReplayPool> = ConcurrentHashMap()
+    private val messageCollections: MutableSet<SimulatedMessageCollection> = CopyOnWriteArraySet()
+    private val channelCollections: MutableSet<SimulatedGroupChannelCollection> = CopyOnWriteArraySet()
+    private val channelHandlers: MutableMap<String, BaseChannelHandler> = ConcurrentHashMap()
+    private val connectionHandlers: MutableMap<String, ConnectionHandler> = ConcurrentHashMap()
+
+    // accessed only on the main thread.
+    private val budgets = DoubleArray(4)
+    private var lastTickAt = 0L
+    private var lastReconnectAt = 0L
+
+    @Volatile
+    private var config: ChatLoadConfig? = null
+
+    @JvmStatic
+    val isRunning: Boolean
+        get() = config != null
+
+    private val tick = object : Runnable {
+        override fun run() {
+            val config = config ?: return
+            val now = SystemClock.elapsedRealtime()
+            val elapsed = (now - lastTickAt).coerceAtMost(MAX_ELAPSED_MS)
+            lastTickAt = now
+
+            repeat(take(STREAM_MESSAGE, config.messagesPerSecond, elapsed)) { emitMessage() }
+            repeat(take(STREAM_REACTION, config.reactionStormsPerSecond, elapsed)) { emitReactionStorm(config.reactionStormSize) }
+            repeat(take(STREAM_TYPING, config.typingEventsPerSecond, elapsed)) { emitTyping() }
+            repeat(take(STREAM_CHANNEL, config.channelUpdatesPerSecond, elapsed)) { emitChannelUpdate(config.channelUpdateSize) }
+            if (config.reconnectIntervalMillis > 0 && now - lastReconnectAt >= config.reconnectIntervalMillis) {
+                lastReconnectAt = now
+                emitReconnect(config.changelogSize)
+            }
+            mainHandler.postDelayed(this, TICK_INTERVAL_MS)
+        }
+    }
+
+    @JvmStatic
+    fun start(config: ChatLoadConfig) {
+        Logger.i("++ start chat load simulation : %s", config)
+        this.config = config
+        mainHandler.post {
+            mainHandler.removeCallbacks(tick)
+            budgets.fill(0.0)
+            lastTickAt = SystemClock.elapsedRealtime()
+            lastReconnectAt = lastTickAt
+            mainHandler.postDelayed(tick, TICK_INTERVAL_MS)
+        }
+    }
+
+    @JvmStatic
+    fun stop() {
+        Logger.i("-- stop chat load simulation")
+        config = null
+        mainHandler.post { mainHandler.removeCallbacks(tick) }
+        pools.clear()
+        messageCollections.clear()
+        channelCollections.clear()
+        channelHandlers.clear()
+        connectionHandlers.clear()
+    }
+
+    @JvmStatic
+    fun wrap(chat: SendbirdChatContract): SendbirdChatContract {
+        return if (isRunning) SimulatedSendbirdChat(chat) else chat
+    }
+
+    @JvmStatic
+    fun wrap(
+        collection: MessageCollectionContract,
+        channel: GroupChannel,
+        handler: MessageCollectionHandler?
+    ): MessageCollectionContract {
+        return if (isRunning) SimulatedMessageCollection(collection, channel, handler) else collection
+    }
+
+    @JvmStatic
+    fun wrap(collection: GroupChannelCollectionContract): GroupChannelCollectionContract {
+        return if (isRunning) SimulatedGroupChannelCollection(collection) else collection
+    }
+
+    /**
+     * Keeps the messages loaded in the channel to be replayed.
+     */
+    @JvmStatic
+    fun recordMessages(channel: BaseChannel, messages: List<BaseMessage>?) {
+        if (!isRunning || messages.isNullOrEmpty()) return
+        pools.getOrPut(channel.url) { ReplayPool(channel) }.add(messages)
+    }
+
+    @JvmStatic
+    fun releaseMessages(channelUrl: String) {
+        pools.remove(channelUrl)
+    }
+
+    fun register(collection: SimulatedMessageCollection) {
+        if (isRunning) messageCollections.add(collection)
+    }
+
+    fun unregister(collection: SimulatedMessageCollection) {
+        messageCollections.remove(collection)
+        if (messageCollections.none { it.channel.url == collection.channel.url }) releaseMessages(collection.channel.url)
+    }
+
+    fun register(collection: SimulatedGroupChannelCollection) {
+        if (isRunning) channelCollections.add(collection)
+    }
+
+    fun unregister(collection: SimulatedGroupChannelCollection) {
+        channelCollections.remove(collection)
+    }
+
+    fun addChannelHandler(identifier: String, handler: BaseChannelHandler) {
+        if (isRunning) channelHandlers[identifier] = handler
+    }
+
+    fun removeChannelHandler(identifier: String) {
+        channelHandlers.remove(identifier)
+    }
+
+    fun addConnectionHandler(identifier: String, handler: ConnectionHandler) {
+        if (isRunning) connectionHandlers[identifier] = handler
+    }
+
+    fun removeConnectionHandler(identifier: String) {
+        connectionHandlers.remove(identifier)
+    }
+
+    private fun take(stream: Int, perSecond: Int, elapsed: Long): Int {
+        budgets[stream] += perSecond * elapsed / 1000.0
+        val count = budgets[stream].toInt()
+        budgets[stream] -= count
+        return count
+    }
+
+    private fun emitMessage() {
+        forEachMessageCollection(1) { collection, handler, messages ->
+            handler.onMessagesAdded(MessageContext(CollectionEventSource.EVENT_MESSAGE_RECEIVED, SendingStatus.SUCCEEDED), collection.channel, messages)
+        }
+        forEachOpenChannel(1) { channel, messages ->
+            channelHandlers.values.forEach { handler -> messages.forEach { handler.onMessageReceived(channel, it) } }
+        }
+    }
+
+    private fun emitReactionStorm(size: Int) {
+        forEachMessageCollection(size) { collection, handler, messages ->
+            handler.onMessagesUpdated(MessageContext(CollectionEventSource.EVENT_REACTION_UPDATED, SendingStatus.SUCCEEDED), collection.channel, messages)
+        }
+        forEachOpenChannel(size) { channel, messages ->
+            channelHandlers.values.forEach { handler -> messages.forEach { handler.onMessageUpdated(channel, it) } }
+        }
+    }
+
+    private fun emitTyping() {
+        val groupChannelHandlers = channelHandlers.values.filterIsInstance<GroupChannelHandler>()
+        if (groupChannelHandlers.isEmpty()) return
+        messageCollections.map { it.channel }.distinctBy { it.url }.forEach { channel ->
+            groupChannelHandlers.forEach { it.onTypingStatusUpdated(channel) }
+        }
+    }
+
+    private fun emitChannelUpdate(size: Int) {
+        channelCollections.forEach { collection ->
+            val handler = collection.handler ?: return@forEach
+            val channels = collection.getChannelList()
+            if (channels.isEmpty()) return@forEach
+            val from = Random.nextInt(maxOf(channels.size - size, 0) + 1)
+            val updated = channels.subList(from, minOf(from + size, channels.size)).toList()
+            handler.onChannelsUpdated(GroupChannelContext(CollectionEventSource.EVENT_CHANNEL_CHANGED), updated)
+        }
+    }
+
+    /**
+     * Reconnects all connection handlers, and delivers the changelogs of the loaded messages and channels.
+     */
+    private fun emitReconnect(changelogSize: Int) {
+        connectionHandlers.values.forEach {
+            it.onReconnectStarted()
+            it.onReconnectSucceeded()
+        }
+        forEachMessageCollection(changelogSize) { collection, handler, messages ->
+            handler.onMessagesUpdated(MessageContext(CollectionEventSource.MESSAGE_CHANGELOG, SendingStatus.SUCCEEDED), collection.channel, messages)
+        }
+        forEachOpenChannel(changelogSize) { channel, messages ->
+            channelHandlers.values.forEach { handler -> messages.forEach { handler.onMessageUpdated(channel, it) } }
+        }
+        channelCollections.forEach { collection ->
+            val handler = collection.handler ?: return@forEach
+            val channels = collection.getChannelList()
+            if (channels.isEmpty()) return@forEach
+            handler.onChannelsUpdated(GroupChannelContext(CollectionEventSource.CHANNEL_CHANGELOG), channels.take(changelogSize))
+        }
+    }
+
+    private inline fun forEachMessageCollection(
+        count: Int,
+        action: (SimulatedMessageCollection, MessageCollectionHandler, List<BaseMessage>) -> Unit
+    ) {
+        messageCollections.forEach { collection ->
+            val handler = collection.handler ?: return@forEach
+            val messages = pools[collection.channel.url]?.sample(count) ?: return@forEach
+            if (messages.isNotEmpty()) action(collection, handler, messages)
+        }
+    }
+
+    private inline fun forEachOpenChannel(count: Int, action: (OpenChannel, List<BaseMessage>) -> Unit) {
+        pools.values.forEach { pool ->
+            val channel = pool.channel as? OpenChannel ?: return@forEach
+            val messages = pool.sample(count)
+            if (messages.isNotEmpty()) action(channel, messages)
+        }
+    }
+}
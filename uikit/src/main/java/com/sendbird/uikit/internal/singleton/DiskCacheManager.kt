@@ -0,0 +1,160 @@
+package com.sendbird.uikit.internal.singleton
+
+import android.content.Context
+import androidx.annotation.WorkerThread
+import com.sendbird.uikit.SendbirdUIKit
+import com.sendbird.uikit.consts.StringSet
+import com.sendbird.uikit.log.Logger
+import com.sendbird.uikit.utils.FileUtils
+import com.sendbird.uikit.utils.UIKitPrefs
+import java.io.File
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * This class bounds the files that UIKit writes to the cache directory.
+ * The channel files (e.g. voice files), the downloaded files, the deletable files and the temporary copies of the files to send
+ * are evicted in the order of the last access time when their total size exceeds [SendbirdUIKit.getDiskCacheBudget].
+ * The last access time is the last modified time which is updated by [touch] whenever UIKit reuses a cached file.
+ */
+internal object DiskCacheManager {
+    private const val TRIM_INTERVAL_MINUTES = 30L
+    private const val TRIM_DELAY_SECONDS = 10L
+    private const val REQUEST_DELAY_SECONDS = 5L
+    // the files written recently can still be in use. (e.g. the file being uploaded)
+    private val MIN_AGE_TO_EVICT_MS = TimeUnit.MINUTES.toMillis(10)
+    private val LEGACY_FILE_PREFIXES = listOf("Temp_", "Resized_", "record-")
+    // the channel directories written by the previous versions, which were placed in the cache directory directly.
+    private const val LEGACY_CHANNEL_FILE_PREFIX = "Voice_file_"
+    private const val LEGACY_CHANNEL_URL_PREFIX = "sendbird_"
+
+    private val worker: ScheduledExecutorService by lazy { Executors.newSingleThreadScheduledExecutor() }
+    private val usage = AtomicLong(-1)
+    @Volatile
+    private var appContext: Context? = null
+    @Volatile
+    private var pendingTrim: ScheduledFuture<*>? = null
+
+    @JvmStatic
+    fun init(context: Context) {
+        if (appContext != null) return
+        appContext = context.applicationContext
+        worker.execute { migrateLegacyChannelDirs() }
+        worker.scheduleWithFixedDelay(
+            { trim() },
+            TRIM_DELAY_SECONDS,
+            TimeUnit.MINUTES.toSeconds(TRIM_INTERVAL_MINUTES),
+            TimeUnit.SECONDS
+        )
+    }
+
+    /**
+     * Requests the eviction after the new files are written. The requests in a short time are merged into one.
+     */
+    @JvmStatic
+    fun requestTrim() {
+        if (appContext == null) return
+        synchronized(this) {
+            if (pendingTrim?.isDone == false) return
+            pendingTrim = worker.schedule({ trim() }, REQUEST_DELAY_SECONDS, TimeUnit.SECONDS)
+        }
+    }
+
+    /**
+     * Marks the file as accessed, so it's evicted later than the files not used recently.
+     */
+    @JvmStatic
+    fun touch(file: File) {
+        file.setLastModified(System.currentTimeMillis())
+    }
+
+    /**
+     * Returns the total bytes of the tracked files measured at the last eviction, or -1 if it's not measured yet.
+     */
+    @JvmStatic
+    fun getUsage(): Long = usage.get()
+
+    @WorkerThread
+    private fun trim() {
+        val context = appContext ?: return
+        try {
+            val files = collectFiles(context)
+            var totalBytes = files.sumOf { it.length() }
+            val budget = SendbirdUIKit.getDiskCacheBudget()
+            if (totalBytes > budget) {
+                val evictableBefore = System.currentTimeMillis() - MIN_AGE_TO_EVICT_MS
+                for (file in files.sortedBy { it.lastModified() }) {
+                    if (totalBytes <= budget) break
+                    if (file.lastModified() > evictableBefore) break
+                    val length = file.length()
+                    if (file.delete()) totalBytes -= length
+                }
+                Logger.d("++ disk cache trimmed. usage=%s, budget=%s", totalBytes, budget)
+            }
+            usage.set(totalBytes)
+        } catch (e: Exception) {
+            Logger.w(e)
+        }
+    }
+
+    /**
+     * Moves the channel directories written by the previous versions into [FileUtils.getChannelFilesRootDir], so they're bounded by the budget.
+     * It runs only once. The directories are recognized by the voice files in them, because a channel url can be any name.
+     */
+    @WorkerThread
+    private fun migrateLegacyChannelDirs() {
+        val context = appContext ?: return
+        try {
+            if (UIKitPrefs.getBoolean(StringSet.KEY_LEGACY_CHANNEL_DIRS_MIGRATED)) return
+            val root = FileUtils.getChannelFilesRootDir(context)
+            context.cacheDir.listFiles()?.forEach { dir ->
+                if (!dir.isDirectory) return@forEach
+                val files = dir.listFiles() ?: return@forEach
+                val isLegacyChannelDir = if (files.isEmpty()) {
+                    dir.name.startsWith(LEGACY_CHANNEL_URL_PREFIX)
+                } else {
+                    files.all { it.isFile && it.name.startsWith(LEGACY_CHANNEL_FILE_PREFIX) }
+                }
+                if (!isLegacyChannelDir) return@forEach
+
+                val target = File(root, dir.name)
+                if (!target.exists() && dir.renameTo(target)) return@forEach
+                target.mkdirs()
+                files.forEach { file ->
+                    val moved = File(target, file.name)
+                    if (moved.exists() || !file.renameTo(moved)) file.delete()
+                }
+                dir.delete()
+            }
+            Logger.d("++ legacy channel directories migrated.")
+            UIKitPrefs.putBoolean(StringSet.KEY_LEGACY_CHANNEL_DIRS_MIGRATED, true)
+        } catch (e: Exception) {
+            Logger.w(e)
+        }
+    }
+
+    @WorkerThread
+    private fun collectFiles(context: Context): List<File> {
+        val files = mutableListOf<File>()
+        collectRecursive(FileUtils.getChannelFilesRootDir(context), files)
+        collectRecursive(FileUtils.getDownloadCacheDir(context), files)
+        collectRecursive(FileUtils.getDeletableDir(context), files)
+        context.cacheDir.listFiles()?.filterTo(files) { file ->
+            file.isFile && LEGACY_FILE_PREFIXES.any { file.name.startsWith(it) }
+        }
+        return files
+    }
+
+    private fun collectRecursive(dir: File, files: MutableList<File>) {
+        dir.listFiles()?.forEach { file ->
+            if (file.isDirectory) {
+                collectRecursive(file, files)
+            } else {
+                files.add(file)
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.sendbird.uikit.internal.singleton
+
+import android.graphics.Rect
+import android.view.View
+import android.widget.ImageView
+import androidx.annotation.UiThread
+import androidx.recyclerview.widget.RecyclerView
+import com.bumptech.glide.Glide
+import com.sendbird.uikit.log.Logger
+import java.util.WeakHashMap
+import kotlin.math.abs
+
+/**
+ * This class defers the image requests of the list items while the list is flinging.
+ *
+ * The rows bound during a fling are usually recycled a moment later, so their requests are kept per view instead of being started,
+ * and only the last request of each view is started when the list that owns the view settles. The visible views are loaded first.
+ * The requests of the views which aren't attached at that moment are started when their rows are attached again.
+ * The lists have to be registered with [attach] to be tracked.
+ */
+internal object ImageRequestScheduler {
+    // the scroll distance per frame that is regarded as a fling.
+    private const val FLING_THRESHOLD_DP = 40
+
+    private val flingingLists: MutableSet<RecyclerView> = hashSetOf()
+    private val attachedLists: MutableMap<RecyclerView, Boolean> = WeakHashMap()
+    // the list each row has been attached to. The rows keep it while they're recycled.
+    private val itemOwners: MutableMap<View, RecyclerView> = WeakHashMap()
+    private val pendingRequests: MutableMap<ImageView, Runnable> = WeakHashMap()
+
+    private val flingTracker = object : RecyclerView.OnScrollListener() {
+        override fun onScrollStateChanged(recyclerView: RecyclerView, newState: Int) {
+            if (newState != RecyclerView.SCROLL_STATE_SETTLING) {
+                setFlinging(recyclerView, false)
+            }
+        }
+
+        override fun onScrolled(recyclerView: RecyclerView, dx: Int, dy: Int) {
+            if (recyclerView.scrollState != RecyclerView.SCROLL_STATE_SETTLING) return
+            val threshold = FLING_THRESHOLD_DP * recyclerView.resources.displayMetrics.density
+            setFlinging(recyclerView, abs(dx) >= threshold || abs(dy) >= threshold)
+        }
+    }
+
+    /**
+     * Starts tracking the fling of the list. It stops tracking when the list is detached from the window.
+     */
+    @UiThread
+    @JvmStatic
+    fun attach(recyclerView: RecyclerView) {
+        if (attachedLists.put(recyclerView, true) != null) return
+        recyclerView.addOnScrollListener(flingTracker)
+        recyclerView.addOnChildAttachStateChangeListener(object : RecyclerView.OnChildAttachStateChangeListener {
+            override fun onChildViewAttachedToWindow(view: View) {
+                itemOwners[view] = recyclerView
+                if (recyclerView !in flingingLists) startPendingRequests(view)
+            }
+
+            override fun onChildViewDetachedFromWindow(view: View) {}
+        })
+        recyclerView.addOnAttachStateChangeListener(object : View.OnAttachStateChangeListener {
+            override fun onViewAttachedToWindow(view: View) {}
+
+            override fun onViewDetachedFromWindow(view: View) {
+                setFlinging(recyclerView, false)
+            }
+        })
+    }
+
+    /**
+     * Starts the image request of the view, or defers it if the list that owns the view is flinging.
+     * If the owner isn't known yet (e.g. the row is bound for the first time), it's deferred while any list is flinging
+     * and started when the row is attached to a list which isn't flinging.
+     * The request replaces the deferred request of the same view.
+     */
+    @UiThread
+    @JvmStatic
+    fun schedule(imageView: ImageView, request: Runnable) {
+        val owner = findOwner(imageView)
+        val deferred = if (owner != null) owner in flingingLists else flingingLists.isNotEmpty()
+        if (!deferred) {
+            pendingRequests.remove(imageView)
+            request.run()
+            return
+        }
+        // the previous image of the recycled view must not be displayed until the request starts.
+        if (pendingRequests.put(imageView, request) == null) {
+            Glide.with(imageView.context).clear(imageView)
+        }
+    }
+
+    /**
+     * Drops the deferred request of the view. It's used when the view is drawn without an image request.
+     */
+    @UiThread
+    @JvmStatic
+    fun cancel(imageView: ImageView) {
+        pendingRequests.remove(imageView)
+    }
+
+    private fun setFlinging(recyclerView: RecyclerView, flinging: Boolean) {
+        val changed = if (flinging) flingingLists.add(recyclerView) else flingingLists.remove(recyclerView)
+        if (!changed || flinging) return
+        flush(recyclerView)
+    }
+
+    private fun flush(recyclerView: RecyclerView) {
+        if (pendingRequests.isEmpty()) return
+        val rect = Rect()
+        // the rows in the recycler view pool are bound again before they're displayed, or started when they're attached.
+        val requests = pendingRequests.entries
+            .filter { (view, _) ->
+                if (!view.isAttachedToWindow) return@filter false
+                val owner = findOwner(view)
+                owner === recyclerView || (owner == null && flingingLists.isEmpty())
+            }
+            .sortedBy { (view, _) -> if (view.getGlobalVisibleRect(rect)) 0 else 1 }
+            .map { (view, request) -> view to request }
+        if (requests.isEmpty()) return
+        requests.forEach { pendingRequests.remove(it.first) }
+        Logger.d("++ start deferred image requests. count=%s", requests.size)
+        requests.forEach { it.second.run() }
+    }
+
+    private fun startPendingRequests(itemView: View) {
+        if (pendingRequests.isEmpty()) return
+        val requests = pendingRequests.entries
+            .filter { (view, _) -> view.isDescendantOf(itemView) }
+            .map { (view, request) -> view to request }
+        requests.forEach { pendingRequests.remove(it.first) }
+        requests.forEach { it.second.run() }
+    }
+
+    private fun findOwner(view: View): RecyclerView? {
+        var current: View? = view
+        while (current != null) {
+            itemOwners[current]?.let { return it }
+            val parent = current.parent
+            if (parent is RecyclerView && attachedLists.containsKey(parent)) return parent
+            current = parent as? View
+        }
+        return null
+    }
+
+    private fun View.isDescendantOf(ancestor: View): Boolean {
+        var current: View? = this
+        while (current != null) {
+            if (current === ancestor) return true
+            current = current.parent as? View
+        }
+        return false
+    }
+}
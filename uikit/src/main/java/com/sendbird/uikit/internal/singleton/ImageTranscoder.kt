@@ -0,0 +1,257 @@
+package com.sendbird.uikit.internal.singleton
+
+import android.content.ComponentCallbacks2
+import android.content.Context
+import android.content.res.Configuration
+import android.graphics.Bitmap
+import android.graphics.BitmapFactory
+import android.graphics.Canvas
+import android.graphics.Matrix
+import android.graphics.Paint
+import android.os.Handler
+import android.os.Looper
+import android.util.Pair
+import androidx.annotation.WorkerThread
+import androidx.exifinterface.media.ExifInterface
+import com.sendbird.uikit.SendbirdUIKit
+import com.sendbird.uikit.log.Logger
+import com.sendbird.uikit.utils.FileUtils
+import com.sendbird.uikit.utils.ImageUtils
+import java.io.File
+import java.io.IOException
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+import kotlin.math.max
+import kotlin.math.min
+import kotlin.math.roundToInt
+import kotlin.math.sqrt
+
+/**
+ * This class resizes the image files to send with a bounded amount of memory.
+ *
+ * The image is decoded directly at the target size, so the bitmap is never bigger than the resized image.
+ * The rotation of the EXIF orientation is drawn into a bitmap of the target size instead of copying the decoded one,
+ * and the bitmaps are reused across the consecutive images.
+ * The bitmaps held by all transcoding jobs don't exceed [SendbirdUIKit.getImageTranscodingMemoryBudget].
+ * The reusable bitmaps are dropped after no image has been transcoded for [POOL_IDLE_TIMEOUT_MS], or when the system trims the memory.
+ */
+internal object ImageTranscoder : ComponentCallbacks2 {
+    private const val BYTES_PER_PIXEL = 4
+    private const val MAX_POOL_SIZE = 2
+    private const val POOL_IDLE_TIMEOUT_MS = 3000L
+
+    private val pool = ArrayList<Bitmap>(MAX_POOL_SIZE)
+    private val mainHandler = Handler(Looper.getMainLooper())
+    private val clearPoolTask = Runnable { clearPool() }
+    private val callbacksRegistered = AtomicBoolean()
+    private val budgetLock = ReentrantLock()
+    private val budgetReleased = budgetLock.newCondition()
+    private var usedBytes = 0L
+
+    /**
+     * Registers the callbacks to drop the reusable bitmaps when the system trims the memory.
+     */
+    @JvmStatic
+    fun init(context: Context) {
+        if (callbacksRegistered.compareAndSet(false, true)) {
+            context.applicationContext.registerComponentCallbacks(this)
+        }
+    }
+
+    /**
+     * Returns whether the image of the given size is bigger than the resizing size.
+     * The resizing size is the minimum size of each side, the same as [ImageUtils.calculateInSampleSize].
+     */
+    @JvmStatic
+    fun needsResize(width: Int, height: Int, reqWidth: Int, reqHeight: Int): Boolean {
+        return calculateScale(width, height, reqWidth, reqHeight) < 1f
+    }
+
+    /**
+     * Decodes the image at [path], resizes it and writes it to [dest].
+     *
+     * @param bounds The size of the image if it's already decoded. If it's `null`, the bounds are decoded from the file.
+     * @return The width and height of the written image
+     */
+    @JvmStatic
+    @WorkerThread
+    @Throws(IOException::class)
+    fun transcode(
+        path: String,
+        dest: File,
+        format: Bitmap.CompressFormat,
+        quality: Int,
+        reqWidth: Int,
+        reqHeight: Int,
+        bounds: Pair<Int, Int>? = null
+    ): Pair<Int, Int> {
+        val imageBounds = bounds ?: ImageUtils.getImageBounds(path)
+        val width = imageBounds.first
+        val height = imageBounds.second
+        if (width <= 0 || height <= 0) throw IOException("Unable to decode the image. path=$path")
+
+        val degree = ImageUtils.exifOrientationToDegrees(
+            ExifInterface(path).getAttributeInt(ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL)
+        )
+        val bitmapCount = if (degree != 0) 2 else 1
+        val budget = SendbirdUIKit.getImageTranscodingMemoryBudget().coerceAtLeast(BYTES_PER_PIXEL.toLong())
+
+        var scale = calculateScale(width, height, reqWidth, reqHeight)
+        val requiredBytes = byteCountOf(width, height, scale) * bitmapCount
+        if (requiredBytes > budget) {
+            scale *= sqrt(budget.toDouble() / requiredBytes).toFloat()
+        }
+        val targetWidth = (width * scale).roundToInt().coerceAtLeast(1)
+        val targetHeight = (height * scale).roundToInt().coerceAtLeast(1)
+        val targetBytes = targetWidth.toLong() * targetHeight * BYTES_PER_PIXEL
+
+        acquire(min(targetBytes * bitmapCount, budget))
+        try {
+            val decoded = decode(path, width, height, targetWidth, targetHeight)
+            val result = if (degree != 0) {
+                try {
+                    rotate(decoded, degree)
+                } finally {
+                    release(decoded)
+                }
+            } else {
+                decoded
+            }
+            try {
+                FileUtils.bitmapToFile(result, dest, quality, format)
+                Logger.d("++ transcoded image. width=%s, height=%s, degree=%s", result.width, result.height, degree)
+                return Pair(result.width, result.height)
+            } finally {
+                release(result)
+            }
+        } finally {
+            releaseBudget(min(targetBytes * bitmapCount, budget))
+        }
+    }
+
+    /**
+     * Drops the reusable bitmaps.
+     */
+    @JvmStatic
+    fun clearPool() {
+        synchronized(pool) {
+            if (pool.isEmpty()) return
+            Logger.d("++ ImageTranscoder::clearPool() size=%s", pool.size)
+            pool.forEach { it.recycle() }
+            pool.clear()
+        }
+    }
+
+    override fun onTrimMemory(level: Int) {
+        clearPool()
+    }
+
+    override fun onLowMemory() {
+        clearPool()
+    }
+
+    override fun onConfigurationChanged(newConfig: Configuration) {}
+
+    private fun calculateScale(width: Int, height: Int, reqWidth: Int, reqHeight: Int): Float {
+        if (width <= reqWidth || height <= reqHeight) return 1f
+        return max(reqWidth.toFloat() / width, reqHeight.toFloat() / height)
+    }
+
+    private fun byteCountOf(width: Int, height: Int, scale: Float): Long {
+        return (width * scale).roundToInt().toLong() * (height * scale).roundToInt() * BYTES_PER_PIXEL
+    }
+
+    @Throws(IOException::class)
+    private fun decode(path: String, width: Int, height: Int, targetWidth: Int, targetHeight: Int): Bitmap {
+        var inSampleSize = 1
+        while (width / (inSampleSize * 2) >= targetWidth && height / (inSampleSize * 2) >= targetHeight) {
+            inSampleSize *= 2
+        }
+        val options = BitmapFactory.Options().apply {
+            this.inSampleSize = inSampleSize
+            inMutable = true
+            inPreferredConfig = Bitmap.Config.ARGB_8888
+            // the density ratio makes the decoder scale the sampled image down to the target width.
+            val sampledWidth = width / inSampleSize
+            if (sampledWidth > targetWidth) {
+                inScaled = true
+                inDensity = sampledWidth
+                inTargetDensity = targetWidth
+            }
+            // one more row for the rounding of the scaled height.
+            inBitmap = obtain(targetWidth.toLong() * (targetHeight + 1) * BYTES_PER_PIXEL)
+        }
+        val bitmap = try {
+            BitmapFactory.decodeFile(path, options)
+        } catch (e: IllegalArgumentException) {
+            // the pooled bitmap can't be reused for this image.
+            Logger.w(e)
+            options.inBitmap?.let { release(it) }
+            options.inBitmap = null
+            BitmapFactory.decodeFile(path, options)
+        }
+        return bitmap ?: throw IOException("Unable to decode the image. path=$path")
+    }
+
+    private fun rotate(source: Bitmap, degree: Int): Bitmap {
+        val swap = degree == 90 || degree == 270
+        val width = if (swap) source.height else source.width
+        val height = if (swap) source.width else source.height
+        val target = obtain(width.toLong() * height * BYTES_PER_PIXEL)?.apply {
+            reconfigure(width, height, Bitmap.Config.ARGB_8888)
+            eraseColor(0)
+        } ?: Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888)
+        val matrix = Matrix().apply {
+            postRotate(degree.toFloat())
+            when (degree) {
+                90 -> postTranslate(source.height.toFloat(), 0f)
+                180 -> postTranslate(source.width.toFloat(), source.height.toFloat())
+                270 -> postTranslate(0f, source.width.toFloat())
+            }
+        }
+        Canvas(target).drawBitmap(source, matrix, Paint(Paint.FILTER_BITMAP_FLAG))
+        return target
+    }
+
+    private fun obtain(byteCount: Long): Bitmap? {
+        synchronized(pool) {
+            val index = pool.indexOfFirst { it.allocationByteCount >= byteCount }
+            return if (index >= 0) pool.removeAt(index) else null
+        }
+    }
+
+    private fun release(bitmap: Bitmap) {
+        if (!bitmap.isMutable || bitmap.isRecycled) return
+        synchronized(pool) {
+            if (pool.size < MAX_POOL_SIZE &&
+                pool.sumOf { it.allocationByteCount.toLong() } + bitmap.allocationByteCount <= SendbirdUIKit.getImageTranscodingMemoryBudget() / 2
+            ) {
+                pool.add(bitmap)
+                return
+            }
+        }
+        bitmap.recycle()
+    }
+
+    private fun acquire(bytes: Long) {
+        val budget = SendbirdUIKit.getImageTranscodingMemoryBudget()
+        budgetLock.withLock {
+            mainHandler.removeCallbacks(clearPoolTask)
+            // a job can always run alone even if it's bigger than the budget.
+            while (usedBytes > 0 && usedBytes + bytes > budget) {
+                budgetReleased.await()
+            }
+            usedBytes += bytes
+        }
+    }
+
+    private fun releaseBudget(bytes: Long) {
+        budgetLock.withLock {
+            usedBytes -= bytes
+            budgetReleased.signalAll()
+            // the next image of the same batch starts right after, so the pool is kept for a while.
+            if (usedBytes == 0L) mainHandler.postDelayed(clearPoolTask, POOL_IDLE_TIMEOUT_MS)
+        }
+    }
+}
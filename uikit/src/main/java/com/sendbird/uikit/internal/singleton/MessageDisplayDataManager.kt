@@ -4,47 +4,73 @@ import com.sendbird.android.channel.GroupChannel
 import com.sendbird.android.message.BaseMessage
 import com.sendbird.uikit.interfaces.MessageDisplayDataProvider
 import com.sendbird.uikit.internal.model.MessageDisplayDataWrapper
+import com.sendbird.uikit.log.Logger
 import com.sendbird.uikit.model.MessageDisplayData
 import org.jetbrains.annotations.TestOnly
 import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
 
+/**
+ * This class keeps the display data of the messages generated by [MessageDisplayDataProvider].
+ *
+ * The data is kept for at most [MAX_SIZE] messages and the data not used recently is evicted first.
+ * The readers and the writers never wait for each other. The eviction runs on one thread at a time and the others skip it.
+ */
 internal object MessageDisplayDataManager {
-    private val messageDisplayDataMap: MutableMap<String, MessageDisplayDataWrapper> = ConcurrentHashMap()
+    private const val MAX_SIZE = 2000
+    // the eviction runs when the size exceeds the max size by this ratio, so it doesn't run on every insertion.
+    private const val EVICTION_SLACK_RATIO = 0.25f
+    // the messages are generated in parallel if there are more messages than this.
+    private const val CHUNK_SIZE = 50
+
+    private val messageDisplayDataMap: MutableMap<Any, MessageDisplayDataWrapper> = ConcurrentHashMap()
+    private val clock = AtomicLong()
+    private val evicting = AtomicBoolean()
+    private val threadCount = Runtime.getRuntime().availableProcessors().coerceAtLeast(1)
+    // the chunks are generated on this pool, so the serial thread pool of the provider is not blocked by them.
+    private val chunkThreadPool: ExecutorService by lazy {
+        ThreadPoolExecutor(threadCount, threadCount, 30L, TimeUnit.SECONDS, LinkedBlockingQueue()).apply {
+            allowCoreThreadTimeOut(true)
+        }
+    }
 
     @JvmStatic
     fun getOrNull(message: BaseMessage): MessageDisplayData? {
-        return messageDisplayDataMap[generateKey(message)]?.messageDisplayData
+        val wrapper = messageDisplayDataMap[generateKey(message)] ?: return null
+        wrapper.accessedAt = clock.incrementAndGet()
+        return wrapper.messageDisplayData
     }
 
     @JvmStatic
-    @Synchronized
     fun clearAll() {
         messageDisplayDataMap.clear()
     }
 
     @JvmStatic
-    @Synchronized
     @JvmName("checkAndGenerateDisplayData")
     fun checkAndGenerateDisplayData(
         messageList: List<BaseMessage>,
         provider: MessageDisplayDataProvider,
     ) {
-        messageList.filter {
+        val targets = messageList.filter {
             val userMessageDisplayDataWrapper = messageDisplayDataMap[generateKey(it)]
             userMessageDisplayDataWrapper == null || userMessageDisplayDataWrapper.updatedAt < it.updatedAt
-        }.apply {
-            provider.generate(this).let {
-                it.mapValues { (message, messageDisplayData) ->
-                    messageDisplayDataMap.put(
-                        generateKey(message),
-                        MessageDisplayDataWrapper(
-                            messageDisplayData = messageDisplayData,
-                            updatedAt = message.updatedAt
-                        )
-                    )
-                }
-            }
         }
+        if (targets.isEmpty()) return
+        // the provider that runs on the UI thread may not be thread-safe.
+        if (targets.size <= CHUNK_SIZE || provider.shouldRunOnUIThread()) {
+            generate(targets, provider)
+        } else {
+            generateInParallel(targets, provider)
+        }
+        evictIfNeeded()
     }
 
     @JvmStatic
@@ -62,12 +88,73 @@ internal object MessageDisplayDataManager {
         checkAndGenerateDisplayData(messageList, provider)
     }
 
-    private fun generateKey(message: BaseMessage): String {
-        return "${message.requestId}_${message.messageId}"
+    private fun generate(messages: List<BaseMessage>, provider: MessageDisplayDataProvider) {
+        provider.generate(messages).forEach { (message, messageDisplayData) ->
+            val wrapper = MessageDisplayDataWrapper(
+                messageDisplayData = messageDisplayData,
+                updatedAt = message.updatedAt
+            ).apply { accessedAt = clock.incrementAndGet() }
+            // the data generated concurrently for the older message must not replace the newer one.
+            messageDisplayDataMap.merge(generateKey(message), wrapper) { old, new ->
+                if (new.updatedAt >= old.updatedAt) new else old
+            }
+        }
+    }
+
+    /**
+     * Splits the messages into chunks, and generates them on the caller thread and the chunk thread pool.
+     * The chunks are taken only by the running threads, so it's done even if the thread pool is busy with the other requests.
+     */
+    private fun generateInParallel(messages: List<BaseMessage>, provider: MessageDisplayDataProvider) {
+        val chunks = messages.chunked(CHUNK_SIZE)
+        val nextChunk = AtomicInteger()
+        val remaining = CountDownLatch(chunks.size)
+        val worker = Runnable {
+            while (true) {
+                val index = nextChunk.getAndIncrement()
+                if (index >= chunks.size) break
+                try {
+                    generate(chunks[index], provider)
+                } catch (e: Exception) {
+                    Logger.w(e)
+                } finally {
+                    remaining.countDown()
+                }
+            }
+        }
+        repeat(minOf(chunks.size, threadCount) - 1) {
+            chunkThreadPool.execute(worker)
+        }
+        worker.run()
+        remaining.await()
+    }
+
+    private fun evictIfNeeded() {
+        if (messageDisplayDataMap.size <= MAX_SIZE * (1 + EVICTION_SLACK_RATIO)) return
+        if (!evicting.compareAndSet(false, true)) return
+        try {
+            val overflow = messageDisplayDataMap.size - MAX_SIZE
+            if (overflow <= 0) return
+            // the access times are copied because they can be updated while sorting.
+            messageDisplayDataMap.entries
+                .map { Triple(it.key, it.value, it.value.accessedAt) }
+                .sortedBy { it.third }
+                .take(overflow)
+                .forEach { messageDisplayDataMap.remove(it.first, it.second) }
+        } finally {
+            evicting.set(false)
+        }
+    }
+
+    /**
+     * Returns the key of the message. The message id is used once the message is sent, and the request id is used until then.
+     */
+    private fun generateKey(message: BaseMessage): Any {
+        return if (message.messageId != 0L) message.messageId else message.requestId
     }
 
     @TestOnly
-    fun getDataMap(): Map<String, MessageDisplayDataWrapper> {
+    fun getDataMap(): Map<Any, MessageDisplayDataWrapper> {
         return messageDisplayDataMap
     }
 }
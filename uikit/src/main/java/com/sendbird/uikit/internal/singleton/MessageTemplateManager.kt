@@ -6,6 +6,7 @@ import androidx.annotation.WorkerThread
 import com.sendbird.android.exception.SendbirdException
 import com.sendbird.android.params.MessageTemplateListParams
 import com.sendbird.uikit.internal.model.templates.MessageTemplate
+import com.sendbird.uikit.internal.utils.ReadinessBarrier
 import com.sendbird.uikit.log.Logger
 import java.util.concurrent.Executors
 import java.util.concurrent.atomic.AtomicBoolean
@@ -15,7 +16,11 @@ import java.util.concurrent.atomic.AtomicBoolean
  * It doesn't manage the templates for Notification. For Notification, use [NotificationChannelManager].
  */
 internal object MessageTemplateManager {
-    internal lateinit var instance: MessageTemplateManagerImpl
+    @Volatile
+    private var loading: ReadinessBarrier<MessageTemplateManagerImpl>? = null
+    // the repository loads the cached templates in the background, so it's awaited when it's used first.
+    internal val instance: MessageTemplateManagerImpl
+        get() = checkNotNull(loading) { "MessageTemplateManager is not initialized" }.await()
     @VisibleForTesting
     internal val isInitialized: AtomicBoolean = AtomicBoolean()
 
@@ -28,8 +33,10 @@ internal object MessageTemplateManager {
     @JvmStatic
     @Synchronized
     fun init(context: Context) {
-        val messageTemplateRepository = MessageTemplateRepository(context.applicationContext)
-        instance = MessageTemplateManagerImpl(messageTemplateRepository)
+        val appContext = context.applicationContext
+        loading = ReadinessBarrier("message_templates") {
+            MessageTemplateManagerImpl(MessageTemplateRepository(appContext))
+        }
         isInitialized.set(true)
     }
 
@@ -60,7 +67,7 @@ internal object MessageTemplateManager {
     fun clearAll() = instance.clearAll()
 
     @VisibleForTesting
-    internal fun isInstanceInitialized() = this::instance.isInitialized
+    internal fun isInstanceInitialized() = loading?.isReady == true
 }
 
 internal class MessageTemplateManagerImpl(private val messageTemplateRepository: MessageTemplateRepository) {
@@ -86,7 +93,7 @@ internal class MessageTemplateManagerImpl(private val messageTemplateRepository:
     @Throws(SendbirdException::class)
     @VisibleForTesting
     internal fun getMessageTemplatesBlocking(keys: List<String>): List<MessageTemplate> {
-        Logger.d("MessageTemplateManager::getMessageTemplatesBlocking(keys: ${keys.joinToString()})")
+        Logger.d { "MessageTemplateManager::getMessageTemplatesBlocking(keys: ${keys.joinToString()})" }
         val cachedTemplates = mutableListOf<MessageTemplate>()
         val uncachedKeys = keys.filter {
             val template = messageTemplateRepository.getTemplate(it)
@@ -94,7 +101,7 @@ internal class MessageTemplateManagerImpl(private val messageTemplateRepository:
             template == null
         }
 
-        Logger.d("MessageTemplateManager::getMessageTemplatesBlocking uncachedKeys: ${uncachedKeys.joinToString()}")
+        Logger.d { "MessageTemplateManager::getMessageTemplatesBlocking uncachedKeys: ${uncachedKeys.joinToString()}" }
         if (uncachedKeys.isEmpty()) {
             return cachedTemplates
         }
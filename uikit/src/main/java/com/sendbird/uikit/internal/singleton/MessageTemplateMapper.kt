@@ -1,6 +1,7 @@
 package com.sendbird.uikit.internal.singleton
 
 import com.sendbird.android.message.BaseMessage
+import com.sendbird.uikit.consts.UIKitMetric
 import com.sendbird.uikit.internal.extensions.childTemplateKeys
 import com.sendbird.uikit.internal.extensions.isTemplateMessage
 import com.sendbird.uikit.internal.extensions.isValid
@@ -22,13 +23,14 @@ internal class MessageTemplateMapper(
      */
     fun mapTemplate(messages: List<BaseMessage>, onFetchCompleteHandler: (updatedMessages: List<BaseMessage>) -> Unit): List<BaseMessage> {
         val startedAt = System.currentTimeMillis()
+        val metricStartedAt = MetricsTracker.begin(UIKitMetric.TEMPLATE_RESOLUTION)
         try {
             // 1. filter mutable template message status
             val mutableTemplateMessages = messages.filter {
                 it.messageTemplateStatus == null
             }
 
-            Logger.d("1. filter mutable template message status result >> total[${messages.size}], mutable[${mutableTemplateMessages.size}]")
+            Logger.d { "1. filter mutable template message status result >> total[${messages.size}], mutable[${mutableTemplateMessages.size}]" }
             if (mutableTemplateMessages.isEmpty()) {
                 return mutableTemplateMessages
             }
@@ -38,7 +40,7 @@ internal class MessageTemplateMapper(
             templateMessages.forEach { it.messageTemplateStatus = MessageTemplateStatus.LOADING }
             notTemplateMessage.forEach { it.messageTemplateStatus = MessageTemplateStatus.NOT_APPLICABLE }
 
-            Logger.d("2. filter template message result >> mutable[${mutableTemplateMessages.size}], template messages[${templateMessages.size}], not template messages[${notTemplateMessage.size}]")
+            Logger.d { "2. filter template message result >> mutable[${mutableTemplateMessages.size}], template messages[${templateMessages.size}], not template messages[${notTemplateMessage.size}]" }
             if (templateMessages.isEmpty()) {
                 return mutableTemplateMessages
             }
@@ -56,12 +58,12 @@ internal class MessageTemplateMapper(
                 it.messageTemplateStatus = if (it.templateMessageData.isValid()) {
                     MessageTemplateStatus.CACHED
                 } else {
-                    Logger.i("This template message is not supported. key=${it.templateMessageData}")
+                    Logger.i { "This template message is not supported. key=${it.templateMessageData}" }
                     MessageTemplateStatus.NOT_APPLICABLE
                 }
             }
 
-            Logger.d("3. filter not cached template keys result >> template messages[${templateMessages.size}], cached[${cachedTemplateMessages.size}], not cached[${notCachedTemplateMessages.size}]")
+            Logger.d { "3. filter not cached template keys result >> template messages[${templateMessages.size}], cached[${cachedTemplateMessages.size}], not cached[${notCachedTemplateMessages.size}]" }
 
             if (notCachedTemplateMessages.isEmpty()) {
                 return mutableTemplateMessages
@@ -69,6 +71,8 @@ internal class MessageTemplateMapper(
 
             // 4. fetch not cached templates
             worker.submit {
+                // the templates may be being synchronized by the staged connect.
+                ResourceSyncManager.await(ResourceSyncManager.Resource.MESSAGE_TEMPLATES)
                 val parentTemplateKeys = notCachedTemplateMessages.mapNotNull {
                     it.templateMessageData?.key
                 }.filter { key -> MessageTemplateManager.hasTemplate(key).not() }
@@ -87,11 +91,11 @@ internal class MessageTemplateMapper(
                             MessageTemplateManager.hasTemplate(key)
                         }
                     }
-                    Logger.d("4. fetch not cached templates result >> fetched messages[${fetchedMessages.size}], not fetched messages[${notFetchedMessages.size}]")
+                    Logger.d { "4. fetch not cached templates result >> fetched messages[${fetchedMessages.size}], not fetched messages[${notFetchedMessages.size}]" }
                     fetchedMessages.forEach { it.messageTemplateStatus = MessageTemplateStatus.CACHED }
                     notFetchedMessages.forEach { it.messageTemplateStatus = MessageTemplateStatus.FAILED_TO_FETCH }
                 } catch (e: Exception) {
-                    Logger.d("4. fetch not cached templates result >> failed to fetch templates >> ${e.message}")
+                    Logger.d { "4. fetch not cached templates result >> failed to fetch templates >> ${e.message}" }
                     notCachedTemplateMessages.forEach { message ->
                         message.messageTemplateStatus = MessageTemplateStatus.FAILED_TO_FETCH
                     }
@@ -102,7 +106,8 @@ internal class MessageTemplateMapper(
 
             return mutableTemplateMessages
         } finally {
-            Logger.d("mapTemplate[size:${messages.size}] took ${System.currentTimeMillis() - startedAt}ms")
+            MetricsTracker.end(UIKitMetric.TEMPLATE_RESOLUTION, null, metricStartedAt)
+            Logger.d { "mapTemplate[size:${messages.size}] took ${System.currentTimeMillis() - startedAt}ms" }
         }
     }
 }
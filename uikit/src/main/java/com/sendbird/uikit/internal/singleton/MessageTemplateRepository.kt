@@ -5,13 +5,13 @@ import androidx.annotation.WorkerThread
 import com.sendbird.android.SendbirdChat
 import com.sendbird.android.exception.SendbirdException
 import com.sendbird.android.params.MessageTemplateListParams
+import com.sendbird.uikit.consts.UIKitMetric
 import com.sendbird.uikit.internal.model.templates.MessageTemplate
 import com.sendbird.uikit.log.Logger
 import java.util.concurrent.ConcurrentHashMap
 import java.util.concurrent.CountDownLatch
 import java.util.concurrent.TimeUnit
 import java.util.concurrent.atomic.AtomicReference
-import kotlin.concurrent.thread
 
 private const val MESSAGE_TEMPLATE_KEY_PREFIX = "SB_MESSAGE_TEMPLATE_"
 private const val MESSAGE_TEMPLATE_LAST_UPDATED_TOKEN = "MESSAGE_TEMPLATE_LAST_UPDATED_TOKEN"
@@ -38,36 +38,31 @@ internal class MessageTemplateRepository(context: Context) {
             }
         }
 
-    private val initialTemplateLoadLock = Any()
-
     init {
-        thread {
-            synchronized(initialTemplateLoadLock) {
-                preferences.loadAll(
-                    predicate = { key ->
-                        key.startsWith(MESSAGE_TEMPLATE_KEY_PREFIX)
-                    },
-                    onEach = { key, value ->
-                        templateCache[key] = MessageTemplate.fromJson(value.toString())
-                    }
-                )
+        // it's created in the background by MessageTemplateManager, so the templates are loaded right away.
+        preferences.loadAll(
+            predicate = { key ->
+                key.startsWith(MESSAGE_TEMPLATE_KEY_PREFIX)
+            },
+            onEach = { key, value ->
+                templateCache[key] = MessageTemplate.fromJson(value.toString())
             }
-        }
+        )
     }
 
     @WorkerThread
     private fun saveToCache(template: MessageTemplate) {
-        Logger.d(">> MessageTemplateRepository::saveToCache() key=${template.templateKey}")
+        Logger.d { ">> MessageTemplateRepository::saveToCache() key=${template.templateKey}" }
         val key = template.templateKey.toMessageTemplateKey()
         templateCache[key] = template
         preferences.putString(key, template.toString())
     }
 
     fun getTemplate(key: String): MessageTemplate? {
-        Logger.d(">> MessageTemplateRepository::getTemplate() key=$key")
-        return synchronized(initialTemplateLoadLock) {
-            templateCache[key.toMessageTemplateKey()]
-        }
+        Logger.d { ">> MessageTemplateRepository::getTemplate() key=$key" }
+        val template = templateCache[key.toMessageTemplateKey()]
+        MetricsTracker.count(if (template != null) UIKitMetric.TEMPLATE_CACHE_HIT else UIKitMetric.TEMPLATE_CACHE_MISS, null, 1)
+        return template
     }
 
     @WorkerThread
@@ -0,0 +1,82 @@
+package com.sendbird.uikit.internal.singleton
+
+import android.os.SystemClock
+import androidx.tracing.Trace
+import com.sendbird.uikit.consts.UIKitMetric
+import com.sendbird.uikit.interfaces.OnMetricsListener
+import com.sendbird.uikit.log.Logger
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * This class delivers the timings and the counters of UIKit to [OnMetricsListener] and emits the trace sections of the timings.
+ * Nothing is measured except the trace sections if the listener is not set.
+ *
+ * The synchronous timings are measured with [begin] and [end] on the same thread, and
+ * the asynchronous timings are measured with [beginAsync] and [endAsync] which can be called on the different threads.
+ */
+internal object MetricsTracker {
+    private val asyncCookie = AtomicInteger()
+
+    @Volatile
+    @JvmStatic
+    var listener: OnMetricsListener? = null
+
+    /**
+     * Begins the trace section of the metric and returns the started time to pass to [end].
+     */
+    @JvmStatic
+    fun begin(metric: UIKitMetric): Long {
+        Trace.beginSection(metric.traceName)
+        return if (listener != null) SystemClock.elapsedRealtimeNanos() else 0L
+    }
+
+    @JvmStatic
+    fun end(metric: UIKitMetric, detail: String?, startedAt: Long) {
+        Trace.endSection()
+        if (startedAt != 0L) notifyTiming(metric, detail, startedAt)
+    }
+
+    /**
+     * Begins the asynchronous trace section of the metric and returns the token to pass to [endAsync].
+     */
+    @JvmStatic
+    fun beginAsync(metric: UIKitMetric): AsyncToken {
+        val cookie = asyncCookie.incrementAndGet()
+        Trace.beginAsyncSection(metric.traceName, cookie)
+        return AsyncToken(metric, cookie, if (listener != null) SystemClock.elapsedRealtimeNanos() else 0L)
+    }
+
+    /**
+     * Ends the asynchronous trace section. It's ignored if the token has already ended.
+     */
+    @JvmStatic
+    fun endAsync(token: AsyncToken, detail: String?) {
+        if (!token.ended.compareAndSet(false, true)) return
+        Trace.endAsyncSection(token.metric.traceName, token.cookie)
+        if (token.startedAt != 0L) notifyTiming(token.metric, detail, token.startedAt)
+    }
+
+    @JvmStatic
+    fun count(metric: UIKitMetric, detail: String?, count: Long) {
+        val listener = listener ?: return
+        try {
+            listener.onCount(metric, detail, count)
+        } catch (e: Exception) {
+            Logger.w(e)
+        }
+    }
+
+    private fun notifyTiming(metric: UIKitMetric, detail: String?, startedAt: Long) {
+        val listener = listener ?: return
+        try {
+            listener.onTiming(metric, detail, (SystemClock.elapsedRealtimeNanos() - startedAt) / 1_000_000.0)
+        } catch (e: Exception) {
+            Logger.w(e)
+        }
+    }
+
+    internal class AsyncToken(val metric: UIKitMetric, val cookie: Int, val startedAt: Long) {
+        val ended = AtomicBoolean()
+    }
+}
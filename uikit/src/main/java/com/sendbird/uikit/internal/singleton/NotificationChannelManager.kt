@@ -8,6 +8,7 @@ import com.sendbird.uikit.internal.interfaces.GetTemplateResultHandler
 import com.sendbird.uikit.internal.model.notifications.NotificationChannelSettings
 import com.sendbird.uikit.internal.model.notifications.NotificationTemplate
 import com.sendbird.uikit.internal.model.notifications.NotificationThemeMode
+import com.sendbird.uikit.internal.utils.ReadinessBarrier
 import com.sendbird.uikit.log.Logger
 import java.util.concurrent.ConcurrentHashMap
 import java.util.concurrent.Executors
@@ -25,8 +26,15 @@ internal object NotificationChannelManager {
     private val isInitialized: AtomicBoolean = AtomicBoolean()
     private val templateRequestDatas: MutableMap<String, MutableSet<TemplateRequestData>> = ConcurrentHashMap()
 
-    private lateinit var templateRepository: NotificationTemplateRepository
-    private lateinit var channelSettingsRepository: NotificationChannelRepository
+    @Volatile
+    private var templateRepositoryLoading: ReadinessBarrier<NotificationTemplateRepository>? = null
+    @Volatile
+    private var channelSettingsRepositoryLoading: ReadinessBarrier<NotificationChannelRepository>? = null
+    // the repositories load the preferences in parallel in the background, so they're awaited when they're used first.
+    private val templateRepository: NotificationTemplateRepository
+        get() = awaitInitialized(templateRepositoryLoading)
+    private val channelSettingsRepository: NotificationChannelRepository
+        get() = awaitInitialized(channelSettingsRepositoryLoading)
 
     /**
      * To avoid sending an unintended exception, if the NotificationChannelManager hasn't been initialized it tries to initialize automatically.
@@ -34,7 +42,7 @@ internal object NotificationChannelManager {
      */
     @Synchronized
     internal fun checkAndInit(context: Context) {
-        Logger.i(">> NotificationChannelManager::checkAndInit() isInitialized=${isInitialized.get()}")
+        Logger.i { ">> NotificationChannelManager::checkAndInit() isInitialized=${isInitialized.get()}" }
         if (!isInitialized.get()) {
             init(context)
         }
@@ -43,13 +51,20 @@ internal object NotificationChannelManager {
     @JvmStatic
     @Synchronized
     fun init(context: Context) {
-        Logger.d("++ NotificationChannelManager init start ${Thread.currentThread().name}, isInitialized=${isInitialized.get()}")
+        Logger.d { "++ NotificationChannelManager init start ${Thread.currentThread().name}, isInitialized=${isInitialized.get()}" }
         if (isInitialized.get()) return
-        worker.submit {
-            channelSettingsRepository = NotificationChannelRepository(context.applicationContext)
-            templateRepository = NotificationTemplateRepository(context.applicationContext)
-            isInitialized.set(true)
-        }.get()
+        val appContext = context.applicationContext
+        templateRepositoryLoading = ReadinessBarrier("notification_templates") {
+            NotificationTemplateRepository(appContext)
+        }
+        channelSettingsRepositoryLoading = ReadinessBarrier("notification_channel_settings") {
+            NotificationChannelRepository(appContext)
+        }
+        isInitialized.set(true)
+    }
+
+    private fun <T> awaitInitialized(loading: ReadinessBarrier<T>?): T {
+        return checkNotNull(loading) { "NotificationChannelManager is not initialized" }.await()
     }
 
     @JvmStatic
@@ -62,11 +77,11 @@ internal object NotificationChannelManager {
         themeMode: NotificationThemeMode,
         callback: GetTemplateResultHandler
     ) {
-        Logger.d(">> NotificationChannelManager::makeTemplate(), key=$key, handler=$callback")
+        Logger.d { ">> NotificationChannelManager::makeTemplate(), key=$key, handler=$callback" }
 
         templateRepository.getTemplate(key)?.let {
             val jsonTemplate = it.getTemplateSyntax(variables, themeMode)
-            Logger.d("++ template[$key]=$jsonTemplate")
+            Logger.d { "++ template[$key]=$jsonTemplate" }
             callback.onResult(key, jsonTemplate, it.isDataTemplate, null)
             return
         }
@@ -75,7 +90,7 @@ internal object NotificationChannelManager {
             val request = TemplateRequestData(key, variables, themeMode, callback)
             templateRequestDatas[key]?.let {
                 it.add(request)
-                Logger.i("-- return (fetching template request already exists), key=$key, handler count=${templateRequestDatas.size}")
+                Logger.i { "-- return (fetching template request already exists), key=$key, handler count=${templateRequestDatas.size}" }
                 return
             } ?: run {
                 templateRequestDatas[key] = mutableSetOf<TemplateRequestData>().apply {
@@ -83,10 +98,12 @@ internal object NotificationChannelManager {
                 }
             }
         }
-        Logger.d("++ templateRequestHandlers size=${templateRequestDatas.size}, templateRequestHandlers[key].size=${templateRequestDatas[key]?.size}")
+        Logger.d { "++ templateRequestHandlers size=${templateRequestDatas.size}, templateRequestHandlers[key].size=${templateRequestDatas[key]?.size}" }
         worker.submit {
             try {
-                val rawTemplate = templateRepository.requestTemplateBlocking(key)
+                // the template may be being synchronized by the staged connect.
+                ResourceSyncManager.await(ResourceSyncManager.Resource.NOTIFICATION_TEMPLATES)
+                val rawTemplate = templateRepository.getTemplate(key) ?: templateRepository.requestTemplateBlocking(key)
                 makeAndNotifyTemplate(key, rawTemplate)
             } catch (e: Throwable) {
                 notifyError(key, SendbirdException(e))
@@ -54,7 +54,7 @@ internal class NotificationChannelRepository(context: Context) {
             error = e
             try {
                 globalNotificationChannelSetting?.let {
-                    Logger.i("++ request response Application theme settings : ${it.jsonPayload}")
+                    Logger.i { "++ request response Application theme settings : ${it.jsonPayload}" }
                     result.set(NotificationChannelSettings.fromJson(it.jsonPayload))
                 }
             } catch (parsingError: Throwable) {
@@ -67,7 +67,7 @@ internal class NotificationChannelRepository(context: Context) {
         error?.let { throw it }
 
         return result.get().also {
-            Logger.d("++ currentUpdatedAt=$currentUpdatedAt, response.updatedAt=${it.updatedAt}")
+            Logger.d { "++ currentUpdatedAt=$currentUpdatedAt, response.updatedAt=${it.updatedAt}" }
             if (it.updatedAt > 0) currentUpdatedAt = it.updatedAt
             this.settings = it
             preferences.putString(NOTIFICATION_CHANNEL_SETTINGS, it.toString())
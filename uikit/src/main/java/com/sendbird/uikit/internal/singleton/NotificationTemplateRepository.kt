@@ -48,7 +48,7 @@ internal class NotificationTemplateRepository(context: Context) {
 
     private fun checkCountLimit() {
         val count = preferences.getInt(TEMPLATE_COUNT)
-        Logger.d("++ cached template count = $count")
+        Logger.d { "++ cached template count = $count" }
         if (count > MAX_CACHED_TEMPLATE_COUNT) {
             clearAll()
         }
@@ -59,7 +59,7 @@ internal class NotificationTemplateRepository(context: Context) {
     @WorkerThread
     @Synchronized
     private fun saveToCache(template: NotificationTemplate) {
-        Logger.d(">> NotificationTemplateRepository::saveToCache() key=${template.templateKey}")
+        Logger.d { ">> NotificationTemplateRepository::saveToCache() key=${template.templateKey}" }
         val key = getTemplateKey(template.templateKey)
         templateCache[key] = template
         preferences.putString(key, template.toString())
@@ -71,7 +71,7 @@ internal class NotificationTemplateRepository(context: Context) {
     }
 
     fun getTemplate(key: String): NotificationTemplate? {
-        Logger.d(">> NotificationTemplateRepository::getTemplate() key=$key")
+        Logger.d { ">> NotificationTemplateRepository::getTemplate() key=$key" }
         return templateCache[getTemplateKey(key)]
     }
 
@@ -104,7 +104,7 @@ internal class NotificationTemplateRepository(context: Context) {
         latch.await()
         error?.let { throw it }
         return result.get().also {
-            Logger.i("++ request response template list size=${it.templates.size}")
+            Logger.i { "++ request response template list size=${it.templates.size}" }
             it?.templates?.forEach { template ->
                 // convert list to map
                 saveToCache(template)
@@ -115,7 +115,7 @@ internal class NotificationTemplateRepository(context: Context) {
     @WorkerThread
     @Throws(SendbirdException::class)
     fun requestTemplateBlocking(key: String): NotificationTemplate {
-        Logger.d(">> NotificationTemplateRepository::requestTemplate() key=$key")
+        Logger.d { ">> NotificationTemplateRepository::requestTemplate() key=$key" }
         val latch = CountDownLatch(1)
         var error: SendbirdException? = null
         val result: AtomicReference<NotificationTemplate> = AtomicReference()
@@ -123,7 +123,7 @@ internal class NotificationTemplateRepository(context: Context) {
             error = e
             try {
                 template?.let {
-                    Logger.i("++ request response template key=$key : ${it.jsonPayload}")
+                    Logger.i { "++ request response template key=$key : ${it.jsonPayload}" }
                     result.set(NotificationTemplate.fromJson(it.jsonPayload))
                 }
             } catch (e: Throwable) {
@@ -0,0 +1,107 @@
+package com.sendbird.uikit.internal.singleton
+
+import android.content.Context
+import androidx.annotation.WorkerThread
+import com.sendbird.uikit.internal.extensions.toSha1Hex
+import com.sendbird.uikit.log.Logger
+import java.io.BufferedInputStream
+import java.io.BufferedOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.io.FileInputStream
+import java.io.FileOutputStream
+import java.io.IOException
+import java.util.concurrent.Executors
+
+/**
+ * This class persists the ids of the notifications already logged as viewed, in a file per channel.
+ * The newly logged ids are appended to the file, and the file is rewritten with the latest ids only when it grows
+ * more than [COMPACTION_FACTOR] times the ids kept, so the ids of a channel are not rewritten on every flush.
+ * The files are removed when the user is logged out.
+ */
+internal object NotificationViewedLogStore {
+    private const val DIR_NAME = "sb_notification_viewed_logs"
+    private const val COMPACTION_FACTOR = 2
+    private const val ID_BYTES = 8L
+
+    private val worker by lazy { Executors.newSingleThreadExecutor() }
+    @Volatile
+    private var rootDir: File? = null
+
+    @JvmStatic
+    fun init(context: Context) {
+        rootDir = File(context.applicationContext.filesDir, DIR_NAME)
+    }
+
+    /**
+     * Returns the logged ids of the channel in the order they're logged.
+     */
+    @WorkerThread
+    @Synchronized
+    fun load(channelUrl: String): LinkedHashSet<Long> {
+        val ids = LinkedHashSet<Long>()
+        val file = fileOf(channelUrl) ?: return ids
+        if (!file.exists()) return ids
+        try {
+            DataInputStream(BufferedInputStream(FileInputStream(file))).use { input ->
+                repeat((file.length() / ID_BYTES).toInt()) {
+                    val id = input.readLong()
+                    // the ids logged again are moved to the end.
+                    ids.remove(id)
+                    ids.add(id)
+                }
+            }
+        } catch (e: IOException) {
+            Logger.w(e)
+        }
+        return ids
+    }
+
+    /**
+     * Appends the newly logged ids of the channel.
+     *
+     * @param newIds The ids logged since the last call
+     * @param loggedIds All ids to keep, which the file is compacted to when it grows too much
+     */
+    @WorkerThread
+    @Synchronized
+    fun append(channelUrl: String, newIds: Collection<Long>, loggedIds: Collection<Long>) {
+        if (newIds.isEmpty()) return
+        val file = fileOf(channelUrl) ?: return
+        val dir = file.parentFile ?: return
+        try {
+            if (!dir.exists()) dir.mkdirs()
+            val storedCount = file.length() / ID_BYTES
+            if (storedCount + newIds.size > loggedIds.size.toLong() * COMPACTION_FACTOR) {
+                val tempFile = File(dir, "${file.name}.tmp")
+                write(tempFile, loggedIds, false)
+                if (!tempFile.renameTo(file)) tempFile.delete()
+            } else {
+                write(file, newIds, true)
+            }
+        } catch (e: IOException) {
+            Logger.w(e)
+        }
+    }
+
+    @JvmStatic
+    fun clearAll() {
+        val dir = rootDir ?: return
+        worker.execute {
+            synchronized(this) { dir.deleteRecursively() }
+        }
+    }
+
+    @Throws(IOException::class)
+    private fun write(file: File, ids: Collection<Long>, append: Boolean) {
+        DataOutputStream(BufferedOutputStream(FileOutputStream(file, append))).use { output ->
+            ids.forEach { output.writeLong(it) }
+        }
+    }
+
+    private fun fileOf(channelUrl: String): File? {
+        val dir = rootDir ?: return null
+        return File(dir, channelUrl.toSha1Hex())
+    }
+}
@@ -0,0 +1,81 @@
+package com.sendbird.uikit.internal.singleton
+
+import android.os.Looper
+import androidx.annotation.WorkerThread
+import com.sendbird.uikit.internal.utils.ReadinessBarrier
+import com.sendbird.uikit.log.Logger
+import java.util.concurrent.Callable
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+/**
+ * This class synchronizes the resources with Sendbird server in the background after the staged connect reports the connection.
+ *
+ * The resources start to be synchronized in the order of [Resource], and at most [MAX_CONCURRENT_SYNCS] resources are synchronized at the same time.
+ * The features which need a resource await it with [await]. If it hasn't started yet, it's synchronized on the waiting thread right away.
+ */
+internal object ResourceSyncManager {
+    private const val MAX_CONCURRENT_SYNCS = 2
+
+    /**
+     * The resources synchronized after connecting, in the order of the priority.
+     */
+    enum class Resource {
+        CONFIGURATIONS,
+        MESSAGE_TEMPLATES,
+        NOTIFICATION_SETTINGS,
+        NOTIFICATION_TEMPLATES,
+        EMOJIS,
+        USER_INFO
+    }
+
+    private val executor = ThreadPoolExecutor(
+        MAX_CONCURRENT_SYNCS,
+        MAX_CONCURRENT_SYNCS,
+        30,
+        TimeUnit.SECONDS,
+        LinkedBlockingQueue()
+    ).apply { allowCoreThreadTimeOut(true) }
+
+    @Volatile
+    private var syncs: Map<Resource, ReadinessBarrier<Unit>> = emptyMap()
+
+    /**
+     * Starts to synchronize the resources. The synchronizations started by the previous connection are replaced.
+     * The tasks must not throw, because the failure of a resource must not affect the others.
+     */
+    @JvmStatic
+    fun start(tasks: Map<Resource, Runnable>) {
+        Logger.d { ">> ResourceSyncManager::start() resources=${tasks.keys}" }
+        syncs = tasks.entries.sortedBy { it.key.ordinal }.associate { (resource, task) ->
+            resource to ReadinessBarrier(resource.name.lowercase(), Callable { task.run() }, executor)
+        }
+    }
+
+    /**
+     * Blocks until the resource is synchronized by the latest staged connect.
+     * It returns right away if the resource isn't being synchronized, or if it's called on the main thread.
+     */
+    @WorkerThread
+    @JvmStatic
+    fun await(resource: Resource) {
+        val sync = syncs[resource] ?: return
+        if (sync.isReady) return
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            // the synchronization waits for the callbacks delivered on the main thread.
+            Logger.w("ResourceSyncManager::await() is ignored on the main thread. resource=%s", resource)
+            return
+        }
+        try {
+            sync.await()
+        } catch (e: Exception) {
+            Logger.w(e)
+        }
+    }
+
+    @JvmStatic
+    fun clearAll() {
+        syncs = emptyMap()
+    }
+}
@@ -5,11 +5,11 @@ import androidx.annotation.VisibleForTesting
 import com.sendbird.android.config.UIKitConfigInfo
 import com.sendbird.android.exception.SendbirdException
 import com.sendbird.uikit.internal.contracts.SendbirdChatContract
+import com.sendbird.uikit.internal.utils.ReadinessBarrier
 import com.sendbird.uikit.model.configurations.Configurations
 import com.sendbird.uikit.model.configurations.UIKitConfig
 import com.sendbird.uikit.model.configurations.UIKitConfigurations
 import java.util.concurrent.CountDownLatch
-import java.util.concurrent.Executors
 import java.util.concurrent.atomic.AtomicBoolean
 import java.util.concurrent.atomic.AtomicReference
 
@@ -24,26 +24,40 @@ internal class UIKitConfigRepository constructor(
     var lastUpdatedAt: Long = 0L
         private set
     private val isFirstRequestConfig = AtomicBoolean(true)
-    private lateinit var preferences: BaseSharedPreference
+    private val preferences: BaseSharedPreference
+        get() = loading.await()
 
     @get:VisibleForTesting
     val prefKeyConfigurations = "PREFERENCE_KEY_CONFIGURATION_$appId"
 
+    // execute IO operations in the background to avoid strict mode logs and to return from SendbirdUIKit.init() quickly.
+    private val loading = ReadinessBarrier("configurations") {
+        val preferences = BaseSharedPreference(
+            context.applicationContext,
+            PREFERENCE_FILE_NAME_CONFIGURATION
+        )
+        val config = preferences.getString(prefKeyConfigurations)?.let {
+            Configurations.from(it)
+        } ?: Configurations()
+        UIKitConfig.uikitConfig.merge(config.uikitConfig)
+        this.lastUpdatedAt = config.lastUpdatedAt
+        preferences
+    }
+
     init {
-        // execute IO operations on the executor to avoid strict mode logs
-        Executors.newSingleThreadExecutor().submit {
-            preferences = BaseSharedPreference(
-                context.applicationContext,
-                PREFERENCE_FILE_NAME_CONFIGURATION
-            )
-            val config = preferences.getString(prefKeyConfigurations)?.let {
-                Configurations.from(it)
-            } ?: Configurations()
-            UIKitConfig.uikitConfig.merge(config.uikitConfig)
-            this.lastUpdatedAt = config.lastUpdatedAt
-        }.get()
+        current = this
     }
 
+    /**
+     * Returns whether the configurations of the dashboard have been cached by the previous connections.
+     * It blocks until the cache is loaded.
+     */
+    val hasCachedConfigurations: Boolean
+        get() {
+            loading.await()
+            return lastUpdatedAt > 0
+        }
+
     @VisibleForTesting
     fun saveToCache(config: String) {
         preferences.putString(prefKeyConfigurations, config)
@@ -55,6 +69,7 @@ internal class UIKitConfigRepository constructor(
         sendbirdChatContract: SendbirdChatContract,
         uikitConfigInfo: UIKitConfigInfo
     ): UIKitConfigurations {
+        loading.await()
         val shouldInitUIKitConfig = isFirstRequestConfig.getAndSet(false)
         if (uikitConfigInfo.lastUpdatedAt <= lastUpdatedAt) return UIKitConfig.uikitConfig
         val lock = CountDownLatch(1)
@@ -88,4 +103,18 @@ internal class UIKitConfigRepository constructor(
     fun clearAll() {
         preferences.clearAll()
     }
+
+    companion object {
+        @Volatile
+        private var current: UIKitConfigRepository? = null
+
+        /**
+         * Blocks until the cached configurations are merged into [UIKitConfig].
+         * The screens call it before they read the configurations.
+         */
+        @JvmStatic
+        fun awaitLoaded() {
+            current?.loading?.await()
+        }
+    }
 }
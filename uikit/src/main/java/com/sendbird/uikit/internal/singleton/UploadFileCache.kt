@@ -0,0 +1,120 @@
+package com.sendbird.uikit.internal.singleton
+
+import android.content.Context
+import androidx.annotation.WorkerThread
+import com.sendbird.uikit.internal.extensions.toHex
+import com.sendbird.uikit.internal.extensions.toSha1Hex
+import com.sendbird.uikit.log.Logger
+import java.io.File
+import java.io.FileInputStream
+import java.io.IOException
+import java.security.MessageDigest
+
+/**
+ * This class keeps the prepared files to upload. (e.g. resized images)
+ * The files are keyed by the identity of the source and the parameters used to prepare them,
+ * so the same source is prepared only once and different sources never share an output.
+ * The least recently used files are evicted when the total size exceeds [MAX_CACHE_BYTES].
+ */
+internal object UploadFileCache {
+    private const val DIR_NAME = "sb_upload_cache"
+    private const val TEMP_EXTENSION = "tmp"
+    private const val MAX_CACHE_BYTES = 100L * 1024 * 1024
+    private const val BUFFER_SIZE = 8 * 1024
+
+    /**
+     * Creates the key from the metadata of the source.
+     * It's used only when the last modified time of the source is known, otherwise use [makeContentKey].
+     */
+    @JvmStatic
+    fun makeKey(source: String, size: Long, lastModified: Long, vararg params: Any): String {
+        return "$source#$size#$lastModified#${params.joinToString("#")}".toSha1Hex()
+    }
+
+    /**
+     * Creates the key from the content of the source file.
+     */
+    @JvmStatic
+    @WorkerThread
+    @Throws(IOException::class)
+    fun makeContentKey(source: File, vararg params: Any): String {
+        val digest = MessageDigest.getInstance("SHA-1")
+        FileInputStream(source).use { input ->
+            val buffer = ByteArray(BUFFER_SIZE)
+            var read: Int
+            while (input.read(buffer).also { read = it } != -1) {
+                digest.update(buffer, 0, read)
+            }
+        }
+        val contentHash = digest.digest().toHex()
+        return "$contentHash#${params.joinToString("#")}".toSha1Hex()
+    }
+
+    /**
+     * Returns the cached file of the key, or `null` if it doesn't exist.
+     */
+    @JvmStatic
+    @WorkerThread
+    fun get(context: Context, key: String, extension: String): File? {
+        val file = File(getCacheDir(context), fileNameOf(key, extension))
+        if (!file.exists() || file.length() <= 0) return null
+        file.setLastModified(System.currentTimeMillis())
+        Logger.d("++ upload cache hit. key=%s", key)
+        return file
+    }
+
+    /**
+     * Returns the file to write the output of the key into. It has to be passed to [commit] after it's written.
+     */
+    @JvmStatic
+    fun newTempFile(context: Context, key: String): File {
+        return File(getCacheDir(context), "$key.${Thread.currentThread().id}.$TEMP_EXTENSION")
+    }
+
+    /**
+     * Moves the written temp file to the cached file of the key and evicts the old files if the cache is full.
+     */
+    @JvmStatic
+    @WorkerThread
+    fun commit(context: Context, tempFile: File, key: String, extension: String): File {
+        val dir = getCacheDir(context)
+        val file = File(dir, fileNameOf(key, extension))
+        if (!tempFile.renameTo(file)) {
+            tempFile.delete()
+        }
+        trimToSize(dir)
+        return file
+    }
+
+    /**
+     * Returns whether the file is owned by this cache. The owned files are removed only by the eviction.
+     */
+    @JvmStatic
+    fun contains(file: File): Boolean {
+        return file.parentFile?.name == DIR_NAME
+    }
+
+    @JvmStatic
+    fun getCacheDir(context: Context): File {
+        val dir = File(context.cacheDir, DIR_NAME)
+        if (!dir.exists()) dir.mkdirs()
+        return dir
+    }
+
+    private fun fileNameOf(key: String, extension: String): String {
+        return if (extension.isEmpty()) key else "$key.$extension"
+    }
+
+    @WorkerThread
+    private fun trimToSize(dir: File) {
+        val files = dir.listFiles()?.filter { it.extension != TEMP_EXTENSION } ?: return
+        var totalBytes = files.sumOf { it.length() }
+        if (totalBytes <= MAX_CACHE_BYTES) return
+        for (file in files.sortedBy { it.lastModified() }) {
+            if (totalBytes <= MAX_CACHE_BYTES) break
+            val length = file.length()
+            if (file.delete()) totalBytes -= length
+        }
+        Logger.d("++ upload cache trimmed. size=%s", totalBytes)
+    }
+}
@@ -0,0 +1,64 @@
+package com.sendbird.uikit.internal.testing
+
+import androidx.annotation.RestrictTo
+
+/**
+ * Describes the event streams of the chat load simulation.
+ * The events are replayed with the channels and the messages which the screens have already loaded,
+ * so the simulation doesn't send anything to Sendbird server. A rate of 0 disables the stream.
+ * It's a tool for the load tests and not a part of the public API.
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY_GROUP_PREFIX)
+data class ChatLoadConfig @JvmOverloads constructor(
+    /**
+     * Returns the number of messages received per second in each channel screen.
+     * The default value is 0.
+     */
+    val messagesPerSecond: Int = 0,
+    /**
+     * Returns the number of reaction storms per second in each channel screen.
+     * The default value is 0.
+     */
+    val reactionStormsPerSecond: Int = 0,
+    /**
+     * Returns the number of messages whose reactions are updated together in a reaction storm.
+     * The default value is 20.
+     */
+    val reactionStormSize: Int = 20,
+    /**
+     * Returns the number of typing status updates per second in each group channel screen.
+     * The default value is 0.
+     */
+    val typingEventsPerSecond: Int = 0,
+    /**
+     * Returns the number of channel updates per second in each channel list screen.
+     * The default value is 0.
+     */
+    val channelUpdatesPerSecond: Int = 0,
+    /**
+     * Returns the number of channels updated together in a channel update.
+     * The default value is 10.
+     */
+    val channelUpdateSize: Int = 10,
+    /**
+     * Returns the interval of the reconnections in milliseconds. Each reconnection is followed by a changelog flood.
+     * The default value is 0.
+     */
+    val reconnectIntervalMillis: Long = 0,
+    /**
+     * Returns the maximum number of the messages and the channels delivered in a changelog flood.
+     * The default value is 100.
+     */
+    val changelogSize: Int = 100
+) {
+    init {
+        require(messagesPerSecond >= 0) { "illegal messagesPerSecond: $messagesPerSecond" }
+        require(reactionStormsPerSecond >= 0) { "illegal reactionStormsPerSecond: $reactionStormsPerSecond" }
+        require(reactionStormSize > 0) { "illegal reactionStormSize: $reactionStormSize" }
+        require(typingEventsPerSecond >= 0) { "illegal typingEventsPerSecond: $typingEventsPerSecond" }
+        require(channelUpdatesPerSecond >= 0) { "illegal channelUpdatesPerSecond: $channelUpdatesPerSecond" }
+        require(channelUpdateSize > 0) { "illegal channelUpdateSize: $channelUpdateSize" }
+        require(reconnectIntervalMillis >= 0) { "illegal reconnectIntervalMillis: $reconnectIntervalMillis" }
+        require(changelogSize > 0) { "illegal changelogSize: $changelogSize" }
+    }
+}
@@ -0,0 +1,78 @@
+package com.sendbird.uikit.internal.testing
+
+import androidx.annotation.RestrictTo
+import androidx.lifecycle.ViewModel
+import androidx.lifecycle.ViewModelProvider
+import com.sendbird.uikit.interfaces.providers.ChannelListViewModelProvider
+import com.sendbird.uikit.interfaces.providers.ChannelViewModelProvider
+import com.sendbird.uikit.interfaces.providers.OpenChannelViewModelProvider
+import com.sendbird.uikit.internal.singleton.ChatEventSimulator
+import com.sendbird.uikit.providers.ViewModelProviders
+import com.sendbird.uikit.vm.ChannelListViewModel
+import com.sendbird.uikit.vm.ChannelViewModel
+import com.sendbird.uikit.vm.OpenChannelViewModel
+import com.sendbird.uikit.vm.SimulatedChannelListViewModel
+import com.sendbird.uikit.vm.SimulatedChannelViewModel
+import com.sendbird.uikit.vm.SimulatedOpenChannelViewModel
+
+/**
+ * The entry point of the chat load simulation for the load tests. It's not a part of the public API,
+ * so the apps that run the load tests (e.g. the debug screens of the sample) have to opt in explicitly.
+ *
+ * While it's running, [ViewModelProviders] provide the channel, open channel and channel list view models
+ * whose contracts deliver the simulated events in addition to the events of Sendbird server.
+ * The providers set before it's started are restored when it's stopped. It must not be used in production.
+ */
+@RestrictTo(RestrictTo.Scope.LIBRARY_GROUP_PREFIX)
+object ChatLoadSimulation {
+    private class SavedProviders(
+        val channel: ChannelViewModelProvider,
+        val channelList: ChannelListViewModelProvider,
+        val openChannel: OpenChannelViewModelProvider
+    )
+
+    private var savedProviders: SavedProviders? = null
+
+    /**
+     * Starts the chat load simulation. If the simulation is already running, the configuration is replaced.
+     * It must be called on the main thread after UIKit is initialized.
+     *
+     * @param config The configuration of the simulated event streams
+     */
+    @JvmStatic
+    fun start(config: ChatLoadConfig) {
+        if (savedProviders == null) {
+            savedProviders = SavedProviders(ViewModelProviders.channel, ViewModelProviders.channelList, ViewModelProviders.openChannel)
+            ViewModelProviders.channel = ChannelViewModelProvider { owner, channelUrl, params, channelConfig ->
+                ViewModelProvider(owner, factory { SimulatedChannelViewModel(channelUrl, params, channelConfig) })[channelUrl, ChannelViewModel::class.java]
+            }
+            ViewModelProviders.channelList = ChannelListViewModelProvider { owner, query ->
+                ViewModelProvider(owner, factory { SimulatedChannelListViewModel(query) })[ChannelListViewModel::class.java]
+            }
+            ViewModelProviders.openChannel = OpenChannelViewModelProvider { owner, channelUrl, params ->
+                ViewModelProvider(owner, factory { SimulatedOpenChannelViewModel(channelUrl, params) })[channelUrl, OpenChannelViewModel::class.java]
+            }
+        }
+        ChatEventSimulator.start(config)
+    }
+
+    /**
+     * Stops the chat load simulation, and restores the view model providers.
+     * It must be called on the main thread.
+     */
+    @JvmStatic
+    fun stop() {
+        ChatEventSimulator.stop()
+        savedProviders?.let {
+            ViewModelProviders.channel = it.channel
+            ViewModelProviders.channelList = it.channelList
+            ViewModelProviders.openChannel = it.openChannel
+        }
+        savedProviders = null
+    }
+
+    private inline fun factory(crossinline create: () -> ViewModel) = object : ViewModelProvider.Factory {
+        @Suppress("UNCHECKED_CAST")
+        override fun <T : ViewModel> create(modelClass: Class<T>): T = create() as T
+    }
+}
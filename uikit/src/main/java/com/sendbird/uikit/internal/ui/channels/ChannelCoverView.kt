@@ -9,11 +9,15 @@ import androidx.annotation.DrawableRes
 import androidx.appcompat.content.res.AppCompatResources
 import com.bumptech.glide.Glide
 import com.bumptech.glide.load.engine.DiskCacheStrategy
+import com.bumptech.glide.signature.ObjectKey
 import com.sendbird.uikit.R
 import com.sendbird.uikit.SendbirdUIKit
+import com.sendbird.uikit.internal.singleton.ChannelCoverCache
+import com.sendbird.uikit.internal.singleton.ImageRequestScheduler
 import com.sendbird.uikit.internal.ui.widgets.ImageWaffleView
 import com.sendbird.uikit.utils.DrawableUtils
 import com.sendbird.uikit.utils.TextUtils
+import java.io.File
 
 internal class ChannelCoverView @JvmOverloads constructor(
     context: Context,
@@ -21,15 +25,25 @@ internal class ChannelCoverView @JvmOverloads constructor(
 ) : ImageWaffleView(context, attrs) {
     @DrawableRes
     var defaultImageResId = 0
+    private var coverKey: String? = null
 
     fun loadImage(url: String) {
+        coverKey = null
         val imageView = prepareSingleImageView()
         drawImageFromUrl(imageView, url)
     }
 
     fun loadImages(imageUrlList: List<String>) {
+        coverKey = null
         if (imageUrlList.isEmpty()) {
-            prepareSingleImageView().setImageDrawable(getDefaultDrawable())
+            prepareSingleImageView().apply {
+                ImageRequestScheduler.cancel(this)
+                setImageDrawable(getDefaultDrawable())
+            }
+            return
+        }
+        if (imageUrlList.size > 1) {
+            loadCompositeImage(imageUrlList)
             return
         }
         val maxImageUrlSize = 4
@@ -42,20 +56,64 @@ internal class ChannelCoverView @JvmOverloads constructor(
         }
     }
 
+    private fun loadCompositeImage(imageUrlList: List<String>) {
+        val imageView = prepareCompositeImageView()
+        val overrideSize = resources.getDimensionPixelSize(R.dimen.sb_size_64)
+        val key = ChannelCoverCache.makeKey(
+            imageUrlList,
+            overrideSize,
+            "$defaultImageResId#${SendbirdUIKit.isDarkMode()}"
+        )
+        coverKey = key
+        val cachedFile = ChannelCoverCache.getCachedFile(key)
+        if (cachedFile != null) {
+            drawCompositeImage(imageView, cachedFile, key)
+            return
+        }
+
+        // composing the cover is deferred as well as the image requests while the list is flinging.
+        ImageRequestScheduler.schedule(imageView) {
+            Glide.with(imageView.context).clear(imageView)
+            ChannelCoverCache.load(context, key, imageUrlList, overrideSize, getDefaultDrawable()) { file ->
+                // the view may have been rebound to another channel while composing.
+                if (coverKey != key) return@load
+                if (file != null) {
+                    drawCompositeImage(imageView, file, key)
+                } else {
+                    imageView.setImageDrawable(getDefaultDrawable())
+                }
+            }
+        }
+    }
+
+    private fun drawCompositeImage(imageView: ImageView, file: File, key: String) {
+        ImageRequestScheduler.schedule(imageView) {
+            Glide.with(imageView.context)
+                .load(file)
+                .signature(ObjectKey(key))
+                .diskCacheStrategy(DiskCacheStrategy.NONE)
+                .error(getDefaultDrawable())
+                .into(imageView)
+        }
+    }
+
     private fun drawImageFromUrl(imageView: ImageView, url: String) {
         if (TextUtils.isEmpty(url)) {
+            ImageRequestScheduler.cancel(imageView)
             imageView.setImageDrawable(getDefaultDrawable())
             return
         }
         val overrideSize = resources
             .getDimensionPixelSize(R.dimen.sb_size_64)
-        Glide.with(imageView.context)
-            .load(url)
-            .override(overrideSize, overrideSize)
-            .centerCrop()
-            .diskCacheStrategy(DiskCacheStrategy.ALL)
-            .error(getDefaultDrawable())
-            .into(imageView)
+        ImageRequestScheduler.schedule(imageView) {
+            Glide.with(imageView.context)
+                .load(url)
+                .override(overrideSize, overrideSize)
+                .centerCrop()
+                .diskCacheStrategy(DiskCacheStrategy.ALL)
+                .error(getDefaultDrawable())
+                .into(imageView)
+        }
     }
 
     private fun getDefaultDrawable(): Drawable? {
@@ -76,7 +134,9 @@ internal class ChannelCoverView @JvmOverloads constructor(
     }
 
     fun drawBroadcastChannelCover() {
+        coverKey = null
         val imageView: ImageView = prepareSingleImageView()
+        ImageRequestScheduler.cancel(imageView)
 
         @ColorRes
         val iconTint: Int = if (SendbirdUIKit.isDarkMode()) R.color.onlight_text_high_emphasis else R.color.ondark_text_high_emphasis
@@ -10,20 +10,14 @@ import android.widget.FrameLayout
 import android.widget.ImageView
 import android.widget.TextView
 import com.sendbird.android.channel.GroupChannel
-import com.sendbird.android.message.AdminMessage
-import com.sendbird.android.message.BaseFileMessage
-import com.sendbird.android.message.UserMessage
 import com.sendbird.uikit.R
 import com.sendbird.uikit.SendbirdUIKit
-import com.sendbird.uikit.internal.extensions.getDisplayMessage
-import com.sendbird.uikit.internal.extensions.removeMarkdownFormatting
 import com.sendbird.uikit.internal.extensions.setAppearance
-import com.sendbird.uikit.internal.extensions.toDisplayText
-import com.sendbird.uikit.model.configurations.UIKitConfig.groupChannelConfig
-import com.sendbird.uikit.utils.ChannelUtils
+import com.sendbird.uikit.internal.model.ChannelPreviewModel
+import com.sendbird.uikit.internal.model.ChannelPreviewModel.LastMessageStatus
+import com.sendbird.uikit.internal.model.ChannelPreviewModel.LastMessageStyle
 import com.sendbird.uikit.utils.DateUtils
 import com.sendbird.uikit.utils.DrawableUtils
-import com.sendbird.uikit.utils.MessageUtils
 
 internal class ChannelPreview @JvmOverloads constructor(
     context: Context,
@@ -98,124 +92,98 @@ internal class ChannelPreview @JvmOverloads constructor(
     }
 
     fun drawChannel(channel: GroupChannel) {
-        val context = context
-        val lastMessage = channel.lastMessage
-        val unreadMessageCount = channel.unreadMessageCount
-        val unreadMentionCount = channel.unreadMentionCount
-        ivPushEnabled.visibility = if (ChannelUtils.isChannelPushOff(channel)) VISIBLE else GONE
-        val pushEnabledTint = SendbirdUIKit.getDefaultThemeMode().monoTintResId
-        ivPushEnabled.setImageDrawable(
-            DrawableUtils.setTintList(
-                context, R.drawable.icon_notifications_off_filled, pushEnabledTint
+        drawChannel(
+            ChannelPreviewModel.from(
+                context,
+                channel,
+                useTypingIndicator,
+                useMessageReceiptStatus,
+                useUnreadMentionCount
             )
         )
-        tvTitle.text =
-            if (channel.isChatNotification) channel.name.ifEmpty { context.getString(R.string.sb_text_channel_list_title_unknown) } else ChannelUtils.makeTitleText(
-                context, channel
+    }
+
+    fun drawChannel(model: ChannelPreviewModel) {
+        val context = context
+        ivPushEnabled.visibility = if (model.isPushOff) VISIBLE else GONE
+        if (model.isPushOff) {
+            val pushEnabledTint = SendbirdUIKit.getDefaultThemeMode().monoTintResId
+            ivPushEnabled.setImageDrawable(
+                DrawableUtils.setTintList(
+                    context, R.drawable.icon_notifications_off_filled, pushEnabledTint
+                )
             )
-        tvUnreadCount.text =
-            if (unreadMessageCount > 99) context.getString(R.string.sb_text_channel_list_unread_count_max) else unreadMessageCount.toString()
-        tvUnreadCount.visibility = if (unreadMessageCount > 0) VISIBLE else GONE
+        }
+        tvTitle.text = model.title
+        tvUnreadCount.text = model.unreadMessageCountText
+        tvUnreadCount.visibility = if (model.unreadMessageCount > 0) VISIBLE else GONE
         tvUnreadCount.setBackgroundResource(if (SendbirdUIKit.isDarkMode()) R.drawable.sb_shape_unread_message_count_dark else R.drawable.sb_shape_unread_message_count)
-        ivFrozen.visibility = if (channel.isFrozen) VISIBLE else GONE
-        ivBroadcast.visibility = if (channel.isBroadcast) VISIBLE else GONE
-        ChannelUtils.loadChannelCover(coverView, channel)
-        if (channel.isBroadcast) {
+        ivFrozen.visibility = if (model.isFrozen) VISIBLE else GONE
+        ivBroadcast.visibility = if (model.isBroadcast) VISIBLE else GONE
+        if (model.useBroadcastCover) {
+            coverView.drawBroadcastChannelCover()
+        } else {
+            coverView.loadImages(model.coverUrls)
+        }
+        if (model.isBroadcast) {
             val broadcastTint = SendbirdUIKit.getDefaultThemeMode().getSecondaryTintColorStateList(context)
             ivBroadcast.setImageDrawable(DrawableUtils.setTintList(context, R.drawable.icon_broadcast, broadcastTint))
         }
-        if (channel.isFrozen) {
+        if (model.isFrozen) {
             val frozenTint = SendbirdUIKit.getDefaultThemeMode().getPrimaryTintColorStateList(context)
             ivFrozen.setImageDrawable(DrawableUtils.setTintList(context, R.drawable.icon_freeze, frozenTint))
         }
-        val memberCount = channel.memberCount
-        tvMemberCount.visibility = if (memberCount > 2) VISIBLE else GONE
-        tvMemberCount.text = ChannelUtils.makeMemberCountText(channel.memberCount)
-        tvUpdatedAt.text = DateUtils.formatDateTime(
-            context, lastMessage?.createdAt ?: channel.createdAt
-        )
-        setLastMessage(tvLastMessage, channel, useTypingIndicator)
-        ivLastMessageStatus.visibility = if (useMessageReceiptStatus) VISIBLE else GONE
-        if (useMessageReceiptStatus) {
-            lastMessage?.let {
-                if (MessageUtils.isMine(lastMessage) && !channel.isSuper && channel.isGroupChannel) {
-                    ivLastMessageStatus.visibility = VISIBLE
-                    val unreadMemberCount = channel.getUnreadMemberCount(lastMessage)
-                    val unDeliveredMemberCount = channel.getUndeliveredMemberCount(lastMessage)
-                    when {
-                        unreadMemberCount == 0 -> {
-                            ivLastMessageStatus.setImageDrawable(
-                                DrawableUtils.setTintList(
-                                    getContext(),
-                                    R.drawable.icon_done_all,
-                                    SendbirdUIKit.getDefaultThemeMode().secondaryTintResId
-                                )
-                            )
-                        }
-                        unDeliveredMemberCount == 0 -> {
-                            ivLastMessageStatus.setImageDrawable(
-                                DrawableUtils.setTintList(
-                                    getContext(),
-                                    R.drawable.icon_done_all,
-                                    SendbirdUIKit.getDefaultThemeMode().monoTintResId
-                                )
-                            )
-                        }
-                        else -> {
-                            ivLastMessageStatus.setImageDrawable(
-                                DrawableUtils.setTintList(
-                                    getContext(),
-                                    R.drawable.icon_done,
-                                    SendbirdUIKit.getDefaultThemeMode().monoTintResId
-                                )
-                            )
-                        }
-                    }
-                } else {
-                    ivLastMessageStatus.visibility = GONE
-                }
-            }
+        tvMemberCount.visibility = if (model.memberCount > 2) VISIBLE else GONE
+        tvMemberCount.text = model.memberCountText
+        tvUpdatedAt.text = DateUtils.formatDateTime(context, model.updatedAt)
+        setLastMessage(tvLastMessage, model)
+        ivLastMessageStatus.visibility = if (model.lastMessageStatus == LastMessageStatus.HIDDEN) GONE else VISIBLE
+        when (model.lastMessageStatus) {
+            LastMessageStatus.READ -> ivLastMessageStatus.setImageDrawable(
+                DrawableUtils.setTintList(
+                    context,
+                    R.drawable.icon_done_all,
+                    SendbirdUIKit.getDefaultThemeMode().secondaryTintResId
+                )
+            )
+            LastMessageStatus.DELIVERED -> ivLastMessageStatus.setImageDrawable(
+                DrawableUtils.setTintList(
+                    context,
+                    R.drawable.icon_done_all,
+                    SendbirdUIKit.getDefaultThemeMode().monoTintResId
+                )
+            )
+            LastMessageStatus.SENT -> ivLastMessageStatus.setImageDrawable(
+                DrawableUtils.setTintList(
+                    context,
+                    R.drawable.icon_done,
+                    SendbirdUIKit.getDefaultThemeMode().monoTintResId
+                )
+            )
+            LastMessageStatus.HIDDEN -> {}
         }
         if (useUnreadMentionCount) {
-            tvUnreadMentionCount.text = SendbirdUIKit.getUserMentionConfig().trigger
-            tvUnreadMentionCount.visibility = if (unreadMentionCount > 0) VISIBLE else GONE
+            tvUnreadMentionCount.text = model.unreadMentionText
+            tvUnreadMentionCount.visibility = if (model.hasUnreadMention) VISIBLE else GONE
         } else {
             tvUnreadMentionCount.visibility = GONE
         }
     }
 
     companion object {
-        private fun setLastMessage(textView: TextView, channel: GroupChannel, useTypingIndicator: Boolean) {
-            var message: CharSequence = ""
-            if (useTypingIndicator) {
-                val typingUsers = channel.typingUsers
-                if (typingUsers.isNotEmpty()) {
-                    message = ChannelUtils.makeTypingText(textView.context, typingUsers)
-                    textView.text = message
-                    return
+        private fun setLastMessage(textView: TextView, model: ChannelPreviewModel) {
+            when (model.lastMessageStyle) {
+                LastMessageStyle.TEXT -> {
+                    textView.maxLines = 2
+                    textView.ellipsize = TextUtils.TruncateAt.END
                 }
-            }
-
-            channel.lastMessage?.let {
-                when (it) {
-                    is AdminMessage,
-                    is UserMessage -> {
-                        textView.maxLines = 2
-                        textView.ellipsize = TextUtils.TruncateAt.END
-                        message = it.getDisplayMessage().run {
-                            if (!groupChannelConfig.enableMarkdownForUserMessage) this
-                            else this.removeMarkdownFormatting()
-                        }
-                    }
-
-                    is BaseFileMessage -> {
-                        textView.maxLines = 1
-                        textView.ellipsize = TextUtils.TruncateAt.MIDDLE
-                        message = it.toDisplayText(textView.context)
-                    }
+                LastMessageStyle.FILE -> {
+                    textView.maxLines = 1
+                    textView.ellipsize = TextUtils.TruncateAt.MIDDLE
                 }
+                LastMessageStyle.NONE -> {}
             }
-            textView.text = message
+            textView.text = model.lastMessageText
         }
     }
 }
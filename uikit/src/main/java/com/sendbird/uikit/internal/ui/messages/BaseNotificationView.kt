@@ -41,7 +41,7 @@ internal abstract class BaseNotificationView @JvmOverloads internal constructor(
     ) {
         val handler = object : GetTemplateResultHandler {
             override fun onResult(templateKey: String, jsonTemplate: String?, isDataTemplate: Boolean, e: SendbirdException?) {
-                Logger.d("++ get template has been succeed, matched=${parentView.tag == message.messageId}")
+                Logger.d { "++ get template has been succeed, matched=${parentView.tag == message.messageId}" }
                 if (parentView.tag != message.messageId) return
                 val layout = try {
                     e?.let { throw e }
@@ -84,7 +84,7 @@ internal abstract class BaseNotificationView @JvmOverloads internal constructor(
         val notificationData: NotificationData? = message.notificationData
         val templateKey: String = notificationData?.templateKey ?: ""
         val templateVariables = notificationData?.templateVariables ?: mapOf()
-        Logger.d("++ message notificationData=$notificationData")
+        Logger.d { "++ message notificationData=$notificationData" }
         try {
             parentView.removeAllViews()
             parentView.tag = message.messageId
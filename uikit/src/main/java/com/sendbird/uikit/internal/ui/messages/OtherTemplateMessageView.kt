@@ -120,7 +120,7 @@ internal class OtherTemplateMessageView @JvmOverloads internal constructor(
         viewCachePool: TemplateViewCachePool,
         handler: OnMessageTemplateActionHandler?
     ) {
-        Logger.d("drawTemplateView() messageId = ${message.messageId}, status = ${message.messageTemplateStatus}")
+        Logger.d { "drawTemplateView() messageId = ${message.messageId}, status = ${message.messageTemplateStatus}" }
         val params = when (val status = message.messageTemplateStatus) {
             null, MessageTemplateStatus.NOT_APPLICABLE -> {
                 Logger.e("MessageTemplateStatus should not be null or NOT_APPLICABLE. messageId = ${message.messageId}, status = $status")
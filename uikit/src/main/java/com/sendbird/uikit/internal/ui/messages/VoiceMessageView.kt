@@ -29,7 +29,7 @@ internal class VoiceMessageView @JvmOverloads internal constructor(
     private var duration: Int = 0
 
     init {
-        Logger.i("_________init() this=$this")
+        Logger.i { "_________init() this=$this" }
         val a = context.theme.obtainStyledAttributes(attrs, R.styleable.MessageView_File, defStyle, 0)
         try {
             binding = SbViewVoiceMessageBinding.inflate(LayoutInflater.from(context), this, true)
@@ -45,7 +45,7 @@ internal class VoiceMessageView @JvmOverloads internal constructor(
                     milliseconds: Int,
                     duration: Int
                 ) {
-                    Logger.i("VoiceMessageView >> OnProgressUpdateListener status : $status, millis : $milliseconds")
+                    Logger.i { "VoiceMessageView >> OnProgressUpdateListener status : $status, millis : $milliseconds" }
                     if (this@VoiceMessageView.key != key) return
                     if (duration == 0) return
                     ViewUtils.drawTimeline(
@@ -108,6 +108,7 @@ internal class VoiceMessageView @JvmOverloads internal constructor(
         key?.let {
             VoicePlayerManager.removeOnUpdateListener(it, onUpdateListener)
             VoicePlayerManager.removeOnProgressListener(it, onProgressUpdateListener)
+            VoicePlayerManager.cancelPrefetch(it)
         }
     }
 
@@ -122,6 +123,7 @@ internal class VoiceMessageView @JvmOverloads internal constructor(
         binding.ibtnPause.setOnClickListener {
             VoicePlayerManager.pause()
         }
+        VoicePlayerManager.prefetch(context, fileMessage)
         drawVoiceMessage(key)
     }
 
@@ -131,7 +133,7 @@ internal class VoiceMessageView @JvmOverloads internal constructor(
             VoicePlayerManager.addOnProgressUpdateListener(key, onProgressUpdateListener)
         }
         val seekTo = VoicePlayerManager.getSeekTo(key)
-        Logger.i("VoiceMessageView::drawMessage key : $key, seekTo : $seekTo, duration : $duration")
+        Logger.i { "VoiceMessageView::drawMessage key : $key, seekTo : $seekTo, duration : $duration" }
         drawPlayerStatus(VoicePlayerManager.getStatus(key) ?: VoicePlayer.Status.STOPPED)
         ViewUtils.drawTimeline(
             binding.timelineView,
@@ -142,7 +144,7 @@ internal class VoiceMessageView @JvmOverloads internal constructor(
     }
 
     private fun drawPlayerStatus(status: VoicePlayer.Status) {
-        Logger.i("_________VoiceMessageView::drawPlayerStatus, status : $status")
+        Logger.i { "_________VoiceMessageView::drawPlayerStatus, status : $status" }
         when (status) {
             VoicePlayer.Status.STOPPED -> {
                 binding.ibtnPlay.visibility = VISIBLE
@@ -36,6 +36,7 @@ internal open class FeedNotificationListComponent @JvmOverloads constructor(
     uiConfig: NotificationConfig? = null
 ) : NotificationListComponent(params, uiConfig) {
 
+    private val feedParams: Params = params
     var onNotificationViewedDetectedListener: OnNotificationViewedDetectedListener<BaseMessage>? = null
 
     /**
@@ -90,32 +91,26 @@ internal open class FeedNotificationListComponent @JvmOverloads constructor(
         val layout = super.onCreateView(context, inflater, parent, args)
         notificationListView?.let {
             it.recyclerView.layoutManager = InnerLinearLayoutManager(context).apply { reverseLayout = false }
-            it.onNotificationViewedDetectedListener = { firstVisibleItemPosition, lastVisibleItemPosition ->
-                onVisibleItemDetected(firstVisibleItemPosition, lastVisibleItemPosition)
+            it.notificationViewedThreshold = feedParams.notificationViewedThreshold
+            it.onNotificationViewedDetectedListener = { positions ->
+                onVisibleItemDetected(positions)
+            }
+            it.isNotificationViewable = { position ->
+                // the notifications whose contents aren't displayed yet are detected again once they're displayed.
+                adapter?.getItems()?.getOrNull(position)?.isContentDisplayed == true
             }
         }
         return layout
     }
 
-    private fun onVisibleItemDetected(firstVisibleItem: Int, lastVisibleItem: Int) {
-        Logger.d(">> onVisibleItemDetected(), firstVisibleItem: $firstVisibleItem, lastVisibleItem: $lastVisibleItem")
-        if (adapter == null) return
-        if (firstVisibleItem < 0 || lastVisibleItem < 0) return
+    private fun onVisibleItemDetected(positions: IntArray) {
+        Logger.d { ">> onVisibleItemDetected(), newly visible items: ${positions.size}" }
+        val items = adapter?.getItems() ?: return
 
         onNotificationViewedDetectedListener?.let {
-            val range = if (firstVisibleItem <= lastVisibleItem) firstVisibleItem..lastVisibleItem else lastVisibleItem..firstVisibleItem
-            val copiedList = adapter?.getItems()?.toList()
-            if (copiedList != null) {
-                try {
-                    val items = range.mapNotNull { i ->
-                        val message = copiedList[i]
-                        if (!message.isContentDisplayed) null else message
-                    }
-                    if (items.isNotEmpty()) {
-                        it.onNotificationViewedDetected(items)
-                    }
-                } catch (ignore: Exception) {
-                }
+            val viewed = positions.mapNotNull { i -> items.getOrNull(i) }
+            if (viewed.isNotEmpty()) {
+                it.onNotificationViewedDetected(viewed)
             }
         }
     }
@@ -150,9 +145,9 @@ internal open class FeedNotificationListComponent @JvmOverloads constructor(
         if (isSetCategoryFilter.get()) return
         notificationListView?.let { recyclerView ->
             recyclerView.enableCategoryFilterView(channel.isCategoryFilterEnabled && channel.notificationCategories.isNotEmpty())
-            Logger.i("++ channel.categories size: ${channel.notificationCategories.size}")
+            Logger.i { "++ channel.categories size: ${channel.notificationCategories.size}" }
             channel.notificationCategories.forEach { category ->
-                Logger.i("++ category: $category")
+                Logger.i { "++ category: $category" }
                 recyclerView.categoryFilterBox.addView(
                     recyclerView.createCategoryFilterItemView().apply {
                         text = category.name
@@ -233,6 +228,14 @@ internal open class FeedNotificationListComponent @JvmOverloads constructor(
      * since 3.5.0
      */
     open class Params : NotificationListComponent.Params() {
+        /**
+         * The ratio of the size of a notification that has to be visible to be detected as viewed. (0 ~ 1)
+         * The default value is 0, which means any visible part of the notification.
+         *
+         * @since 3.22.0
+         */
+        var notificationViewedThreshold: Float = 0f
+
         /**
          * Apply data that matches keys mapped to Params' properties.
          *
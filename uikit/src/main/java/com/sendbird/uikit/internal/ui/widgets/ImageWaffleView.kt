@@ -36,6 +36,9 @@ internal open class ImageWaffleView @JvmOverloads internal constructor(
     private val tempCanvas = Canvas()
     private var tempBitmap: Bitmap? = null
 
+    // If true, the single child already holds a rounded image, so it's drawn without the offscreen composite.
+    private var isPreComposited = false
+
     private class KillerWaffleChildImageView constructor(val imageWaffleView: ImageWaffleView) :
         AppCompatImageView(imageWaffleView.context) {
         override fun requestLayout() {
@@ -64,8 +67,25 @@ internal open class ImageWaffleView @JvmOverloads internal constructor(
         return prepareImageViews(1)[0]
     }
 
+    open fun prepareCompositeImageView(): ImageView {
+        setPreComposited(true)
+        return reuseImageViews(1)[0]
+    }
+
     open fun prepareImageViews(length: Int): List<ImageView> {
         require(!(length > 4 || length < 0)) { "Invalid length : $length" }
+        setPreComposited(false)
+        return reuseImageViews(length)
+    }
+
+    // the layout is requested only when the mode is changed, so binding the same mode again doesn't lay out the parent.
+    private fun setPreComposited(preComposited: Boolean) {
+        if (isPreComposited == preComposited) return
+        isPreComposited = preComposited
+        requestLayout()
+    }
+
+    private fun reuseImageViews(length: Int): List<ImageView> {
         val prevImageViews: Queue<ImageView> = LinkedList()
         if (childCount == length) {
             for (i in 0 until childCount) {
@@ -115,6 +135,12 @@ internal open class ImageWaffleView @JvmOverloads internal constructor(
             return
         }
 
+        if (isPreComposited && childCount == 1) {
+            drawBorder(canvas)
+            super.dispatchDraw(canvas)
+            return
+        }
+
         tempBitmap?.let {
             if (it.isRecycled || it.width != width || it.height != height) {
                 it.recycle()
@@ -152,19 +178,7 @@ internal open class ImageWaffleView @JvmOverloads internal constructor(
                 BitmapShader(it, Shader.TileMode.CLAMP, Shader.TileMode.CLAMP)
         }
 
-        val paddingStart = paddingStart
-        val paddingEnd = paddingEnd
-        val paddingTop = paddingTop
-        val paddingBottom = paddingBottom
-        canvasBounds.set(0f, 0f, width.toFloat(), height.toFloat())
-        borderPaint.color =
-            ContextCompat.getColor(context, if (SendbirdUIKit.isDarkMode()) R.color.ondark_text_disabled else R.color.onlight_text_disabled)
-        canvas.drawRoundRect(
-            canvasBounds,
-            (width / 2).toFloat(),
-            (height / 2).toFloat(),
-            borderPaint
-        )
+        drawBorder(canvas)
         canvasBounds.set(
             ROUND_BORDER + paddingStart.toFloat(),
             ROUND_BORDER + paddingTop.toFloat(),
@@ -179,11 +193,32 @@ internal open class ImageWaffleView @JvmOverloads internal constructor(
         )
     }
 
+    private fun drawBorder(canvas: Canvas) {
+        canvasBounds.set(0f, 0f, width.toFloat(), height.toFloat())
+        borderPaint.color =
+            ContextCompat.getColor(context, if (SendbirdUIKit.isDarkMode()) R.color.ondark_text_disabled else R.color.onlight_text_disabled)
+        canvas.drawRoundRect(
+            canvasBounds,
+            (width / 2).toFloat(),
+            (height / 2).toFloat(),
+            borderPaint
+        )
+    }
+
     override fun onMeasure(widthMeasureSpec: Int, heightMeasureSpec: Int) {
         val specWidth = MeasureSpec.getSize(widthMeasureSpec)
         val specHeight = MeasureSpec.getSize(heightMeasureSpec)
         val halfWidth = (specWidth - DIVIDER_WIDTH + ROUND_BORDER) / 2
         val halfHeight = (specHeight - DIVIDER_WIDTH + ROUND_BORDER) / 2
+        if (isPreComposited && childCount == 1) {
+            measureInGrid(
+                getChildAt(0),
+                specWidth - paddingStart - paddingEnd - ROUND_BORDER * 2,
+                specHeight - paddingTop - paddingBottom - ROUND_BORDER * 2
+            )
+            setMeasuredDimension(specWidth, specHeight)
+            return
+        }
         when (childCount) {
             1 -> measureInGrid(getChildAt(0), specWidth, specHeight)
             2 -> {
@@ -215,6 +250,15 @@ internal open class ImageWaffleView @JvmOverloads internal constructor(
     override fun onLayout(changed: Boolean, l: Int, t: Int, r: Int, b: Int) {
         val halfWidth = (measuredWidth - DIVIDER_WIDTH - ROUND_BORDER) / 2
         val halfHeight = (measuredHeight - DIVIDER_WIDTH - ROUND_BORDER) / 2
+        if (isPreComposited && childCount == 1) {
+            getChildAt(0).layout(
+                ROUND_BORDER + paddingStart,
+                ROUND_BORDER + paddingTop,
+                measuredWidth - ROUND_BORDER - paddingEnd,
+                measuredHeight - ROUND_BORDER - paddingBottom
+            )
+            return
+        }
         when (childCount) {
             1 -> getChildAt(0).layout(0, 0, measuredWidth, measuredHeight)
             2 -> {
@@ -41,7 +41,7 @@ internal open class KeyboardDetectLayout @JvmOverloads constructor(
     }
 
     override fun onGlobalLayout() {
-        Logger.d("++ layoutChanged orientation changed=${orientationChanged.get()}")
+        Logger.d { "++ layoutChanged orientation changed=${orientationChanged.get()}" }
         if (orientationChanged.getAndSet(false)) return
         val rect = Rect()
         getWindowVisibleDisplayFrame(rect)
@@ -11,6 +11,8 @@ import com.sendbird.uikit.R
 import com.sendbird.uikit.databinding.SbViewMessageRecyclerViewBinding
 import com.sendbird.uikit.interfaces.OnConsumableClickListener
 import com.sendbird.uikit.internal.extensions.setAppearance
+import com.sendbird.uikit.internal.singleton.ImageRequestScheduler
+import com.sendbird.uikit.internal.utils.MessageMediaPrefetcher
 import com.sendbird.uikit.utils.SoftInputUtils
 import com.sendbird.uikit.utils.TextUtils
 
@@ -20,6 +22,7 @@ internal class MessageRecyclerView @JvmOverloads constructor(
     defStyle: Int = 0
 ) : FrameLayout(context, attrs, defStyle) {
     private val binding: SbViewMessageRecyclerViewBinding
+    private val mediaPrefetcher: MessageMediaPrefetcher
     fun showTypingIndicator(text: String) {
         binding.tvTypingIndicator.visibility = VISIBLE
         binding.tvTypingIndicator.text = text
@@ -131,8 +134,16 @@ internal class MessageRecyclerView @JvmOverloads constructor(
             }
             binding.tvBanner.setBackgroundResource(bannerBackground)
             binding.tvBanner.setAppearance(context, bannerTextAppearance)
+            mediaPrefetcher = MessageMediaPrefetcher(binding.rvMessageList)
+            binding.rvMessageList.addOnScrollListener(mediaPrefetcher)
+            ImageRequestScheduler.attach(binding.rvMessageList)
         } finally {
             a.recycle()
         }
     }
+
+    override fun onDetachedFromWindow() {
+        super.onDetachedFromWindow()
+        mediaPrefetcher.clear()
+    }
 }
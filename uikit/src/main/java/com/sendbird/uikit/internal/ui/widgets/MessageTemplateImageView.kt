@@ -71,7 +71,7 @@ internal open class MessageTemplateImageView @JvmOverloads constructor(
         // In the Android platform, even if a view is not drawn on the screen due to left and right views, its height value exists.
         // In the template message syntax, the views that are not drawn have to hide.
         // onSizeChanged() and onLayout() do not update the view even if the visibility changes, so the status of the view must be updated once again.
-        // Logger.i("-- parent view's width=${(parent as View).width}, x=$x, measureWidth=$width, visible=$visibility")
+        // Logger.i { "-- parent view's width=${(parent as View).width}, x=$x, measureWidth=$width, visible=$visibility" }
         val visibility = if (x <= -width || x >= (parent as View).width) GONE else VISIBLE
         post {
             this.visibility = visibility
@@ -133,7 +133,7 @@ internal open class MessageTemplateImageView @JvmOverloads constructor(
             if (targetWidth > deviceWidth) {
                 val height = (deviceWidth / imageRatio).toInt()
                 glide = glide.override(deviceWidth, height)
-                Logger.i("++ override width=$deviceWidth, height=$height, url=$url")
+                Logger.i { "++ override width=$deviceWidth, height=$height, url=$url" }
             }
         }
 
@@ -163,7 +163,7 @@ internal open class MessageTemplateImageView @JvmOverloads constructor(
                         else -> 0
                     }
 
-                    Logger.i("++ width=$width, height=$height, url=$url")
+                    Logger.i { "++ width=$width, height=$height, url=$url" }
                     setSize(width, height)
                     setImageDrawable(resource)
                 }
@@ -35,16 +35,32 @@ internal class NotificationRecyclerView @JvmOverloads constructor(
     private val binding: SbViewChatNotificationRecyclerViewBinding
     private val notificationScrollViewedTracker by lazy {
         NotificationViewedTracker(recyclerView).apply {
-            onNotificationViewedDetected = {
-                recyclerView.layoutManager?.let {
-                    val firstVisibleItemPosition = it.findFirstVisibleItemPosition()
-                    val lastVisibleItemPosition = it.findLastVisibleItemPosition()
-                    onNotificationViewedDetectedListener?.invoke(firstVisibleItemPosition, lastVisibleItemPosition)
-                }
+            onNotificationViewedDetected = { positions ->
+                onNotificationViewedDetectedListener?.invoke(positions)
             }
+            isViewable = { position -> isNotificationViewable?.invoke(position) != false }
         }
     }
-    var onNotificationViewedDetectedListener: ((firstVisibleItemPosition: Int, lastVisibleItemPosition: Int) -> Unit)? = null
+
+    /**
+     * Called with the adapter positions of the notifications which have become visible.
+     */
+    var onNotificationViewedDetectedListener: ((positions: IntArray) -> Unit)? = null
+
+    /**
+     * Returns whether the notification at the position can be logged as viewed.
+     * The rejected notifications are detected again after they're accepted.
+     */
+    var isNotificationViewable: ((position: Int) -> Boolean)? = null
+
+    /**
+     * The ratio of the size of a notification that has to be visible to be detected as viewed. (0 ~ 1)
+     */
+    var notificationViewedThreshold: Float
+        get() = notificationScrollViewedTracker.visibleThreshold
+        set(value) {
+            notificationScrollViewedTracker.visibleThreshold = value
+        }
     val recyclerView: PagerRecyclerView
         get() = binding.rvMessageList
     val isReverseLayout
@@ -46,7 +46,7 @@ internal open class RoundCornerLayout @JvmOverloads constructor(
         // In the Android platform, even if a view is not drawn on the screen due to left and right views, its height value exists.
         // In the template message syntax, the views that are not drawn have to hide.
         // onSizeChanged() and onLayout() do not update the view even if the visibility changes, so the status of the view must be updated once again.
-        // Logger.i("-- parent view's width=${(parent as View).width}, x=$x, measureWidth=$width, visible=$visibility")
+        // Logger.i { "-- parent view's width=${(parent as View).width}, x=$x, measureWidth=$width, visible=$visibility" }
         if (autoAdjustHeightWhenInvisible) {
             val visibility = if (x <= -width || x >= (parent as View).width) GONE else VISIBLE
             post {
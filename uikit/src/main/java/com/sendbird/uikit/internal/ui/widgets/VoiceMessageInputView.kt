@@ -263,13 +263,13 @@ internal class VoiceMessageInputView @JvmOverloads constructor(
             recorder = VoiceRecorder(context, SendbirdUIKit.getVoiceRecorderConfig(), onRecorderUpdateListener, onRecorderProgressUpdateListener)
             onUpdateListener = object : VoicePlayer.OnUpdateListener {
                 override fun onUpdated(key: String, status: VoicePlayer.Status) {
-                    Logger.i("VoiceMessageRecorderView >> onUpdateListener, status: $status")
+                    Logger.i { "VoiceMessageRecorderView >> onUpdateListener, status: $status" }
                     drawPlayerStatus(status)
                 }
             }
             onProgressUpdateListener = object : VoicePlayer.OnProgressUpdateListener {
                 override fun onProgressUpdated(key: String, status: VoicePlayer.Status, milliseconds: Int, duration: Int) {
-                    Logger.i("VoiceMessageRecorderView >> onProgressUpdateListener, milliseconds: $milliseconds")
+                    Logger.i { "VoiceMessageRecorderView >> onProgressUpdateListener, milliseconds: $milliseconds" }
                     if (duration == 0) return
                     ViewUtils.drawTimeline(
                         binding.tvTimeline,
@@ -293,7 +293,7 @@ internal class VoiceMessageInputView @JvmOverloads constructor(
                 recorder.complete()
                 val voiceMimeType = StringSet.audio + "/" + StringSet.m4a + ";" + StringSet.sbu_type + "=" + StringSet.voice
                 val duration = recorder.seekTo
-                Logger.i("VoiceMessageRecorderView: mimeType : $voiceMimeType, duration : $duration")
+                Logger.i { "VoiceMessageRecorderView: mimeType : $voiceMimeType, duration : $duration" }
                 onSendButtonClickListener?.onItemClick(
                     view,
                     0,
@@ -0,0 +1,179 @@
+package com.sendbird.uikit.internal.utils
+
+import android.graphics.drawable.Drawable
+import android.os.SystemClock
+import androidx.recyclerview.widget.LinearLayoutManager
+import androidx.recyclerview.widget.RecyclerView
+import com.bumptech.glide.Glide
+import com.bumptech.glide.load.DataSource
+import com.bumptech.glide.load.engine.GlideException
+import com.bumptech.glide.request.RequestListener
+import com.bumptech.glide.request.target.Target
+import com.sendbird.android.message.BaseMessage
+import com.sendbird.android.message.FileMessage
+import com.sendbird.android.message.MultipleFilesMessage
+import com.sendbird.uikit.activities.adapter.BaseMessageListAdapter
+import com.sendbird.uikit.consts.StringSet
+import com.sendbird.uikit.internal.extensions.getCacheKey
+import com.sendbird.uikit.log.Logger
+import com.sendbird.uikit.utils.ViewUtils
+
+/**
+ * Media Prefetcher loads the thumbnails of the messages which are about to be displayed in the scroll direction.
+ *
+ * The thumbnails are loaded with the same size and cache key as [ViewUtils.drawThumbnail], so they're displayed from the memory cache when the messages are bound.
+ * The preloads which are out of the look-ahead range are cancelled.
+ * At most [maxConcurrentRequests] preloads run at the same time, and at most [maxRequestsPerSecond] preloads start in a second
+ * to bound the bandwidth used for the messages which may not be displayed.
+ */
+internal class MessageMediaPrefetcher(
+    private val recyclerView: RecyclerView,
+    private val lookAhead: Int = 10,
+    private val maxConcurrentRequests: Int = 3,
+    private val maxRequestsPerSecond: Int = 6
+) : RecyclerView.OnScrollListener() {
+    private class PrefetchItem(val key: String, val load: (RequestListener<Drawable>) -> Target<Drawable>)
+
+    private val pendingItems = ArrayDeque<PrefetchItem>()
+    private val runningTargets = LinkedHashMap<String, Target<Drawable>>()
+    // the keys which are already loaded. It's bounded because Glide keeps the resources anyway.
+    private val loadedKeys = object : LinkedHashSet<String>() {
+        override fun add(element: String): Boolean {
+            if (size >= MAX_LOADED_KEYS) remove(first())
+            return super.add(element)
+        }
+    }
+    private var lastFirstVisiblePosition = RecyclerView.NO_POSITION
+    private var windowStartedAt = 0L
+    private var startedInWindow = 0
+    private val pumpRunnable = Runnable { pump() }
+
+    override fun onScrolled(recyclerView: RecyclerView, dx: Int, dy: Int) {
+        if (dx == 0 && dy == 0) return
+        val layoutManager = recyclerView.layoutManager as? LinearLayoutManager ?: return
+        val adapter = recyclerView.adapter as? BaseMessageListAdapter ?: return
+        val first = layoutManager.findFirstVisibleItemPosition()
+        val last = layoutManager.findLastVisibleItemPosition()
+        if (first == RecyclerView.NO_POSITION || last == RecyclerView.NO_POSITION) return
+        val forward = lastFirstVisiblePosition == RecyclerView.NO_POSITION || first >= lastFirstVisiblePosition
+        lastFirstVisiblePosition = first
+
+        val positions = if (forward) {
+            (last + 1..minOf(last + lookAhead, adapter.itemCount - 1))
+        } else {
+            (first - 1 downTo maxOf(first - lookAhead, 0))
+        }
+        val wantedItems = positions.flatMap { position ->
+            adapter.getItem(position)?.let { toPrefetchItems(it) } ?: emptyList()
+        }
+        update(wantedItems)
+    }
+
+    /**
+     * Cancels all preloads. It must be called when the list is not displayed anymore.
+     */
+    fun clear() {
+        recyclerView.removeCallbacks(pumpRunnable)
+        pendingItems.clear()
+        runningTargets.values.forEach { Glide.with(recyclerView.context).clear(it) }
+        runningTargets.clear()
+    }
+
+    private fun update(wantedItems: List<PrefetchItem>) {
+        val wantedKeys = wantedItems.mapTo(HashSet()) { it.key }
+        // cancel the preloads that scrolled out of the range.
+        val iterator = runningTargets.entries.iterator()
+        while (iterator.hasNext()) {
+            val (key, target) = iterator.next()
+            if (key !in wantedKeys) {
+                Logger.dev("++ cancel prefetch. key=%s", key)
+                iterator.remove()
+                Glide.with(recyclerView.context).clear(target)
+            }
+        }
+        pendingItems.clear()
+        wantedItems.filterTo(pendingItems) { it.key !in runningTargets && it.key !in loadedKeys }
+        pump()
+    }
+
+    private fun pump() {
+        recyclerView.removeCallbacks(pumpRunnable)
+        while (runningTargets.size < maxConcurrentRequests && pendingItems.isNotEmpty()) {
+            val now = SystemClock.uptimeMillis()
+            if (now - windowStartedAt >= RATE_WINDOW_MS) {
+                windowStartedAt = now
+                startedInWindow = 0
+            }
+            if (startedInWindow >= maxRequestsPerSecond) {
+                recyclerView.postDelayed(pumpRunnable, RATE_WINDOW_MS - (now - windowStartedAt))
+                return
+            }
+            val item = pendingItems.removeFirst()
+            startedInWindow++
+            runningTargets[item.key] = item.load(createListener(item.key))
+        }
+    }
+
+    private fun createListener(key: String): RequestListener<Drawable> {
+        return object : RequestListener<Drawable> {
+            override fun onLoadFailed(
+                e: GlideException?,
+                model: Any?,
+                target: Target<Drawable>,
+                isFirstResource: Boolean
+            ): Boolean {
+                recyclerView.post { onFinished(key) }
+                return false
+            }
+
+            override fun onResourceReady(
+                resource: Drawable,
+                model: Any,
+                target: Target<Drawable>,
+                dataSource: DataSource,
+                isFirstResource: Boolean
+            ): Boolean {
+                recyclerView.post { onFinished(key) }
+                return false
+            }
+        }
+    }
+
+    private fun onFinished(key: String) {
+        if (runningTargets.remove(key) == null) return
+        loadedKeys.add(key)
+        pump()
+    }
+
+    private fun toPrefetchItems(message: BaseMessage): List<PrefetchItem> {
+        val context = recyclerView.context
+        return when (message) {
+            is FileMessage -> {
+                if (!isThumbnailType(message.type)) return emptyList()
+                listOf(PrefetchItem("${message.requestId}_${message.messageId}") { listener ->
+                    ViewUtils.preloadThumbnail(context, message, listener)
+                })
+            }
+            is MultipleFilesMessage -> {
+                message.files.mapIndexedNotNull { index, file ->
+                    if (!isThumbnailType(file.fileType)) return@mapIndexedNotNull null
+                    val cacheKey = message.getCacheKey(index)
+                    PrefetchItem(cacheKey) { listener ->
+                        ViewUtils.preloadThumbnail(context, cacheKey, file.url, file.plainUrl, file.thumbnails, listener)
+                    }
+                }
+            }
+            else -> emptyList()
+        }
+    }
+
+    private fun isThumbnailType(fileType: String): Boolean {
+        val type = fileType.lowercase()
+        return type.contains(StringSet.image) || type.contains(StringSet.video)
+    }
+
+    companion object {
+        private const val RATE_WINDOW_MS = 1000L
+        private const val MAX_LOADED_KEYS = 200
+    }
+}
@@ -0,0 +1,105 @@
+package com.sendbird.uikit.internal.utils
+
+import com.sendbird.android.message.BaseMessage
+import com.sendbird.uikit.internal.singleton.NotificationViewedLogStore
+import com.sendbird.uikit.log.Logger
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.TimeUnit
+
+private const val MAX_LOGGED_IDS = 1000
+
+/**
+ * Notification Viewed Log Aggregator collects the notifications viewed in a channel, and sends the viewed logs in batches.
+ *
+ * The notifications already logged are remembered per channel(The latest [MAX_LOGGED_IDS] ids are persisted by [NotificationViewedLogStore].), so each notification is logged only once
+ * no matter how many times it's viewed. The newly viewed notifications are sent together after [window],
+ * or right away if [maxBatchSize] notifications are collected or [flush] is called.
+ * All state is confined to a single worker thread, so the persisted ids are never read on the main thread.
+ */
+internal class NotificationViewedLogAggregator(
+    private val channelUrl: String,
+    private val window: Long = 1000L,
+    private val maxBatchSize: Int = 30,
+    private val sender: (List<BaseMessage>) -> Boolean
+) {
+    private val executor = Executors.newSingleThreadScheduledExecutor()
+
+    // accessed only on the worker thread.
+    private var loggedIds: LinkedHashSet<Long>? = null
+    private val pending = LinkedHashMap<Long, BaseMessage>()
+    private var scheduledFlush: ScheduledFuture<*>? = null
+
+    fun add(messages: List<BaseMessage>) {
+        if (messages.isEmpty()) return
+        val viewed = messages.toList()
+        execute {
+            val loggedIds = loadLoggedIds()
+            viewed.forEach {
+                if (it.messageId > 0 && it.messageId !in loggedIds) pending[it.messageId] = it
+            }
+            Logger.d { ">> NotificationViewedLogAggregator::add() viewed=${viewed.size}, pending=${pending.size}" }
+            if (pending.size >= maxBatchSize) {
+                flushPending()
+            } else if (pending.isNotEmpty() && scheduledFlush == null) {
+                scheduledFlush = executor.schedule({ flushPending() }, window, TimeUnit.MILLISECONDS)
+            }
+        }
+    }
+
+    /**
+     * Sends the viewed logs of the pending notifications right away.
+     */
+    fun flush() {
+        execute { flushPending() }
+    }
+
+    /**
+     * Sends the pending viewed logs, and releases the worker thread.
+     */
+    fun dispose() {
+        flush()
+        executor.shutdown()
+    }
+
+    private fun execute(task: () -> Unit) {
+        if (executor.isShutdown) return
+        executor.execute {
+            try {
+                task()
+            } catch (e: Exception) {
+                Logger.w(e)
+            }
+        }
+    }
+
+    private fun flushPending() {
+        scheduledFlush?.cancel(false)
+        scheduledFlush = null
+        if (pending.isEmpty()) return
+
+        val messages = pending.values.chunked(maxBatchSize)
+        pending.clear()
+        val loggedIds = loadLoggedIds()
+        val newIds = mutableListOf<Long>()
+        messages.forEach { batch ->
+            val result = sender(batch)
+            Logger.d { "++ NotificationViewedLogAggregator::flushPending() size=${batch.size}, result=$result" }
+            // the notifications failed to be logged are sent again when they're viewed next time.
+            if (result) batch.forEach { if (loggedIds.add(it.messageId)) newIds.add(it.messageId) }
+        }
+        while (loggedIds.size > MAX_LOGGED_IDS) {
+            loggedIds.remove(loggedIds.first())
+        }
+        NotificationViewedLogStore.append(channelUrl, newIds, loggedIds)
+    }
+
+    private fun loadLoggedIds(): LinkedHashSet<Long> {
+        return loggedIds ?: NotificationViewedLogStore.load(channelUrl).also { ids ->
+            while (ids.size > MAX_LOGGED_IDS) {
+                ids.remove(ids.first())
+            }
+            loggedIds = ids
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.sendbird.uikit.internal.utils
 
 import android.graphics.Rect
+import android.util.SparseBooleanArray
 import android.view.View
 import android.view.ViewTreeObserver.OnGlobalLayoutListener
 import androidx.recyclerview.widget.RecyclerView
@@ -8,6 +9,7 @@ import com.sendbird.uikit.internal.extensions.runOnUiThread
 import com.sendbird.uikit.log.Logger
 import com.sendbird.uikit.utils.ClearableScheduledExecutorService
 import java.util.concurrent.TimeUnit
+import kotlin.math.abs
 
 /**
  * Notification Viewed Tracker fires events in two cases
@@ -15,6 +17,12 @@ import java.util.concurrent.TimeUnit
  * 2. when scrolling stops.
  *
  * The first time an item is added, the event is fired immediately with no delay, and if the scroll stops, the event is fired after the time value of [debounce].
+ *
+ * The adapter positions of the items visible more than [visibleThreshold] of their size are kept up to date while the children are attached, detached and scrolled,
+ * and each event delivers only the positions which have become visible since the previous event.
+ * When the list is scrolled, only the children within the scrolled distance from the edges are checked again,
+ * because the visibility of the others can't be changed by the scroll.
+ * The positions that [isViewable] rejects are delivered again by the next event once they're accepted.
  */
 internal class NotificationViewedTracker(
     private val recyclerView: RecyclerView,
@@ -23,10 +31,31 @@ internal class NotificationViewedTracker(
     private val scheduler by lazy { ClearableScheduledExecutorService() }
     private var initialDataLoaded = false
     private var isRunning = false
-    var onNotificationViewedDetected: (() -> Unit)? = null
+    var onNotificationViewedDetected: ((positions: IntArray) -> Unit)? = null
+    var isViewable: ((position: Int) -> Boolean)? = null
+
+    /**
+     * The ratio of the size of an item that has to be visible to be regarded as viewed. (0 ~ 1)
+     * 0 means any visible part of the item.
+     */
+    var visibleThreshold: Float = 0f
+        set(value) {
+            field = value.coerceIn(0f, 1f)
+            positionsInvalidated = true
+        }
+
+    // accessed only on the main thread.
+    private val globalVisibleRect = Rect()
+    private val visiblePositions = SparseBooleanArray()
+    private var reportedPositions = SparseBooleanArray()
+    private var viewablePositions = SparseBooleanArray()
+    private var positionsInvalidated = false
+
     private val onChildAttachStateChangeListener by lazy {
         object : RecyclerView.OnChildAttachStateChangeListener {
             override fun onChildViewAttachedToWindow(view: View) {
+                // the children attached during a layout are measured later, so they're collected again from the children before the next event.
+                if (view.isLaidOut && !view.isLayoutRequested) updateVisibility(view) else positionsInvalidated = true
                 if (!initialDataLoaded && recyclerView.childCount > 0) {
                     initialDataLoaded = true
                     startSchedule()
@@ -34,6 +63,12 @@ internal class NotificationViewedTracker(
             }
 
             override fun onChildViewDetachedFromWindow(view: View) {
+                val position = recyclerView.getChildAdapterPosition(view)
+                if (position == RecyclerView.NO_POSITION) {
+                    positionsInvalidated = true
+                } else {
+                    visiblePositions.delete(position)
+                }
                 // this callback is called just before the view is detached.
                 // so child count never be 0.
                 if (initialDataLoaded && recyclerView.childCount <= 1) {
@@ -43,6 +78,23 @@ internal class NotificationViewedTracker(
         }
     }
 
+    /**
+     * The adapter positions of the visible items are shifted by the data changes, so they're collected again from the children.
+     */
+    private val adapterDataObserver by lazy {
+        object : RecyclerView.AdapterDataObserver() {
+            override fun onChanged() {
+                positionsInvalidated = true
+                reportedPositions.clear()
+            }
+
+            override fun onItemRangeInserted(positionStart: Int, itemCount: Int) = onChanged()
+            override fun onItemRangeRemoved(positionStart: Int, itemCount: Int) = onChanged()
+            override fun onItemRangeMoved(fromPosition: Int, toPosition: Int, itemCount: Int) = onChanged()
+        }
+    }
+    private var observedAdapter: RecyclerView.Adapter<*>? = null
+
     override fun onScrollStateChanged(view: RecyclerView, scrollState: Int) {
         if (view.childCount <= 0) return
         if (scrollState == RecyclerView.SCROLL_STATE_IDLE) {
@@ -53,11 +105,12 @@ internal class NotificationViewedTracker(
     }
 
     override fun onScrolled(recyclerView: RecyclerView, dx: Int, dy: Int) {
+        if (dx != 0 || dy != 0) updateEdgeVisibility(dx, dy)
         if (initialDataLoaded) return
         if (recyclerView.childCount <= 0) return
 
         // Make sure the current view is drawn on the screen
-        if (!recyclerView.getGlobalVisibleRect(Rect())) return
+        if (!recyclerView.getGlobalVisibleRect(globalVisibleRect)) return
         if (dx == 0 && dy == 0) {
             // This is the case when the item is initially loaded.
             startSchedule()
@@ -70,7 +123,7 @@ internal class NotificationViewedTracker(
         if (recyclerView.childCount <= 0) return
 
         // Once the layout has been drawn, it will continue to return true. But that's not a problem because we only need to catch it the first time.
-        if (!recyclerView.getGlobalVisibleRect(Rect())) return
+        if (!recyclerView.getGlobalVisibleRect(globalVisibleRect)) return
         startSchedule()
         initialDataLoaded = true
         recyclerView.viewTreeObserver.removeOnGlobalLayoutListener(this)
@@ -82,6 +135,7 @@ internal class NotificationViewedTracker(
         if (isRunning) return
         recyclerView.addOnScrollListener(this)
         recyclerView.addOnChildAttachStateChangeListener(onChildAttachStateChangeListener)
+        positionsInvalidated = true
 
         /**
          * If it is organized in tabs, the View's Visibility is View.Visible, but it may not actually be visible on the screen.
@@ -99,12 +153,16 @@ internal class NotificationViewedTracker(
         recyclerView.removeOnScrollListener(this)
         recyclerView.viewTreeObserver.removeOnGlobalLayoutListener(this)
         recyclerView.removeOnChildAttachStateChangeListener(onChildAttachStateChangeListener)
+        observedAdapter?.unregisterAdapterDataObserver(adapterDataObserver)
+        observedAdapter = null
+        visiblePositions.clear()
+        reportedPositions.clear()
         cancelSchedule()
     }
 
     @Synchronized
     private fun startSchedule(initialDelay: Long = 300L) {
-        Logger.d(">> NotificationViewedTracker::startSchedule(), initialDelay: $initialDelay")
+        Logger.d { ">> NotificationViewedTracker::startSchedule(), initialDelay: $initialDelay" }
 
         if (initialDelay > 0L) {
             scheduler.schedule({
@@ -124,8 +182,111 @@ internal class NotificationViewedTracker(
 
     private fun notifyNotificationViewed() {
         runOnUiThread {
-            Logger.i(">> notifications viewed detected")
-            onNotificationViewedDetected?.invoke()
+            if (!isRunning) return@runOnUiThread
+            observeAdapter()
+            if (positionsInvalidated) updateVisibility()
+
+            var count = 0
+            viewablePositions.clear()
+            for (i in 0 until visiblePositions.size()) {
+                val position = visiblePositions.keyAt(i)
+                if (isViewable?.invoke(position) == false) continue
+                viewablePositions.put(position, true)
+                if (!reportedPositions.get(position)) count++
+            }
+            val positions = IntArray(count)
+            count = 0
+            for (i in 0 until viewablePositions.size()) {
+                val position = viewablePositions.keyAt(i)
+                if (!reportedPositions.get(position)) positions[count++] = position
+            }
+            // the positions scrolled out are delivered again when they become visible again.
+            val reported = viewablePositions
+            viewablePositions = reportedPositions
+            reportedPositions = reported
+
+            Logger.i(">> notifications viewed detected, newly visible: %s", positions.size)
+            if (positions.isNotEmpty()) onNotificationViewedDetected?.invoke(positions)
+        }
+    }
+
+    /**
+     * The data changes are observed lazily, because the adapter is set after the tracker is started.
+     */
+    private fun observeAdapter() {
+        val adapter = recyclerView.adapter
+        if (adapter === observedAdapter) return
+        observedAdapter?.unregisterAdapterDataObserver(adapterDataObserver)
+        adapter?.registerAdapterDataObserver(adapterDataObserver)
+        observedAdapter = adapter
+        positionsInvalidated = true
+        reportedPositions.clear()
+    }
+
+    private fun updateVisibility() {
+        positionsInvalidated = false
+        visiblePositions.clear()
+        for (i in 0 until recyclerView.childCount) {
+            updateVisibility(recyclerView.getChildAt(i))
+        }
+    }
+
+    /**
+     * The children are laid out in order along the scroll axis, so the children are checked from each end
+     * until a child which is farther from both edges than the scrolled distance is found.
+     */
+    private fun updateEdgeVisibility(dx: Int, dy: Int) {
+        if (positionsInvalidated) {
+            updateVisibility()
+            return
+        }
+        val horizontal = recyclerView.layoutManager?.canScrollHorizontally() == true
+        val distance = if (horizontal) abs(dx) else abs(dy)
+        val count = recyclerView.childCount
+        var first = 0
+        while (first < count) {
+            val child = recyclerView.getChildAt(first++)
+            updateVisibility(child)
+            if (!isNearEdge(child, horizontal, distance)) break
+        }
+        var last = count - 1
+        while (last >= first) {
+            val child = recyclerView.getChildAt(last--)
+            updateVisibility(child)
+            if (!isNearEdge(child, horizontal, distance)) break
+        }
+    }
+
+    private fun isNearEdge(child: View, horizontal: Boolean, distance: Int): Boolean {
+        return if (horizontal) {
+            child.left < recyclerView.paddingLeft + distance || child.right > recyclerView.width - recyclerView.paddingRight - distance
+        } else {
+            child.top < recyclerView.paddingTop + distance || child.bottom > recyclerView.height - recyclerView.paddingBottom - distance
+        }
+    }
+
+    private fun updateVisibility(child: View) {
+        val position = recyclerView.getChildAdapterPosition(child)
+        if (position == RecyclerView.NO_POSITION) {
+            positionsInvalidated = true
+            return
+        }
+        if (isVisible(child)) {
+            visiblePositions.put(position, true)
+        } else {
+            visiblePositions.delete(position)
+        }
+    }
+
+    private fun isVisible(child: View): Boolean {
+        val horizontal = recyclerView.layoutManager?.canScrollHorizontally() == true
+        val size = if (horizontal) child.width else child.height
+        if (size <= 0) return false
+        val visibleSize = if (horizontal) {
+            minOf(child.right, recyclerView.width - recyclerView.paddingRight) - maxOf(child.left, recyclerView.paddingLeft)
+        } else {
+            minOf(child.bottom, recyclerView.height - recyclerView.paddingBottom) - maxOf(child.top, recyclerView.paddingTop)
         }
+        return visibleSize > 0 && visibleSize >= size * visibleThreshold
     }
 }
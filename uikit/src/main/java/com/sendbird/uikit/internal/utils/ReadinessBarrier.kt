@@ -0,0 +1,71 @@
+package com.sendbird.uikit.internal.utils
+
+import android.os.Looper
+import com.sendbird.uikit.consts.UIKitMetric
+import com.sendbird.uikit.internal.singleton.MetricsTracker
+import com.sendbird.uikit.log.Logger
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executor
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.FutureTask
+
+/**
+ * Readiness Barrier initializes a subsystem in the background, and blocks only the callers which need the result until it's done.
+ *
+ * The barriers start on the executor right after they're created. The barriers on the default executor run in parallel.
+ * If the barrier hasn't started yet when it's awaited on a worker thread, the waiting thread runs it instead of waiting for a worker thread.
+ * The main thread never runs it, and a warning is logged when the main thread has to wait for it.
+ */
+internal class ReadinessBarrier<T> @JvmOverloads constructor(
+    private val name: String,
+    task: Callable<T>,
+    executor: Executor = defaultExecutor
+) {
+    private val future = FutureTask(task)
+
+    init {
+        executor.execute(future)
+    }
+
+    val isReady: Boolean
+        get() = future.isDone
+
+    /**
+     * Returns the result of the initialization, and blocks until it's done.
+     * The exception thrown by the initialization is thrown again.
+     */
+    fun await(): T {
+        if (!future.isDone) {
+            val isMainThread = Looper.myLooper() == Looper.getMainLooper()
+            if (isMainThread) {
+                Logger.w(">> ReadinessBarrier::await() the main thread is blocked until %s is ready", name)
+            } else {
+                Logger.d { ">> ReadinessBarrier::await() name=$name, thread=${Thread.currentThread().name}" }
+            }
+            val startedAt = MetricsTracker.begin(UIKitMetric.INITIALIZATION_WAIT)
+            try {
+                // the task is already submitted to the executor, so the main thread only waits for it.
+                // it returns immediately if the task is already running on the other thread.
+                if (!isMainThread) future.run()
+                return unwrap()
+            } finally {
+                MetricsTracker.end(UIKitMetric.INITIALIZATION_WAIT, name, startedAt)
+            }
+        }
+        return unwrap()
+    }
+
+    private fun unwrap(): T {
+        try {
+            return future.get()
+        } catch (e: ExecutionException) {
+            throw e.cause ?: e
+        }
+    }
+
+    companion object {
+        private val defaultExecutor: ExecutorService = Executors.newCachedThreadPool()
+    }
+}
@@ -18,7 +18,7 @@ internal class TemplateViewCachePool {
     internal fun getScrappedView(key: String): View? {
         val views = viewCachePool[key]
         return views?.firstOrNull { it.parent == null }.also {
-            Logger.d("key: $key, view cache ${if (it != null) "hit" else "missed"}")
+            Logger.d { "key: $key, view cache ${if (it != null) "hit" else "missed"}" }
         }
     }
 
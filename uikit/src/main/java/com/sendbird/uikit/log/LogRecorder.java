@@ -0,0 +1,142 @@
+package com.sendbird.uikit.log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.IllegalFormatException;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keeps the latest logs in a fixed size ring buffer in the memory.
+ * The writers never lock. Each log is stored as an immutable entry in the next slot, and the oldest log is overwritten when the buffer is full.
+ * The messages are formatted only when the logs are dumped.
+ */
+final class LogRecorder {
+    private static final class Entry {
+        private final long sequence;
+        private final int level;
+        private final long timestamp;
+        private final long threadId;
+        @NonNull
+        private final String tag;
+        @NonNull
+        private final String format;
+        @Nullable
+        private final Object[] args;
+
+        Entry(long sequence, int level, long timestamp, long threadId, @NonNull String tag, @NonNull String format, @Nullable Object[] args) {
+            this.sequence = sequence;
+            this.level = level;
+            this.timestamp = timestamp;
+            this.threadId = threadId;
+            this.tag = tag;
+            this.format = format;
+            this.args = args;
+        }
+    }
+
+    @NonNull
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+    @NonNull
+    private final AtomicLong cursor = new AtomicLong();
+
+    LogRecorder(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    void record(@NonNull Tag tag, int level, @NonNull String format, @NonNull Object[] args) {
+        final long sequence = cursor.getAndIncrement();
+        final Entry entry = new Entry(sequence, level, System.currentTimeMillis(), Thread.currentThread().getId(),
+            tag.tag(), format, args.length == 0 ? null : freeze(args));
+        slots.set((int) (sequence & mask), entry);
+    }
+
+    /**
+     * Writes the recorded logs from the oldest one. The logs being written or overwritten while dumping are skipped.
+     * The stream is flushed but not closed.
+     */
+    void dump(@NonNull OutputStream outputStream) throws IOException {
+        final SimpleDateFormat dateFormat = new SimpleDateFormat("MM-dd HH:mm:ss.SSS", Locale.US);
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, Charset.forName("UTF-8")));
+        final long end = cursor.get();
+        final long start = Math.max(0, end - slots.length());
+        for (long sequence = start; sequence < end; sequence++) {
+            final Entry entry = slots.get((int) (sequence & mask));
+            if (entry == null || entry.sequence != sequence) continue;
+
+            writer.write(dateFormat.format(new Date(entry.timestamp)));
+            writer.write(' ');
+            writer.write(String.valueOf(entry.threadId));
+            writer.write(' ');
+            writer.write(toLevelName(entry.level));
+            writer.write(' ');
+            writer.write(entry.tag);
+            writer.write(": ");
+            writer.write(formatMessage(entry.format, entry.args));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    /**
+     * Keeps the arguments which can't be changed after logging, and converts the others to strings.
+     */
+    @NonNull
+    private static Object[] freeze(@NonNull Object[] args) {
+        Object[] frozen = args;
+        for (int i = 0; i < args.length; i++) {
+            final Object arg = args[i];
+            if (arg == null || arg instanceof String || arg instanceof Number
+                || arg instanceof Boolean || arg instanceof Character || arg instanceof Enum) {
+                continue;
+            }
+            if (frozen == args) frozen = args.clone();
+            frozen[i] = String.valueOf(arg);
+        }
+        return frozen;
+    }
+
+    @NonNull
+    private static String formatMessage(@Nullable String format, @Nullable Object[] args) {
+        if (format == null) return "";
+        if (args == null) return format;
+        try {
+            return String.format(format, args);
+        } catch (IllegalFormatException e) {
+            return format;
+        }
+    }
+
+    @NonNull
+    private static String toLevelName(int level) {
+        switch (level) {
+            case LoggerConfig.DEV:
+                return "DEV";
+            case LoggerConfig.VERBOSE:
+                return "V";
+            case LoggerConfig.DEBUG:
+                return "D";
+            case LoggerConfig.INFO:
+                return "I";
+            case LoggerConfig.WARN:
+                return "W";
+            case LoggerConfig.ERROR:
+                return "E";
+            default:
+                return String.valueOf(level);
+        }
+    }
+}
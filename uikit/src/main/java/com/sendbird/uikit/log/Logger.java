@@ -7,6 +7,8 @@ import androidx.annotation.Nullable;
 
 import com.sendbird.uikit.BuildConfig;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
@@ -15,17 +17,82 @@ public class Logger {
     private Logger() {
     }
 
+    /**
+     * Interface definition for a log message which is built only when the log is printed.
+     * It's used on the hot paths to avoid building the message when the log level is disabled.
+     *
+     * since 3.22.0
+     */
+    public interface MessageSupplier {
+        @NonNull
+        String get();
+    }
+
     private static final int LOG_SEGMENT_SIZE = 2000;
+    private static final int RECORD_CAPACITY = 4096;
+    @NonNull
+    private static final Object[] NO_ARGS = new Object[0];
     // logLevel should be initialized before loggerConfig initialization
     private static int logLevel = LoggerConfig.DEV;
     @NonNull
     private static LoggerConfig loggerConfig = initLogConfig();
+    // the logs are not recorded by default.
+    private static volatile int recordLevel = Integer.MAX_VALUE;
+    @Nullable
+    private static volatile LogRecorder recorder;
 
     public static void setLogLevel(int logLevel) {
         Logger.logLevel = logLevel;
         loggerConfig = initLogConfig();
     }
 
+    /**
+     * Sets the minimum level of the logs kept in the memory regardless of the printing level.
+     * The latest logs are kept up to the fixed count, and they can be written with {@link #dumpRecordedLogs(OutputStream)}.
+     *
+     * @param level The minimum level of the logs to keep. {@link Integer#MAX_VALUE} stops recording
+     * since 3.22.0
+     */
+    public static synchronized void setRecordLevel(int level) {
+        if (level != Integer.MAX_VALUE && recorder == null) {
+            recorder = new LogRecorder(RECORD_CAPACITY);
+        }
+        recordLevel = level;
+    }
+
+    /**
+     * Writes the logs kept in the memory from the oldest one. The stream is flushed but not closed.
+     *
+     * @param outputStream The stream to write the logs to
+     * @throws IOException if the logs can't be written
+     * since 3.22.0
+     */
+    public static void dumpRecordedLogs(@NonNull OutputStream outputStream) throws IOException {
+        final LogRecorder recorder = Logger.recorder;
+        if (recorder == null) return;
+        recorder.dump(outputStream);
+    }
+
+    /**
+     * Returns whether the debug logs are printed or recorded. It's used to skip the work only for the logs on the hot paths.
+     *
+     * @return true if the debug logs are printed or recorded, false otherwise
+     * since 3.22.0
+     */
+    public static boolean isDebugEnabled() {
+        return isLoggable(LoggerConfig.DEBUG);
+    }
+
+    /**
+     * Returns whether the development logs are printed or recorded.
+     *
+     * @return true if the development logs are printed or recorded, false otherwise
+     * since 3.22.0
+     */
+    public static boolean isDevEnabled() {
+        return isLoggable(LoggerConfig.DEV);
+    }
+
     @NonNull
     private static LoggerConfig initLogConfig() {
         int printLogLevel = LoggerConfig.DEV;
@@ -46,12 +113,26 @@ public class Logger {
         return builder.build();
     }
 
+    private static boolean isLoggable(int level) {
+        return loggerConfig.isPrintLoggable(level) || level >= recordLevel;
+    }
+
     private static int printLog(@NonNull Tag tag, int logLevel, @NonNull String msg) {
-        boolean withStack = true;
-        String message = loggerConfig.getMessage(withStack, msg);
+        return log(tag, logLevel, msg, NO_ARGS);
+    }
+
+    private static int log(@NonNull Tag tag, int logLevel, @NonNull String format, @NonNull Object[] args) {
+        final LogRecorder recorder = Logger.recorder;
+        if (recorder != null && logLevel >= recordLevel) {
+            recorder.record(tag, logLevel, format, args);
+        }
+        // the level is checked first because finding the caller walks the stack trace.
         if (!loggerConfig.isPrintLoggable(logLevel)) {
             return 0;
         }
+        final String msg = args.length > 0 ? String.format(format, args) : format;
+        boolean withStack = true;
+        String message = loggerConfig.getMessage(withStack, msg);
 
         String tagMsg = tag.tag();
         int messageLen = message.length();
@@ -116,7 +197,7 @@ public class Logger {
     @NonNull
     public static String getCallerTraceInfo(@SuppressWarnings("rawtypes")
                                             @NonNull Class klass) {
-        if (!loggerConfig.isPrintLoggable(LoggerConfig.DEBUG)) {
+        if (!isLoggable(LoggerConfig.DEBUG)) {
             return "unknown caller";
         }
         StackTraceElement[] stacks = Thread.currentThread().getStackTrace();
@@ -152,22 +233,18 @@ public class Logger {
     }
 
     public static int vt(@NonNull Tag tag, @Nullable Throwable tr) {
+        if (!isLoggable(LoggerConfig.VERBOSE)) return 0;
         return vt(tag, getStackTraceString(tr));
     }
 
     public static int vt(@NonNull Tag tag, @NonNull String msg, @Nullable Throwable tr) {
+        if (!isLoggable(LoggerConfig.VERBOSE)) return 0;
         return vt(tag, "%s\n%s", msg, getStackTraceString(tr));
     }
 
     private static int vt(@NonNull Tag tag, @NonNull String format, @NonNull Object... args) {
-        if (loggerConfig.isPrintLoggable(LoggerConfig.VERBOSE)) {
-            String message;
-            if (args.length > 0) {
-                message = String.format(format, args);
-            } else {
-                message = format;
-            }
-            return printLog(tag, LoggerConfig.VERBOSE, message);
+        if (isLoggable(LoggerConfig.VERBOSE)) {
+            return log(tag, LoggerConfig.VERBOSE, format, args);
         } else {
             return 0;
         }
@@ -190,23 +267,31 @@ public class Logger {
         return vt(loggerConfig.getDefaultTag(), msg, tr);
     }
 
+    /**
+     * Prints the message built by the supplier. The supplier isn't called if the verbose level is disabled.
+     *
+     * @param supplier The supplier building the message
+     * @return The number of bytes written
+     * since 3.22.0
+     */
+    public static int v(@NonNull MessageSupplier supplier) {
+        if (!isLoggable(LoggerConfig.VERBOSE)) return 0;
+        return vt(loggerConfig.getDefaultTag(), supplier.get());
+    }
+
     public static int dt(@NonNull Tag tag, @Nullable Throwable tr) {
+        if (!isLoggable(LoggerConfig.DEBUG)) return 0;
         return dt(tag, getStackTraceString(tr));
     }
 
     public static int dt(@NonNull Tag tag, @NonNull String msg, @Nullable Throwable tr) {
+        if (!isLoggable(LoggerConfig.DEBUG)) return 0;
         return dt(tag, "%s\n%s", msg, getStackTraceString(tr));
     }
 
     private static int dt(@NonNull Tag tag, @NonNull String format, @NonNull Object... args) {
-        if (loggerConfig.isPrintLoggable(LoggerConfig.DEBUG)) {
-            String message;
-            if (args.length > 0) {
-                message = String.format(format, args);
-            } else {
-                message = format;
-            }
-            return printLog(tag, LoggerConfig.DEBUG, message);
+        if (isLoggable(LoggerConfig.DEBUG)) {
+            return log(tag, LoggerConfig.DEBUG, format, args);
         } else {
             return 0;
         }
@@ -232,23 +317,31 @@ public class Logger {
         return dt(loggerConfig.getDefaultTag(), msg, tr);
     }
 
+    /**
+     * Prints the message built by the supplier. The supplier isn't called if the debug level is disabled.
+     *
+     * @param supplier The supplier building the message
+     * @return The number of bytes written
+     * since 3.22.0
+     */
+    public static int d(@NonNull MessageSupplier supplier) {
+        if (!isLoggable(LoggerConfig.DEBUG)) return 0;
+        return dt(loggerConfig.getDefaultTag(), supplier.get());
+    }
+
     public static int it(@NonNull Tag tag, @Nullable Throwable tr) {
+        if (!isLoggable(LoggerConfig.INFO)) return 0;
         return it(tag, getStackTraceString(tr));
     }
 
     public static int it(@NonNull Tag tag, @NonNull String msg, @Nullable Throwable tr) {
+        if (!isLoggable(LoggerConfig.INFO)) return 0;
         return it(tag, "%s\n%s", msg, getStackTraceString(tr));
     }
 
     private static int it(@NonNull Tag tag, @NonNull String format, @NonNull Object... args) {
-        if (loggerConfig.isPrintLoggable(LoggerConfig.INFO)) {
-            String message;
-            if (args.length > 0) {
-                message = String.format(format, args);
-            } else {
-                message = format;
-            }
-            return printLog(tag, LoggerConfig.INFO, message);
+        if (isLoggable(LoggerConfig.INFO)) {
+            return log(tag, LoggerConfig.INFO, format, args);
         } else {
             return 0;
         }
@@ -270,18 +363,31 @@ public class Logger {
         return it(loggerConfig.getDefaultTag(), msg, tr);
     }
 
+    /**
+     * Prints the message built by the supplier. The supplier isn't called if the info level is disabled.
+     *
+     * @param supplier The supplier building the message
+     * @return The number of bytes written
+     * since 3.22.0
+     */
+    public static int i(@NonNull MessageSupplier supplier) {
+        if (!isLoggable(LoggerConfig.INFO)) return 0;
+        return it(loggerConfig.getDefaultTag(), supplier.get());
+    }
+
     public static int wt(@NonNull Tag tag, @Nullable Throwable tr) {
+        if (!isLoggable(LoggerConfig.WARN)) return 0;
         return wt(tag, getStackTraceString(tr));
     }
 
     public static int wt(@NonNull Tag tag, @NonNull String msg, @Nullable Throwable tr) {
+        if (!isLoggable(LoggerConfig.WARN)) return 0;
         return wt(tag, "%s\n%s", msg, getStackTraceString(tr));
     }
 
     private static int wt(@NonNull Tag tag, @NonNull String format, @NonNull Object... args) {
-        if (loggerConfig.isPrintLoggable(LoggerConfig.WARN)) {
-            String message = String.format(format, args);
-            return printLog(tag, LoggerConfig.WARN, message);
+        if (isLoggable(LoggerConfig.WARN)) {
+            return log(tag, LoggerConfig.WARN, format, args);
         } else {
             return 0;
         }
@@ -308,22 +414,18 @@ public class Logger {
     }
 
     public static int et(@NonNull Tag tag, @Nullable Throwable tr) {
+        if (!isLoggable(LoggerConfig.ERROR)) return 0;
         return et(tag, getStackTraceString(tr));
     }
 
     public static int et(@NonNull Tag tag, @NonNull String msg, @Nullable Throwable tr) {
+        if (!isLoggable(LoggerConfig.ERROR)) return 0;
         return et(tag, "%s\n%s", msg, getStackTraceString(tr));
     }
 
     private static int et(@NonNull Tag tag, @NonNull String format, @NonNull Object... args) {
-        if (loggerConfig.isPrintLoggable(LoggerConfig.ERROR)) {
-            String message;
-            if (args.length > 0) {
-                message = String.format(format, args);
-            } else {
-                message = format;
-            }
-            return printLog(tag, LoggerConfig.ERROR, message);
+        if (isLoggable(LoggerConfig.ERROR)) {
+            return log(tag, LoggerConfig.ERROR, format, args);
         } else {
             return 0;
         }
@@ -350,22 +452,18 @@ public class Logger {
     }
 
     public static int devt(@NonNull Tag tag, @Nullable Throwable tr) {
+        if (!isLoggable(LoggerConfig.DEV)) return 0;
         return devt(tag, getStackTraceString(tr));
     }
 
     public static int devt(@NonNull Tag tag, @NonNull String msg, @Nullable Throwable tr) {
+        if (!isLoggable(LoggerConfig.DEV)) return 0;
         return devt(tag, "%s\n%s", msg, getStackTraceString(tr));
     }
 
     private static int devt(@NonNull Tag tag, @NonNull String format, @NonNull Object... args) {
-        if (loggerConfig.isPrintLoggable(LoggerConfig.DEV)) {
-            String message;
-            if (args.length > 0) {
-                message = String.format(format, args);
-            } else {
-                message = format;
-            }
-            return printLog(tag, LoggerConfig.DEV, message);
+        if (isLoggable(LoggerConfig.DEV)) {
+            return log(tag, LoggerConfig.DEV, format, args);
         } else {
             return 0;
         }
@@ -390,4 +488,16 @@ public class Logger {
     public static int dev(@NonNull String msg, @Nullable Throwable tr) {
         return devt(loggerConfig.getDefaultTag(), msg, tr);
     }
+
+    /**
+     * Prints the message built by the supplier. The supplier isn't called if the dev level is disabled.
+     *
+     * @param supplier The supplier building the message
+     * @return The number of bytes written
+     * since 3.22.0
+     */
+    public static int dev(@NonNull MessageSupplier supplier) {
+        if (!isLoggable(LoggerConfig.DEV)) return 0;
+        return devt(loggerConfig.getDefaultTag(), supplier.get());
+    }
 }
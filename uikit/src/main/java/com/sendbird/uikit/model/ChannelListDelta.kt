@@ -0,0 +1,108 @@
+package com.sendbird.uikit.model
+
+import com.sendbird.android.channel.GroupChannel
+
+/**
+ * Class that holds the changes of the channel list between two consecutive emissions.
+ * Collection events that arrive within a short window are coalesced into a single delta.
+ *
+ * @since 3.22.0
+ */
+data class ChannelListDelta(
+    /**
+     * Returns the version of the channel list this delta was calculated from.
+     * If it doesn't match the version that the receiver has applied last, the delta should be ignored and the whole list should be refreshed.
+     *
+     * @return The version of the previous channel list
+     * @since 3.22.0
+     */
+    val baseVersion: Long,
+    /**
+     * Returns the version of the channel list after this delta is applied.
+     *
+     * @return The version of the current channel list
+     * @since 3.22.0
+     */
+    val version: Long,
+    /**
+     * Returns the latest channel list.
+     *
+     * @return The list of channels after this delta is applied
+     * @since 3.22.0
+     */
+    val channelList: List<GroupChannel>,
+    /**
+     * Returns the urls of the channels that are newly added to the list.
+     *
+     * @return The set of inserted channel urls
+     * @since 3.22.0
+     */
+    val insertedChannelUrls: Set<String> = emptySet(),
+    /**
+     * Returns the urls of the channels whose data has been changed.
+     *
+     * @return The set of updated channel urls
+     * @since 3.22.0
+     */
+    val updatedChannelUrls: Set<String> = emptySet(),
+    /**
+     * Returns the urls of the updated channels whose position has been changed.
+     *
+     * @return The set of moved channel urls
+     * @since 3.22.0
+     */
+    val movedChannelUrls: Set<String> = emptySet(),
+    /**
+     * Returns the urls of the channels that are removed from the list.
+     *
+     * @return The set of removed channel urls
+     * @since 3.22.0
+     */
+    val removedChannelUrls: Set<String> = emptySet(),
+    /**
+     * Returns the position of the first channel of [channelList] in the whole list.
+     * It's always 0 unless [ChannelListPagingConfig] is applied.
+     *
+     * @return The offset of the window
+     * @since 3.22.0
+     */
+    val windowOffset: Int = 0,
+    /**
+     * Returns the number of channels loaded in the whole list including the channels outside of the window.
+     * It's the same as the size of [channelList] unless [ChannelListPagingConfig] is applied.
+     *
+     * @return The number of loaded channels
+     * @since 3.22.0
+     */
+    val totalCount: Int = channelList.size
+) {
+    /**
+     * Returns whether [channelList] covers the whole list.
+     *
+     * @return `true` if there is no channel outside of the window, `false` otherwise
+     * @since 3.22.0
+     */
+    fun isFullWindow(): Boolean = windowOffset == 0 && totalCount == channelList.size
+
+    /**
+     * Returns whether any channel needs to be rebound.
+     *
+     * @return `true` if there is a change in this delta, `false` otherwise
+     * @since 3.22.0
+     */
+    fun hasChanges(): Boolean {
+        return insertedChannelUrls.isNotEmpty() || updatedChannelUrls.isNotEmpty() ||
+            movedChannelUrls.isNotEmpty() || removedChannelUrls.isNotEmpty()
+    }
+
+    /**
+     * Returns whether the channel of the given url has been inserted or updated in this delta.
+     *
+     * @param channelUrl The url of the channel to check
+     * @return `true` if the channel has to be rebound, `false` otherwise
+     * @since 3.22.0
+     */
+    fun isChanged(channelUrl: String): Boolean {
+        return insertedChannelUrls.contains(channelUrl) || updatedChannelUrls.contains(channelUrl)
+    }
+}
@@ -0,0 +1,35 @@
+package com.sendbird.uikit.model
+
+/**
+ * Describes a configuration of the paged channel list.
+ * When it's applied, only the channels in a bounded window around the viewport are emitted and bound,
+ * and the other rows are displayed as placeholders.
+ * @since 3.22.0
+ */
+data class ChannelListPagingConfig @JvmOverloads constructor(
+    /**
+     * Returns the number of channels in a page.
+     * The default value is 20.
+     * @since 3.22.0
+     */
+    val pageSize: Int = 20,
+    /**
+     * Returns the maximum number of pages kept in the window.
+     * The pages far from the viewport are dropped from the window.
+     * The default value is 5.
+     * @since 3.22.0
+     */
+    val maxWindowPages: Int = 5
+) {
+    init {
+        require(pageSize > 0) { "illegal pageSize: $pageSize" }
+        require(maxWindowPages >= 3) { "illegal maxWindowPages: $maxWindowPages" }
+    }
+
+    /**
+     * Returns the maximum number of channels kept in the window.
+     * @since 3.22.0
+     */
+    val windowSize: Int
+        get() = pageSize * maxWindowPages
+}
@@ -1,11 +1,23 @@
 package com.sendbird.uikit.model
 
+import android.content.Context
 import android.util.Base64
+import androidx.annotation.WorkerThread
+import com.bumptech.glide.Glide
 import com.sendbird.android.message.Emoji
 import com.sendbird.android.message.EmojiCategory
 import com.sendbird.android.message.EmojiContainer
 import com.sendbird.uikit.consts.StringSet
+import com.sendbird.uikit.consts.UIKitMetric
+import com.sendbird.uikit.internal.singleton.MetricsTracker
+import com.sendbird.uikit.log.Logger
 import com.sendbird.uikit.utils.UIKitPrefs
+import java.io.File
+import java.util.Collections
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.atomic.AtomicReference
 
 /**
  * Manager providing emoji information from Sendbird server.
@@ -13,48 +25,87 @@ import com.sendbird.uikit.utils.UIKitPrefs
  * @since 1.1.0
  */
 object EmojiManager {
+    private const val EMOJI_CONTAINER_FILE_NAME = "sb_emoji_container.bin"
+
+    /**
+     * The emoji information at a point in time. It's never modified after it's created,
+     * so the readers can use it without a lock and the lists can be returned without copying.
+     */
+    private class Snapshot(val emojiHash: String?, categories: List<EmojiCategory>) {
+        val categoryMap: Map<Long, EmojiCategory>
+        val categoryEmojiMap: Map<Long, List<Emoji>>
+        val emojiMap: Map<String, Emoji>
+        val categories: List<EmojiCategory> = Collections.unmodifiableList(categories.toList())
+        val emojis: List<Emoji>
+
+        init {
+            val categoryMap = LinkedHashMap<Long, EmojiCategory>()
+            val categoryEmojiMap = LinkedHashMap<Long, List<Emoji>>()
+            val emojiMap = LinkedHashMap<String, Emoji>()
+            categories.forEach {
+                categoryMap[it.id] = it
+                categoryEmojiMap[it.id] = Collections.unmodifiableList(it.emojis.toList())
+                it.emojis.forEach { emoji ->
+                    emojiMap[emoji.key] = emoji
+                }
+            }
+            this.categoryMap = Collections.unmodifiableMap(categoryMap)
+            this.categoryEmojiMap = Collections.unmodifiableMap(categoryEmojiMap)
+            this.emojiMap = Collections.unmodifiableMap(emojiMap)
+            this.emojis = Collections.unmodifiableList(emojiMap.values.toList())
+        }
+    }
+
+    private val EMPTY = Snapshot(null, emptyList())
+    private val snapshot = AtomicReference(EMPTY)
+    private val worker: ExecutorService by lazy { Executors.newSingleThreadExecutor() }
+    @Volatile
+    private var appContext: Context? = null
+    @Volatile
+    private var loadTask: Future<*>? = null
+
     /**
-     * Returns the emoji hash
+     * Returns the emoji hash.
+     * It never waits for the stored emojis, so it's `null` until they're loaded and the whole emojis are fetched from the server.
      *
      * @return The emoji hash
      * @since 1.1.0
      */
     @JvmStatic
-    var emojiHash: String? = null
-        private set
-    private val emojiLock = Any()
-    private var emojiCategoryMap = LinkedHashMap<Long, EmojiCategory>()
-    private var allEmojiMap = LinkedHashMap<String, Emoji>()
+    val emojiHash: String?
+        get() = snapshot.get().emojiHash
 
+    /**
+     * Loads the emojis stored in the preferences. The emojis are loaded off the main thread.
+     *
+     * @since 1.1.0
+     */
     @JvmStatic
     fun init() {
-        val emojiContainerStr = UIKitPrefs.getString(StringSet.KEY_EMOJI_CONTAINER)
-        if (emojiContainerStr.isNullOrEmpty()) return
-        decodeEmojiContainer(emojiContainerStr)?.let {
-            upsertEmojiContainer(it, false)
-        }
+        if (loadTask != null) return
+        loadTask = worker.submit { load(null) }
     }
 
+    /**
+     * Loads the stored emojis. The emojis are loaded off the main thread, and they're empty until the loading is done.
+     *
+     * @param context The application context
+     * @since 3.22.0
+     */
     @JvmStatic
-    fun upsertEmojiContainer(emojiContainer: EmojiContainer) {
-        upsertEmojiContainer(emojiContainer, true)
+    fun init(context: Context) {
+        if (loadTask != null) return
+        val appContext = context.applicationContext
+        this.appContext = appContext
+        loadTask = worker.submit { load(getEmojiContainerFile(appContext)) }
     }
 
-    private fun upsertEmojiContainer(emojiContainer: EmojiContainer, saveToFile: Boolean) {
-        emojiHash = emojiContainer.emojiHash
-        synchronized(emojiLock) {
-            emojiCategoryMap = LinkedHashMap()
-            allEmojiMap = LinkedHashMap()
-            emojiContainer.emojiCategories.forEach {
-                emojiCategoryMap[it.id] = it
-                it.emojis.forEach { emoji ->
-                    allEmojiMap[emoji.key] = emoji
-                }
-            }
-        }
-        if (saveToFile) {
-            val emojiContainerSerialized: String = encodeEmojiContainer(emojiContainer)
-            UIKitPrefs.putString(StringSet.KEY_EMOJI_CONTAINER, emojiContainerSerialized)
+    @JvmStatic
+    fun upsertEmojiContainer(emojiContainer: EmojiContainer) {
+        snapshot.set(Snapshot(emojiContainer.emojiHash, emojiContainer.emojiCategories))
+        worker.execute {
+            appContext?.let { save(getEmojiContainerFile(it), emojiContainer) }
+            warmUpImages()
         }
     }
 
@@ -67,9 +118,7 @@ object EmojiManager {
      */
     @JvmStatic
     fun getEmojiUrl(key: String): String? {
-        return synchronized(emojiLock) {
-            allEmojiMap[key]?.url
-        }
+        return snapshot.get().emojiMap[key]?.url
     }
 
     @JvmStatic
@@ -80,7 +129,7 @@ object EmojiManager {
          * @return The list of Emoji category list
          * @since 1.1.0
          */
-        get() = emojiCategoryMap.values.toList()
+        get() = snapshot.get().categories
 
     @JvmStatic
     val allEmojis: List<Emoji>
@@ -90,7 +139,7 @@ object EmojiManager {
          * @return The list of Emoji registering Sendbird server
          * @since 1.1.0
          */
-        get() = allEmojiMap.values.toList()
+        get() = snapshot.get().emojis
 
     /**
      * Returns the [List] corresponding to emoji category id
@@ -101,25 +150,78 @@ object EmojiManager {
      */
     @JvmStatic
     fun getEmojis(emojiCategoryId: Long): List<Emoji>? {
-        return synchronized(emojiLock) {
-            emojiCategoryMap[emojiCategoryId]?.emojis?.toList()
-        }
+        return snapshot.get().categoryEmojiMap[emojiCategoryId]
     }
 
     internal fun getEmojis(emojiCategoryIds: List<Long>): List<Emoji>? {
-        return synchronized(emojiLock) {
-            emojiCategoryIds.distinct().mapNotNull { emojiCategoryId ->
-                emojiCategoryMap[emojiCategoryId]?.emojis?.toList()
-            }.flatten()
+        val current = snapshot.get()
+        if (emojiCategoryIds.size == 1) return current.categoryEmojiMap[emojiCategoryIds[0]] ?: emptyList()
+        return emojiCategoryIds.distinct().mapNotNull { emojiCategoryId ->
+            current.categoryEmojiMap[emojiCategoryId]
+        }.flatten()
+    }
+
+    @WorkerThread
+    private fun load(file: File?) {
+        try {
+            val container = file?.takeIf { it.exists() }?.let { EmojiContainer.buildFromSerializedData(it.readBytes()) }
+                ?: loadLegacyEmojiContainer(file)
+            MetricsTracker.count(if (container != null) UIKitMetric.EMOJI_CACHE_HIT else UIKitMetric.EMOJI_CACHE_MISS, null, 1)
+            if (container == null) return
+            // the emojis fetched from the server while loading are newer than the stored ones.
+            snapshot.compareAndSet(EMPTY, Snapshot(container.emojiHash, container.emojiCategories))
+        } catch (e: Exception) {
+            Logger.w(e)
+        }
+    }
+
+    /**
+     * Loads the emojis stored in the preferences by the previous versions, and moves them to the file.
+     */
+    @WorkerThread
+    private fun loadLegacyEmojiContainer(file: File?): EmojiContainer? {
+        val emojiContainerStr = UIKitPrefs.getString(StringSet.KEY_EMOJI_CONTAINER)
+        if (emojiContainerStr.isNullOrEmpty()) return null
+        val container = EmojiContainer.buildFromSerializedData(Base64.decode(emojiContainerStr, Base64.DEFAULT)) ?: return null
+        if (file != null && save(file, container)) {
+            UIKitPrefs.remove(StringSet.KEY_EMOJI_CONTAINER)
         }
+        return container
     }
 
-    private fun encodeEmojiContainer(container: EmojiContainer): String {
-        return Base64.encodeToString(container.serialize(), Base64.DEFAULT)
+    @WorkerThread
+    private fun save(file: File, container: EmojiContainer): Boolean {
+        return try {
+            val tempFile = File(file.parentFile, "${file.name}.tmp")
+            tempFile.writeBytes(container.serialize())
+            tempFile.renameTo(file)
+        } catch (e: Exception) {
+            Logger.w(e)
+            false
+        }
+    }
+
+    /**
+     * Downloads the emoji images to the disk cache of Glide, so they're displayed without the network when the reactions are bound.
+     */
+    @WorkerThread
+    private fun warmUpImages() {
+        val context = appContext ?: return
+        val current = snapshot.get()
+        Logger.d("++ warm up emoji images. count=%s", current.emojis.size)
+        current.emojis.forEach { emoji ->
+            // stop if the emojis are updated again. the new update warms up its own images.
+            if (snapshot.get() !== current) return
+            if (emoji.url.isEmpty()) return@forEach
+            try {
+                Glide.with(context).downloadOnly().load(emoji.url).submit().get()
+            } catch (e: Exception) {
+                Logger.w(e)
+            }
+        }
     }
 
-    private fun decodeEmojiContainer(data: String): EmojiContainer? {
-        val array = Base64.decode(data, Base64.DEFAULT)
-        return EmojiContainer.buildFromSerializedData(array)
+    private fun getEmojiContainerFile(context: Context): File {
+        return File(context.filesDir, EMOJI_CONTAINER_FILE_NAME)
     }
 }
@@ -1,7 +1,10 @@
 package com.sendbird.uikit.model
 
 import android.content.Context
+import android.database.Cursor
 import android.net.Uri
+import android.provider.DocumentsContract
+import android.provider.MediaStore
 import android.provider.OpenableColumns
 import androidx.annotation.VisibleForTesting
 import androidx.annotation.WorkerThread
@@ -13,17 +16,25 @@ import com.sendbird.android.params.FileMessageCreateParams
 import com.sendbird.android.params.MultipleFilesMessageCreateParams
 import com.sendbird.uikit.SendbirdUIKit
 import com.sendbird.uikit.consts.StringSet
+import com.sendbird.uikit.consts.UIKitMetric
 import com.sendbird.uikit.interfaces.OnResultHandler
+import com.sendbird.uikit.internal.extensions.runOnUiThread
 import com.sendbird.uikit.internal.model.VoiceMetaInfo
+import com.sendbird.uikit.internal.singleton.ImageTranscoder
+import com.sendbird.uikit.internal.singleton.MetricsTracker
+import com.sendbird.uikit.internal.singleton.UploadFileCache
 import com.sendbird.uikit.internal.tasks.JobResultTask
+import com.sendbird.uikit.internal.tasks.JobTask
 import com.sendbird.uikit.internal.tasks.TaskQueue.addTask
 import com.sendbird.uikit.log.Logger
 import com.sendbird.uikit.utils.FileUtils
 import com.sendbird.uikit.utils.ImageUtils
 import java.io.File
 import java.io.IOException
-import java.util.Locale
+import java.util.concurrent.CountDownLatch
 import java.util.concurrent.Future
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicReference
 
 @Suppress("MemberVisibilityCanBePrivate")
 class FileInfo internal constructor(
@@ -99,7 +110,8 @@ class FileInfo internal constructor(
         Logger.d(">> FileInfo::clear()")
         if (path.isNotEmpty()) {
             val file = File(path)
-            if (file.exists()) {
+            // the prepared files are kept in the upload cache to be reused when the same file is sent again.
+            if (file.exists() && !UploadFileCache.contains(file)) {
                 val deleted = file.delete()
                 Logger.d("-- file delete=%s, path=%s", deleted, path)
             }
@@ -131,6 +143,7 @@ class FileInfo internal constructor(
 
     companion object {
         private const val MAX_COMPRESS_QUALITY = 100
+        private const val MAX_PREPARATION_CONCURRENCY = 4
 
         @JvmStatic
         fun toMultipleFilesParams(fileInfos: List<FileInfo>): MultipleFilesMessageCreateParams {
@@ -176,7 +189,12 @@ class FileInfo internal constructor(
             return addTask(object : JobResultTask<FileInfo>() {
                 @Throws(IOException::class)
                 override fun call(): FileInfo? {
-                    return uriToFileInfo(context, uri, useImageCompression)
+                    val startedAt = MetricsTracker.begin(UIKitMetric.FILE_PREPARATION)
+                    try {
+                        return uriToFileInfo(context, uri, useImageCompression)
+                    } finally {
+                        MetricsTracker.end(UIKitMetric.FILE_PREPARATION, null, startedAt)
+                    }
                 }
 
                 override fun onResultForUiThread(result: FileInfo?, e: SendbirdException?) {
@@ -196,12 +214,36 @@ class FileInfo internal constructor(
             uris: List<Uri>,
             useImageCompression: Boolean,
             handler: OnResultHandler<List<FileInfo?>>?
+        ): Future<List<FileInfo?>> {
+            return fromUris(context, uris, useImageCompression, handler, null)
+        }
+
+        /**
+         * Prepares the files of the given uris in parallel.
+         * The number of files prepared at the same time is bounded by the available memory.
+         *
+         * @param eachResultHandler The handler which receives each [FileInfo] on the UI thread as soon as it's prepared.
+         * The order follows the completion, not the order of [uris]. Errors are delivered to [handler] only.
+         * @since 3.22.0
+         */
+        @JvmStatic
+        fun fromUris(
+            context: Context,
+            uris: List<Uri>,
+            useImageCompression: Boolean,
+            handler: OnResultHandler<List<FileInfo?>>?,
+            eachResultHandler: OnResultHandler<FileInfo>?
         ): Future<List<FileInfo?>> {
             return addTask(object : JobResultTask<List<FileInfo?>>() {
-                @Throws(IOException::class)
+                @Throws(Exception::class)
                 override fun call(): List<FileInfo?>? {
-                    return uris.map { uriToFileInfo(context, it, useImageCompression) }
-                        .takeIf { it.isNotEmpty() }
+                    val startedAt = MetricsTracker.begin(UIKitMetric.FILE_PREPARATION)
+                    try {
+                        return urisToFileInfoList(context, uris, useImageCompression, eachResultHandler)
+                            .takeIf { it.isNotEmpty() }
+                    } finally {
+                        MetricsTracker.end(UIKitMetric.FILE_PREPARATION, null, startedAt)
+                    }
                 }
 
                 override fun onResultForUiThread(result: List<FileInfo?>?, e: SendbirdException?) {
@@ -215,6 +257,60 @@ class FileInfo internal constructor(
             })
         }
 
+        @WorkerThread
+        @Throws(Exception::class)
+        private fun urisToFileInfoList(
+            context: Context,
+            uris: List<Uri>,
+            useImageCompression: Boolean,
+            eachResultHandler: OnResultHandler<FileInfo>?
+        ): List<FileInfo?> {
+            if (uris.isEmpty()) return emptyList()
+            val results = arrayOfNulls<FileInfo>(uris.size)
+            val nextIndex = AtomicInteger()
+            val error = AtomicReference<Exception>()
+            val concurrency = calculateMaxConcurrency().coerceAtMost(uris.size)
+            val lock = CountDownLatch(concurrency)
+            Logger.d("++ prepare files. count=%s, concurrency=%s", uris.size, concurrency)
+            repeat(concurrency) {
+                addTask(object : JobTask<Boolean>() {
+                    override fun call(): Boolean {
+                        try {
+                            while (error.get() == null) {
+                                val index = nextIndex.getAndIncrement()
+                                if (index >= uris.size) break
+                                val fileInfo = uriToFileInfo(context, uris[index], useImageCompression)
+                                results[index] = fileInfo
+                                if (eachResultHandler != null) {
+                                    fileInfo.runOnUiThread { eachResultHandler.onResult(it) }
+                                }
+                            }
+                        } catch (e: Exception) {
+                            error.compareAndSet(null, e)
+                        } finally {
+                            lock.countDown()
+                        }
+                        return true
+                    }
+                })
+            }
+            lock.await()
+            error.get()?.let { throw it }
+            return results.toList()
+        }
+
+        // ImageTranscoder decodes each image at the resizing size, and the rotated one is drawn into another bitmap of the same size.
+        // So each image takes up to two ARGB_8888 bitmaps of the resizing size.
+        private fun calculateMaxConcurrency(): Int {
+            val resizingSize = SendbirdUIKit.getResizingSize()
+            val bytesPerImage = (resizingSize.first.toLong() * resizingSize.second * 4 * 2).coerceAtLeast(1)
+            val runtime = Runtime.getRuntime()
+            val availableMemory = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory())
+            val concurrencyByMemory = (availableMemory / 2 / bytesPerImage).toInt()
+            val maxConcurrency = runtime.availableProcessors().coerceIn(1, MAX_PREPARATION_CONCURRENCY)
+            return concurrencyByMemory.coerceIn(1, maxConcurrency)
+        }
+
         @VisibleForTesting
         @JvmStatic
         @WorkerThread
@@ -235,19 +331,30 @@ class FileInfo internal constructor(
                     if (cursor.moveToFirst()) {
                         val name = cursor.getString(nameIndex)
                         var size = cursor.getLong(sizeIndex).toInt()
+                        val lastModified = getLastModified(cursor)
+                        // the bounds are decoded only once and reused for resizing and the thumbnail dimensions.
+                        var imageBounds = if (mimeType != null && mimeType.startsWith(StringSet.image)) {
+                            ImageUtils.getImageBounds(path).takeIf { it.first > 0 && it.second > 0 }
+                        } else null
                         if (useImageCompression && mimeType != null && isCompressible(mimeType)) {
                             val quality = SendbirdUIKit.getCompressQuality()
                             require(!(quality < 0 || quality > MAX_COMPRESS_QUALITY)) { "quality must be 0..100" }
                             Logger.d("++ file size=%s, size from db=%s", File(path).length(), size)
                             val originSize = size
-                            path = resizeImage(
+                            val resized = resizeImage(
                                 context,
+                                uri,
+                                size.toLong(),
+                                lastModified,
                                 originPath,
                                 mimeType,
                                 quality,
                                 resizingSize.first,
-                                resizingSize.second
+                                resizingSize.second,
+                                imageBounds
                             )
+                            path = resized.first
+                            if (path != originPath) imageBounds = resized.second
                             size = File(path).length().toInt()
                             Logger.d("++ originFile size=%s, resized file size=%s", originSize, size)
                             Logger.d("\n++ originFile path=%s, \n resized file path=%s\n", originPath, path)
@@ -257,7 +364,8 @@ class FileInfo internal constructor(
                             }
                         }
                         if (mimeType != null) {
-                            val dimension = ImageUtils.getDimensions(path, mimeType)
+                            val dimension = imageBounds?.let { ImageUtils.getThumbnailDimensions(it.first, it.second) }
+                                ?: ImageUtils.getDimensions(path, mimeType)
                             thumbnailPath = path
                             thumbnailWidth = dimension.first
                             thumbnailHeight = dimension.second
@@ -287,37 +395,66 @@ class FileInfo internal constructor(
             return fileInfo
         }
 
+        // Returns the last modified time of the source if the provider supports it, otherwise 0.
+        private fun getLastModified(cursor: Cursor): Long {
+            val documentIndex = cursor.getColumnIndex(DocumentsContract.Document.COLUMN_LAST_MODIFIED)
+            if (documentIndex >= 0 && !cursor.isNull(documentIndex)) return cursor.getLong(documentIndex)
+            val mediaIndex = cursor.getColumnIndex(MediaStore.MediaColumns.DATE_MODIFIED)
+            if (mediaIndex >= 0 && !cursor.isNull(mediaIndex)) return cursor.getLong(mediaIndex) * 1000
+            return 0
+        }
+
+        /**
+         * Returns the path of the resized image and its bounds if they are known without decoding the file again.
+         * The resized image is kept in [UploadFileCache] keyed by the source and the resizing parameters.
+         */
         @Throws(IOException::class)
         private fun resizeImage(
             context: Context,
+            uri: Uri,
+            sourceSize: Long,
+            lastModified: Long,
             path: String,
             mimeType: String,
             quality: Int,
             width: Int,
-            height: Int
-        ): String {
-            val inSampleSize = ImageUtils.calculateInSampleSize(path, width, height)
+            height: Int,
+            imageBounds: android.util.Pair<Int, Int>?
+        ): Pair<String, android.util.Pair<Int, Int>?> {
+            val bounds = imageBounds ?: ImageUtils.getImageBounds(path)
+            val needsResize = ImageTranscoder.needsResize(bounds.first, bounds.second, width, height)
 
             // When it comes to compressing is ignored if the image's mine-type is a PNG.
-            // inSampleSize is a 1 meant that the bitmap resizing is not necessary.
-            if (inSampleSize > 1 || !mimeType.endsWith(StringSet.png) && quality < MAX_COMPRESS_QUALITY) {
-                val originFile = File(path)
-                val tempFileName = String.format(Locale.US, "Resized_%s_%s", quality, originFile.name)
-                val destFile = FileUtils.createCachedDirFile(context, tempFileName)
-                if (destFile.exists() && destFile.length() > 0) {
-                    Logger.d("++ resized file exists")
-                    return destFile.absolutePath
+            // If the image isn't bigger than the resizing size, the bitmap resizing is not necessary.
+            if (needsResize || !mimeType.endsWith(StringSet.png) && quality < MAX_COMPRESS_QUALITY) {
+                val extension = File(path).extension
+                val key = if (lastModified > 0) {
+                    UploadFileCache.makeKey(uri.toString(), sourceSize, lastModified, mimeType, quality, width, height)
+                } else {
+                    UploadFileCache.makeContentKey(File(path), mimeType, quality, width, height)
+                }
+                UploadFileCache.get(context, key, extension)?.let {
+                    return Pair(it.absolutePath, null)
+                }
+                val tempFile = UploadFileCache.newTempFile(context, key)
+                val resizedBounds = try {
+                    ImageTranscoder.transcode(
+                        path,
+                        tempFile,
+                        FileUtils.extractBitmapFormat(mimeType),
+                        quality,
+                        width,
+                        height,
+                        bounds.takeIf { it.first > 0 && it.second > 0 }
+                    )
+                } catch (e: IOException) {
+                    tempFile.delete()
+                    throw e
                 }
-                val bitmap = ImageUtils.getBitmap(path, width, height)
-                Logger.d("++ resized image with=%s, height=%s", bitmap.width, bitmap.height)
-                return FileUtils.bitmapToFile(
-                    bitmap,
-                    destFile,
-                    quality,
-                    FileUtils.extractBitmapFormat(mimeType)
-                ).absolutePath
+                val destFile = UploadFileCache.commit(context, tempFile, key, extension)
+                return Pair(destFile.absolutePath, resizedBounds)
             }
-            return path
+            return Pair(path, imageBounds)
         }
     }
 }
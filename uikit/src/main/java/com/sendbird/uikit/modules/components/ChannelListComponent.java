@@ -20,8 +20,11 @@ import com.sendbird.uikit.fragments.ItemAnimator;
 import com.sendbird.uikit.interfaces.OnItemClickListener;
 import com.sendbird.uikit.interfaces.OnItemLongClickListener;
 import com.sendbird.uikit.interfaces.OnPagedDataLoader;
+import com.sendbird.uikit.interfaces.OnVisibleRangeChangedListener;
+import com.sendbird.uikit.internal.singleton.ImageRequestScheduler;
 import com.sendbird.uikit.internal.ui.widgets.PagerRecyclerView;
 import com.sendbird.uikit.log.Logger;
+import com.sendbird.uikit.model.ChannelListDelta;
 import com.sendbird.uikit.model.ChannelListUIParams;
 import com.sendbird.uikit.model.configurations.ChannelListConfig;
 import com.sendbird.uikit.model.configurations.UIKitConfig;
@@ -47,6 +50,13 @@ public class ChannelListComponent {
     private OnItemClickListener<GroupChannel> itemClickListener;
     @Nullable
     private OnItemLongClickListener<GroupChannel> itemLongClickListener;
+    @Nullable
+    private OnVisibleRangeChangedListener visibleRangeChangedListener;
+    private int firstVisiblePosition = RecyclerView.NO_POSITION;
+    private int lastVisiblePosition = RecyclerView.NO_POSITION;
+    // the delta being delivered through notifyDataSetChanged(List). It's accessed only on the UI thread.
+    @Nullable
+    private ChannelListDelta pendingDelta;
 
     /**
      * Constructor
@@ -151,6 +161,14 @@ public class ChannelListComponent {
         this.pagerRecyclerView.setHasFixedSize(true);
         this.pagerRecyclerView.setItemAnimator(new ItemAnimator());
         this.pagerRecyclerView.setThreshold(5);
+        this.pagerRecyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                if (pagerRecyclerView == null) return;
+                onVisibleRangeChanged(pagerRecyclerView.findFirstVisibleItemPosition(), pagerRecyclerView.findLastVisibleItemPosition());
+            }
+        });
+        ImageRequestScheduler.attach(pagerRecyclerView);
         this.adapter = AdapterProviders.getChannelList().provide(new ChannelListUIParams(
             params.channelListConfig.getEnableTypingIndicator(),
             params.channelListConfig.getEnableMessageReceiptStatus()
@@ -179,6 +197,16 @@ public class ChannelListComponent {
         this.itemLongClickListener = listener;
     }
 
+    /**
+     * Register a callback to be invoked when the visible range of the channel list is changed.
+     *
+     * @param listener The callback that will run
+     * since 3.22.0
+     */
+    public void setOnVisibleRangeChangedListener(@Nullable OnVisibleRangeChangedListener listener) {
+        this.visibleRangeChangedListener = listener;
+    }
+
     /**
      * Sets the paged data loader for channel list.
      *
@@ -191,13 +219,53 @@ public class ChannelListComponent {
 
     /**
      * Called when the channel list is changed.
+     * It's also called by {@link #notifyDataSetChanged(ChannelListDelta)}, and the delta is applied if this method isn't overridden or calls the super method.
      *
      * @param channelList The list of channels to be displayed on this component
      * since 3.0.0
      */
     public void notifyDataSetChanged(@NonNull List<GroupChannel> channelList) {
         Logger.d("++ ChannelListComponent::notifyDataSetChanged()");
-        adapter.setItems(channelList);
+        final ChannelListDelta delta = pendingDelta;
+        if (delta != null && delta.getChannelList() == channelList) {
+            adapter.setItems(channelList, delta);
+        } else {
+            adapter.setItems(channelList);
+        }
+    }
+
+    /**
+     * Called when the channel list is changed with the delta from the previous list.
+     * The latest list of channels is delivered to {@link #notifyDataSetChanged(List)}, and only the rows of the channels inserted or updated in the delta are rebound.
+     *
+     * @param delta The changes of the channel list including the latest list of channels
+     * since 3.22.0
+     */
+    public void notifyDataSetChanged(@NonNull ChannelListDelta delta) {
+        Logger.d("++ ChannelListComponent::notifyDataSetChanged(delta)");
+        pendingDelta = delta;
+        try {
+            notifyDataSetChanged(delta.getChannelList());
+        } finally {
+            pendingDelta = null;
+        }
+    }
+
+    /**
+     * Called when the visible range of the channel list is changed.
+     *
+     * @param firstVisiblePosition The adapter position of the first visible item
+     * @param lastVisiblePosition  The adapter position of the last visible item
+     * since 3.22.0
+     */
+    protected void onVisibleRangeChanged(int firstVisiblePosition, int lastVisiblePosition) {
+        if (firstVisiblePosition == RecyclerView.NO_POSITION) return;
+        if (this.firstVisiblePosition == firstVisiblePosition && this.lastVisiblePosition == lastVisiblePosition) return;
+        this.firstVisiblePosition = firstVisiblePosition;
+        this.lastVisiblePosition = lastVisiblePosition;
+        if (visibleRangeChangedListener != null) {
+            visibleRangeChangedListener.onVisibleRangeChanged(firstVisiblePosition, lastVisiblePosition);
+        }
     }
 
     /**
@@ -15,6 +15,7 @@ import com.sendbird.android.user.Sender;
 import com.sendbird.android.user.User;
 import com.sendbird.uikit.R;
 import com.sendbird.uikit.consts.StringSet;
+import com.sendbird.uikit.internal.extensions.ChannelExtensionsKt;
 import com.sendbird.uikit.internal.ui.channels.ChannelCoverView;
 
 import java.util.ArrayList;
@@ -137,7 +138,7 @@ public class ChannelUtils {
     }
 
     private static boolean isDefaultChannelCover(@NonNull BaseChannel channel) {
-        return TextUtils.isEmpty(channel.getCoverUrl()) || channel.getCoverUrl().contains(StringSet.DEFAULT_CHANNEL_COVER_URL);
+        return ChannelExtensionsKt.getHasDefaultCover(channel);
     }
 
     @NonNull
@@ -19,6 +19,7 @@ import androidx.core.content.FileProvider;
 
 import com.sendbird.android.message.FileMessage;
 import com.sendbird.uikit.consts.StringSet;
+import com.sendbird.uikit.internal.utils.ReadinessBarrier;
 import com.sendbird.uikit.log.Logger;
 
 import java.io.BufferedInputStream;
@@ -37,6 +38,9 @@ import java.util.Locale;
 
 @SuppressWarnings({"unused", "UnusedReturnValue"})
 public class FileUtils {
+    @Nullable
+    private static volatile ReadinessBarrier<Boolean> deletableDirRemoval;
+
     @SuppressWarnings("ResultOfMethodCallIgnored")
     @NonNull
     public static File getDocumentCacheDir(@NonNull Context context) {
@@ -251,13 +255,16 @@ public class FileUtils {
     }
 
     public static void removeDeletableDir(@NonNull Context context) {
-        File dir = getDeletableDir(context);
-        deleteRecursive(dir);
+        final File dir = new File(context.getCacheDir(), "deletable");
+        // the files are deleted in the background, and the directory is used again after it's done.
+        deletableDirRemoval = new ReadinessBarrier<>("deletable_dir", () -> deleteRecursive(dir));
     }
 
     @SuppressWarnings("ResultOfMethodCallIgnored")
     @NonNull
     public static File getDeletableDir(@NonNull Context context) {
+        final ReadinessBarrier<Boolean> removal = deletableDirRemoval;
+        if (removal != null) removal.await();
         File dir = context.getCacheDir();
         File file = new File(dir, "deletable");
         if (!file.exists()) {
@@ -269,8 +276,41 @@ public class FileUtils {
     @SuppressWarnings("ResultOfMethodCallIgnored")
     @NonNull
     public static File getChannelFileCacheDir(@NonNull Context context, @NonNull String channelUrl) {
-        File dir = context.getCacheDir();
-        File file = new File(dir, channelUrl);
+        File file = new File(getChannelFilesRootDir(context), channelUrl);
+        if (!file.exists()) {
+            file.mkdirs();
+        }
+        return file;
+    }
+
+    /**
+     * Returns the directory that contains the file cache directories of all channels.
+     *
+     * @param context The context to get the cache directory
+     * @return The root directory of the channel file caches
+     * since 3.22.0
+     */
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    @NonNull
+    public static File getChannelFilesRootDir(@NonNull Context context) {
+        File file = new File(context.getCacheDir(), "sb_channel_files");
+        if (!file.exists()) {
+            file.mkdir();
+        }
+        return file;
+    }
+
+    /**
+     * Returns the directory where the files of the messages are downloaded.
+     *
+     * @param context The context to get the cache directory
+     * @return The directory of the downloaded files
+     * since 3.22.0
+     */
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    @NonNull
+    public static File getDownloadCacheDir(@NonNull Context context) {
+        File file = new File(context.getCacheDir(), "sb_downloads");
         if (!file.exists()) {
             file.mkdir();
         }
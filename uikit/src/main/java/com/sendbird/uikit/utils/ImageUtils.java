@@ -63,7 +63,7 @@ public class ImageUtils {
         return calculateInSampleSize(options.outWidth, options.outHeight, width, height);
     }
 
-    private static int calculateInSampleSize(int width, int height, int reqWidth, int reqHeight) {
+    public static int calculateInSampleSize(int width, int height, int reqWidth, int reqHeight) {
         // Raw height and width of image
         int inSampleSize = 1;
         Logger.d("++ width=%s, height=%s, reqWidth=%s, reqHeight=%s", width, height, reqWidth, reqHeight);
@@ -82,15 +82,58 @@ public class ImageUtils {
         return inSampleSize;
     }
 
+    /**
+     * Decodes only the bounds of the image.
+     *
+     * @param path The path of the image file
+     * @return The width and height of the image. If the image can't be decoded, it returns -1 for each value.
+     * since 3.22.0
+     */
+    @NonNull
+    public static Pair<Integer, Integer> getImageBounds(@NonNull String path) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeFile(path, options);
+        return new Pair<>(options.outWidth, options.outHeight);
+    }
+
+    /**
+     * Calculates the dimensions of the thumbnail from the size of the image without decoding it again.
+     *
+     * @param width  The width of the image
+     * @param height The height of the image
+     * @return The width and height of the thumbnail
+     * since 3.22.0
+     */
+    @NonNull
+    public static Pair<Integer, Integer> getThumbnailDimensions(int width, int height) {
+        final int inSampleSize = calculateInSampleSize(width, height, DEFAULT_THUMBNAIL_WIDTH, DEFAULT_THUMBNAIL_HEIGHT);
+        return new Pair<>(width / inSampleSize, height / inSampleSize);
+    }
+
     @NonNull
     public static Bitmap getBitmap(@NonNull String path, int width, int height) throws IOException {
+        return getBitmap(path, calculateInSampleSize(path, width, height));
+    }
+
+    /**
+     * Decodes the image with the given sample size and applies the rotation of the EXIF orientation.
+     *
+     * @param path         The path of the image file
+     * @param inSampleSize The sample size calculated from the bounds of the image
+     * @return The decoded bitmap
+     * @throws IOException Occurred when reading the EXIF data is failed
+     * since 3.22.0
+     */
+    @NonNull
+    public static Bitmap getBitmap(@NonNull String path, int inSampleSize) throws IOException {
         ExifInterface exif = new ExifInterface(path);
         int exifOrientation = exif.getAttributeInt(ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL);
         int exifDegree = exifOrientationToDegrees(exifOrientation);
 
         BitmapFactory.Options options = new BitmapFactory.Options();
         options.inJustDecodeBounds = false;
-        options.inSampleSize = calculateInSampleSize(path, width, height);
+        options.inSampleSize = inSampleSize;
         Bitmap bitmap = BitmapFactory.decodeFile(path, options);
         if (exifDegree != 0.0f) {
             Bitmap originBitmap = bitmap;
@@ -6,39 +6,51 @@ import android.content.SharedPreferences;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.sendbird.uikit.internal.utils.ReadinessBarrier;
 import com.sendbird.uikit.log.Logger;
 
-import java.util.concurrent.Executors;
-
 @SuppressWarnings("unused")
 final public class UIKitPrefs {
     @NonNull
     private static final String PREFERENCE_FILE_NAME = "com.sendbird.uikit.local_preference";
 
     @Nullable
-    private static SharedPreferences preferences;
+    private static volatile ReadinessBarrier<SharedPreferences> preferences;
 
     private UIKitPrefs() {}
 
     public static void init(@NonNull Context context) {
+        final Context appContext = context.getApplicationContext();
+        // execute IO operations in the background to avoid strict mode logs.
+        // the file is read lazily by the first access, so it's accessed here to finish reading before the preferences are used.
+        preferences = new ReadinessBarrier<>("preferences", () -> {
+            final SharedPreferences sharedPreferences = appContext.getSharedPreferences(PREFERENCE_FILE_NAME, Context.MODE_PRIVATE);
+            sharedPreferences.contains(PREFERENCE_FILE_NAME);
+            return sharedPreferences;
+        });
+    }
+
+    @Nullable
+    private static SharedPreferences getPreferences() {
+        final ReadinessBarrier<SharedPreferences> barrier = preferences;
+        if (barrier == null) return null;
         try {
-            // execute IO operations on the executor to avoid strict mode logs
-            preferences = Executors.newSingleThreadExecutor().submit(() -> context.getApplicationContext().getSharedPreferences(
-                PREFERENCE_FILE_NAME,
-                Context.MODE_PRIVATE
-            )).get();
+            return barrier.await();
         } catch (Throwable e) {
             Logger.w(e);
+            return null;
         }
     }
 
     public static void clearAll() {
+        final SharedPreferences preferences = getPreferences();
         if (preferences == null) return;
         SharedPreferences.Editor editor = preferences.edit();
         editor.clear().apply();
     }
 
     public static void remove(@NonNull String key) {
+        final SharedPreferences preferences = getPreferences();
         if (preferences == null) return;
         if (preferences.contains(key)) {
             SharedPreferences.Editor editor = preferences.edit();
@@ -47,6 +59,7 @@ final public class UIKitPrefs {
     }
 
     public static void putString(@NonNull String key, @Nullable String value) {
+        final SharedPreferences preferences = getPreferences();
         if (preferences == null) return;
         SharedPreferences.Editor editor = preferences.edit();
         editor.putString(key, value).apply();
@@ -59,11 +72,13 @@ final public class UIKitPrefs {
 
     @Nullable
     public static String getString(@NonNull String key, @Nullable String defValue) {
+        final SharedPreferences preferences = getPreferences();
         if (preferences == null) return defValue == null ? "" : defValue;
         return preferences.getString(key, defValue);
     }
 
     public static void putLong(@NonNull String key, long value) {
+        final SharedPreferences preferences = getPreferences();
         if (preferences == null) return;
         SharedPreferences.Editor editor = preferences.edit();
         editor.putLong(key, value).apply();
@@ -74,11 +89,13 @@ final public class UIKitPrefs {
     }
 
     public static long getLong(@NonNull String key, long defValue) {
+        final SharedPreferences preferences = getPreferences();
         if (preferences == null) return defValue;
         return preferences.getLong(key, defValue);
     }
 
     public static void putInt(@NonNull String key, int value) {
+        final SharedPreferences preferences = getPreferences();
         if (preferences == null) return;
         SharedPreferences.Editor editor = preferences.edit();
         editor.putInt(key, value).apply();
@@ -89,11 +106,13 @@ final public class UIKitPrefs {
     }
 
     public static int getInt(@NonNull String key, int defValue) {
+        final SharedPreferences preferences = getPreferences();
         if (preferences == null) return defValue;
         return preferences.getInt(key, defValue);
     }
 
     public static void putBoolean(@NonNull String key, boolean value) {
+        final SharedPreferences preferences = getPreferences();
         if (preferences == null) return;
         SharedPreferences.Editor editor = preferences.edit();
         editor.putBoolean(key, value).apply();
@@ -104,6 +123,7 @@ final public class UIKitPrefs {
     }
 
     public static boolean getBoolean(@NonNull String key, boolean defValue) {
+        final SharedPreferences preferences = getPreferences();
         if (preferences == null) return defValue;
         return preferences.getBoolean(key, defValue);
     }
@@ -47,6 +47,7 @@ import com.sendbird.uikit.interfaces.OnItemClickListener;
 import com.sendbird.uikit.internal.extensions.MarkdownExtensionsKt;
 import com.sendbird.uikit.internal.extensions.MarkdownType;
 import com.sendbird.uikit.internal.model.GlideCachedUrlLoader;
+import com.sendbird.uikit.internal.singleton.ImageRequestScheduler;
 import com.sendbird.uikit.internal.singleton.MessageDisplayDataManager;
 import com.sendbird.uikit.internal.ui.messages.BaseQuotedMessageView;
 import com.sendbird.uikit.internal.ui.messages.OgtagView;
@@ -339,8 +340,11 @@ public class ViewUtils {
         int backgroundTint = R.color.background_300;
         Drawable errorDrawable = DrawableUtils.createOvalIcon(ivProfile.getContext(), backgroundTint, R.drawable.icon_user, iconTint);
 
-        if (url == null || plainUrl == null) return;
-        GlideCachedUrlLoader.load(Glide.with(ivProfile.getContext()), url, String.valueOf(plainUrl.hashCode())).diskCacheStrategy(DiskCacheStrategy.ALL).error(errorDrawable).apply(RequestOptions.circleCropTransform()).into(ivProfile);
+        if (url == null || plainUrl == null) {
+            ImageRequestScheduler.cancel(ivProfile);
+            return;
+        }
+        ImageRequestScheduler.schedule(ivProfile, () -> GlideCachedUrlLoader.load(Glide.with(ivProfile.getContext()), url, String.valueOf(plainUrl.hashCode())).diskCacheStrategy(DiskCacheStrategy.ALL).error(errorDrawable).apply(RequestOptions.circleCropTransform()).into(ivProfile));
     }
 
     public static void drawThumbnail(@NonNull RoundCornerView view, @NonNull FileMessage message) {
@@ -389,6 +393,84 @@ public class ViewUtils {
         @DimenRes int iconSize
     ) {
         Context context = view.getContext();
+        RequestBuilder<Drawable> builder = createThumbnailRequest(context, requestId, url, plainUrl, thumbnails);
+
+        if (fileType.toLowerCase().contains(StringSet.image) && !fileType.toLowerCase().contains(StringSet.gif)) {
+            view.getContent().setScaleType(ImageView.ScaleType.CENTER);
+            int thumbnailIconTint = SendbirdUIKit.isDarkMode() ? R.color.ondark_text_mid_emphasis : R.color.onlight_text_mid_emphasis;
+            builder = builder.placeholder(DrawableUtils.setTintList(ImageUtils.resize(context.getResources(), AppCompatResources.getDrawable(context, R.drawable.icon_photo), iconSize, iconSize), AppCompatResources.getColorStateList(context, thumbnailIconTint))).error(DrawableUtils.setTintList(ImageUtils.resize(context.getResources(), AppCompatResources.getDrawable(context, R.drawable.icon_thumbnail_none), iconSize, iconSize), AppCompatResources.getColorStateList(context, thumbnailIconTint)));
+        }
+
+        final RequestBuilder<Drawable> request = builder.listener(new RequestListener<Drawable>() {
+            @Override
+            public boolean onLoadFailed(@Nullable GlideException e, Object model, Target<Drawable> target, boolean isFirstResource) {
+                if (requestListener != null) {
+                    requestListener.onLoadFailed(e, model, target, isFirstResource);
+                }
+                return false;
+            }
+
+            @Override
+            public boolean onResourceReady(Drawable resource, Object model, Target<Drawable> target, DataSource dataSource, boolean isFirstResource) {
+                view.getContent().setScaleType(ImageView.ScaleType.CENTER_CROP);
+                if (requestListener != null) {
+                    requestListener.onResourceReady(resource, model, target, dataSource, isFirstResource);
+                }
+                return false;
+            }
+        });
+        ImageRequestScheduler.schedule(view.getContent(), () -> request.into(view.getContent()));
+    }
+
+    /**
+     * Loads the thumbnail of the file message into the memory cache of Glide with the same size and key as {@link #drawThumbnail(RoundCornerView, FileMessage)},
+     * so the thumbnail is displayed from the memory cache when the message is bound.
+     *
+     * @param context  The context to load the thumbnail
+     * @param message  The file message whose thumbnail is loaded
+     * @param listener The callback to be invoked when the thumbnail is loaded or failed
+     * @return The target of the preload which can be cleared to cancel it
+     * since 3.22.0
+     */
+    @NonNull
+    public static Target<Drawable> preloadThumbnail(@NonNull Context context, @NonNull FileMessage message, @Nullable RequestListener<Drawable> listener) {
+        return preloadThumbnail(context, message.getRequestId(), getUrl(message), message.getPlainUrl(), message.getThumbnails(), listener);
+    }
+
+    /**
+     * Loads the thumbnail into the memory cache of Glide with the same size and key as
+     * {@link #drawThumbnail(RoundCornerView, String, String, String, String, List, RequestListener, int)}.
+     *
+     * @param context    The context to load the thumbnail
+     * @param requestId  The request id or the cache key of the file
+     * @param url        The url of the file
+     * @param plainUrl   The plain url of the file
+     * @param thumbnails The thumbnails of the file
+     * @param listener   The callback to be invoked when the thumbnail is loaded or failed
+     * @return The target of the preload which can be cleared to cancel it
+     * since 3.22.0
+     */
+    @NonNull
+    public static Target<Drawable> preloadThumbnail(
+        @NonNull Context context,
+        @NonNull String requestId,
+        @NonNull String url,
+        @NonNull String plainUrl,
+        @NonNull List<Thumbnail> thumbnails,
+        @Nullable RequestListener<Drawable> listener
+    ) {
+        return createThumbnailRequest(context, requestId, url, plainUrl, thumbnails).listener(listener).preload();
+    }
+
+    // The options that are part of the cache key have to be the same for drawing and preloading.
+    @NonNull
+    private static RequestBuilder<Drawable> createThumbnailRequest(
+        @NonNull Context context,
+        @NonNull String requestId,
+        @NonNull String url,
+        @NonNull String plainUrl,
+        @NonNull List<Thumbnail> thumbnails
+    ) {
         RequestOptions options = new RequestOptions().diskCacheStrategy(DiskCacheStrategy.ALL);
         RequestBuilder<Drawable> builder = Glide.with(context).asDrawable().apply(options);
 
@@ -420,31 +502,8 @@ public class ViewUtils {
             }
         }
 
-        if (fileType.toLowerCase().contains(StringSet.image) && !fileType.toLowerCase().contains(StringSet.gif)) {
-            view.getContent().setScaleType(ImageView.ScaleType.CENTER);
-            int thumbnailIconTint = SendbirdUIKit.isDarkMode() ? R.color.ondark_text_mid_emphasis : R.color.onlight_text_mid_emphasis;
-            builder = builder.placeholder(DrawableUtils.setTintList(ImageUtils.resize(context.getResources(), AppCompatResources.getDrawable(context, R.drawable.icon_photo), iconSize, iconSize), AppCompatResources.getColorStateList(context, thumbnailIconTint))).error(DrawableUtils.setTintList(ImageUtils.resize(context.getResources(), AppCompatResources.getDrawable(context, R.drawable.icon_thumbnail_none), iconSize, iconSize), AppCompatResources.getColorStateList(context, thumbnailIconTint)));
-        }
-
         final String cacheKey = generateThumbnailCacheKey(requestId, plainUrl);
-        GlideCachedUrlLoader.load(builder, url, cacheKey).centerCrop().listener(new RequestListener<Drawable>() {
-            @Override
-            public boolean onLoadFailed(@Nullable GlideException e, Object model, Target<Drawable> target, boolean isFirstResource) {
-                if (requestListener != null) {
-                    requestListener.onLoadFailed(e, model, target, isFirstResource);
-                }
-                return false;
-            }
-
-            @Override
-            public boolean onResourceReady(Drawable resource, Object model, Target<Drawable> target, DataSource dataSource, boolean isFirstResource) {
-                view.getContent().setScaleType(ImageView.ScaleType.CENTER_CROP);
-                if (requestListener != null) {
-                    requestListener.onResourceReady(resource, model, target, dataSource, isFirstResource);
-                }
-                return false;
-            }
-        }).into(view.getContent());
+        return GlideCachedUrlLoader.load(builder, url, cacheKey).centerCrop();
     }
 
     private static String generateThumbnailCacheKey(@NonNull String requestId, @NonNull String plainUrl) {
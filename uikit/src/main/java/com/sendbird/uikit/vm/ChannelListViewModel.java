@@ -1,5 +1,8 @@
 package com.sendbird.uikit.vm;
 
+import android.os.Handler;
+import android.os.Looper;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
@@ -24,12 +27,20 @@ import com.sendbird.uikit.internal.contracts.SendbirdUIKitContract;
 import com.sendbird.uikit.internal.contracts.TaskQueueImpl;
 import com.sendbird.uikit.internal.contracts.TaskQueueContract;
 import com.sendbird.uikit.log.Logger;
+import com.sendbird.uikit.model.ChannelListDelta;
+import com.sendbird.uikit.model.ChannelListPagingConfig;
 import com.sendbird.uikit.utils.Available;
 
 import org.jetbrains.annotations.TestOnly;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -39,6 +50,8 @@ import java.util.concurrent.atomic.AtomicReference;
  * since 3.0.0
  */
 public class ChannelListViewModel extends BaseViewModel implements OnPagedDataLoader<List<GroupChannel>> {
+    // collection events arriving within this window are delivered as one emission.
+    private static final long CHANNEL_EVENT_COALESCING_WINDOW_MS = 100L;
 
     @Nullable
     private GroupChannelCollectionContract collection;
@@ -47,12 +60,35 @@ public class ChannelListViewModel extends BaseViewModel implements OnPagedDataLo
     private final GroupChannelListQuery query;
     @NonNull
     private final MutableLiveData<List<GroupChannel>> channelList;
+    @NonNull
+    private final MutableLiveData<ChannelListDelta> channelListDelta = new MutableLiveData<>();
 
     @NonNull
     private final GroupChannelCollectionHandler collectionHandler;
     @NonNull
     private final TaskQueueContract taskQueue;
 
+    // the events are coalesced on the main thread, and the latest list is emitted once in the delta.
+    @NonNull
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    @NonNull
+    private final Runnable flushRunnable = this::notifyChannelChanged;
+    @NonNull
+    private final Object deltaLock = new Object();
+    @NonNull
+    private final Set<String> pendingChangedChannelUrls = new HashSet<>();
+    @NonNull
+    private List<String> lastChannelUrls = Collections.emptyList();
+    private boolean isFlushScheduled = false;
+    private long channelListVersion = 0;
+
+    @Nullable
+    private volatile ChannelListPagingConfig pagingConfig;
+    private int windowOffset = 0;
+    private int lastTotalCount = 0;
+    private int firstVisiblePosition = 0;
+    private int lastVisiblePosition = 0;
+
     @Nullable
     @VisibleForTesting
     ChannelListViewModelDataContract contract;
@@ -75,17 +111,17 @@ public class ChannelListViewModel extends BaseViewModel implements OnPagedDataLo
         this.collectionHandler = new GroupChannelCollectionHandler() {
             @Override
             public void onChannelsAdded(@NonNull GroupChannelContext context, @NonNull List<GroupChannel> channels) {
-                notifyChannelChanged();
+                onChannelsChanged(toChannelUrls(channels));
             }
 
             @Override
             public void onChannelsUpdated(@NonNull GroupChannelContext context, @NonNull List<GroupChannel> channels) {
-                notifyChannelChanged();
+                onChannelsChanged(toChannelUrls(channels));
             }
 
             @Override
             public void onChannelsDeleted(@NonNull GroupChannelContext context, @NonNull List<String> deletedChannelUrls) {
-                notifyChannelChanged();
+                onChannelsChanged(deletedChannelUrls);
             }
         };
     }
@@ -114,6 +150,7 @@ public class ChannelListViewModel extends BaseViewModel implements OnPagedDataLo
 
     /**
      * Live data that can be observed for a list of channels.
+     * It's updated right after {@link #getChannelListDelta()} with the same list, so observe only one of them.
      *
      * @return LiveData holding the list of {@code GroupChannel} for the current user
      * since 3.0.0
@@ -123,6 +160,64 @@ public class ChannelListViewModel extends BaseViewModel implements OnPagedDataLo
         return channelList;
     }
 
+    /**
+     * Live data that can be observed for the changes of the channel list.
+     * Collection events arriving within a short window are coalesced on the main thread, and each emission holds the latest list with its changes.
+     *
+     * @return LiveData holding the {@code ChannelListDelta} calculated from the previous emission
+     * since 3.22.0
+     */
+    @NonNull
+    public LiveData<ChannelListDelta> getChannelListDelta() {
+        return channelListDelta;
+    }
+
+    /**
+     * Sets the paging configuration of the channel list.
+     * If it's set, only the channels in a bounded window around the visible range are emitted through {@link #getChannelList()} and {@link #getChannelListDelta()},
+     * and the window follows the visible range reported by {@link #onVisibleRangeChanged(int, int)}.
+     * The channels are still paged in incrementally through {@link #loadNext()}.
+     *
+     * @param pagingConfig The paging configuration. If {@code null}, the whole list is emitted.
+     * since 3.22.0
+     */
+    public void setPagingConfig(@Nullable ChannelListPagingConfig pagingConfig) {
+        this.pagingConfig = pagingConfig;
+        onChannelsChanged(Collections.emptyList());
+    }
+
+    /**
+     * Returns the paging configuration of the channel list.
+     *
+     * @return The paging configuration applied to this view model, or {@code null} if the whole list is emitted
+     * since 3.22.0
+     */
+    @Nullable
+    public ChannelListPagingConfig getPagingConfig() {
+        return pagingConfig;
+    }
+
+    /**
+     * Called when the visible range of the channel list is changed.
+     * If {@link ChannelListPagingConfig} is applied and the visible range approaches the edge of the window, the window is moved.
+     *
+     * @param firstVisiblePosition The position of the first visible channel in the whole list
+     * @param lastVisiblePosition  The position of the last visible channel in the whole list
+     * since 3.22.0
+     */
+    public void onVisibleRangeChanged(int firstVisiblePosition, int lastVisiblePosition) {
+        final ChannelListPagingConfig config = pagingConfig;
+        final boolean shouldShiftWindow;
+        synchronized (deltaLock) {
+            this.firstVisiblePosition = firstVisiblePosition;
+            this.lastVisiblePosition = lastVisiblePosition;
+            shouldShiftWindow = config != null && shouldShiftWindow(config, lastTotalCount);
+        }
+        if (shouldShiftWindow) {
+            onChannelsChanged(Collections.emptyList());
+        }
+    }
+
     @VisibleForTesting
     synchronized void initChannelCollection() {
         Logger.d(">> ChannelListViewModel::initChannelCollection()");
@@ -141,16 +236,120 @@ public class ChannelListViewModel extends BaseViewModel implements OnPagedDataLo
         }
     }
 
+    private void onChannelsChanged(@NonNull Collection<String> channelUrls) {
+        synchronized (deltaLock) {
+            pendingChangedChannelUrls.addAll(channelUrls);
+            if (isFlushScheduled) return;
+            isFlushScheduled = true;
+        }
+        mainHandler.postDelayed(flushRunnable, CHANNEL_EVENT_COALESCING_WINDOW_MS);
+    }
+
     private void notifyChannelChanged() {
-        if (collection == null) return;
-        List<GroupChannel> newList = collection.getChannelList();
-        Logger.d(">> ChannelListViewModel::notifyDataSetChanged(), size = %s", newList.size());
-        channelList.postValue(newList);
+        final GroupChannelCollectionContract collection = this.collection;
+        if (collection == null) {
+            // the next event must schedule the flush again.
+            synchronized (deltaLock) {
+                isFlushScheduled = false;
+                pendingChangedChannelUrls.clear();
+            }
+            return;
+        }
+        final List<GroupChannel> allChannels = collection.getChannelList();
+        final List<GroupChannel> newList;
+        final ChannelListDelta delta;
+        synchronized (deltaLock) {
+            final boolean isFirstEmission = channelListVersion == 0;
+            final int previousWindowOffset = windowOffset;
+            final int previousTotalCount = lastTotalCount;
+            isFlushScheduled = false;
+            newList = applyWindow(allChannels);
+            delta = calculateDelta(newList, allChannels.size());
+            pendingChangedChannelUrls.clear();
+            if (!isFirstEmission && !delta.hasChanges()
+                && previousWindowOffset == windowOffset && previousTotalCount == lastTotalCount) return;
+        }
+        Logger.d(">> ChannelListViewModel::notifyDataSetChanged(), size = %s, inserted = %s, updated = %s, removed = %s",
+            newList.size(), delta.getInsertedChannelUrls().size(), delta.getUpdatedChannelUrls().size(), delta.getRemovedChannelUrls().size());
+        channelListDelta.setValue(delta);
+        channelList.setValue(newList);
+    }
+
+    // must be called while holding deltaLock.
+    @NonNull
+    private List<GroupChannel> applyWindow(@NonNull List<GroupChannel> allChannels) {
+        final ChannelListPagingConfig config = pagingConfig;
+        final int totalCount = allChannels.size();
+        this.lastTotalCount = totalCount;
+        if (config == null || totalCount <= config.getWindowSize()) {
+            this.windowOffset = 0;
+            return allChannels;
+        }
+
+        if (shouldShiftWindow(config, totalCount)) {
+            final int pageSize = config.getPageSize();
+            final int center = (firstVisiblePosition + lastVisiblePosition) / 2;
+            this.windowOffset = (center / pageSize - config.getMaxWindowPages() / 2) * pageSize;
+        }
+        final int maxWindowOffset = ((totalCount - config.getWindowSize() + config.getPageSize() - 1) / config.getPageSize()) * config.getPageSize();
+        this.windowOffset = Math.max(0, Math.min(windowOffset, maxWindowOffset));
+        final int windowEnd = Math.min(windowOffset + config.getWindowSize(), totalCount);
+        return new ArrayList<>(allChannels.subList(windowOffset, windowEnd));
+    }
+
+    // The window is moved only when the visible range is within a page from the edge of the window.
+    private boolean shouldShiftWindow(@NonNull ChannelListPagingConfig config, int totalCount) {
+        final int pageSize = config.getPageSize();
+        final int windowEnd = Math.min(windowOffset + config.getWindowSize(), totalCount);
+        final boolean isNearStart = windowOffset > 0 && firstVisiblePosition < windowOffset + pageSize;
+        final boolean isNearEnd = windowEnd < totalCount && lastVisiblePosition >= windowEnd - pageSize;
+        return isNearStart || isNearEnd;
+    }
+
+    // must be called while holding deltaLock.
+    @NonNull
+    private ChannelListDelta calculateDelta(@NonNull List<GroupChannel> newList, int totalCount) {
+        final Map<String, Integer> oldPositions = new HashMap<>();
+        for (int i = 0; i < lastChannelUrls.size(); i++) {
+            oldPositions.put(lastChannelUrls.get(i), i);
+        }
+
+        final List<String> newChannelUrls = new ArrayList<>(newList.size());
+        final Set<String> inserted = new HashSet<>();
+        final Set<String> updated = new HashSet<>();
+        final Set<String> moved = new HashSet<>();
+        for (int i = 0; i < newList.size(); i++) {
+            final String channelUrl = newList.get(i).getUrl();
+            newChannelUrls.add(channelUrl);
+            final Integer oldPosition = oldPositions.remove(channelUrl);
+            if (oldPosition == null) {
+                inserted.add(channelUrl);
+            } else if (pendingChangedChannelUrls.contains(channelUrl)) {
+                updated.add(channelUrl);
+                if (oldPosition != i) moved.add(channelUrl);
+            }
+        }
+        final Set<String> removed = new HashSet<>(oldPositions.keySet());
+
+        final long baseVersion = channelListVersion;
+        this.channelListVersion = baseVersion + 1;
+        this.lastChannelUrls = newChannelUrls;
+        return new ChannelListDelta(baseVersion, channelListVersion, newList, inserted, updated, moved, removed, windowOffset, totalCount);
+    }
+
+    @NonNull
+    private static List<String> toChannelUrls(@NonNull List<GroupChannel> channels) {
+        final List<String> channelUrls = new ArrayList<>(channels.size());
+        for (GroupChannel channel : channels) {
+            channelUrls.add(channel.getUrl());
+        }
+        return channelUrls;
     }
 
     @Override
     protected void onCleared() {
         super.onCleared();
+        mainHandler.removeCallbacks(flushRunnable);
         disposeChannelCollection();
     }
 
@@ -299,8 +498,9 @@ public class ChannelListViewModel extends BaseViewModel implements OnPagedDataLo
         return GroupChannel.createMyGroupChannelListQuery(params);
     }
 
+    @VisibleForTesting
     @NonNull
-    private GroupChannelCollectionContract createGroupChannelCollection() {
+    GroupChannelCollectionContract createGroupChannelCollection() {
         return new GroupChannelCollectionImpl(query);
     }
 }
@@ -39,6 +39,7 @@ import com.sendbird.uikit.consts.ReplyType;
 import com.sendbird.uikit.consts.StringSet;
 import com.sendbird.uikit.consts.SuggestedRepliesFor;
 import com.sendbird.uikit.consts.TypingIndicatorType;
+import com.sendbird.uikit.consts.UIKitMetric;
 import com.sendbird.uikit.interfaces.OnCompleteHandler;
 import com.sendbird.uikit.internal.contracts.MessageCollectionContract;
 import com.sendbird.uikit.internal.contracts.MessageCollectionImpl;
@@ -49,6 +50,7 @@ import com.sendbird.uikit.internal.contracts.SendbirdUIKitImpl;
 import com.sendbird.uikit.internal.extensions.ChannelExtensionsKt;
 import com.sendbird.uikit.internal.extensions.MessageExtensionsKt;
 import com.sendbird.uikit.internal.singleton.MessageTemplateMapper;
+import com.sendbird.uikit.internal.singleton.MetricsTracker;
 import com.sendbird.uikit.log.Logger;
 import com.sendbird.uikit.model.MessageList;
 import com.sendbird.uikit.model.TypingIndicatorMessage;
@@ -561,7 +563,13 @@ public class ChannelViewModel extends BaseMessageListViewModel {
         // it's difficult for customers to handle message template values by themselves when they override the `buildMessageList()` for their message list customization.
         processMessageTemplate(messages, traceName);
         markMessagesAsShouldShowSuggestedReplies(cachedMessages.toList());
-        final List<BaseMessage> finalMessageList = buildMessageList();
+        final long buildStartedAt = MetricsTracker.begin(UIKitMetric.MESSAGE_LIST_BUILD);
+        final List<BaseMessage> finalMessageList;
+        try {
+            finalMessageList = buildMessageList();
+        } finally {
+            MetricsTracker.end(UIKitMetric.MESSAGE_LIST_BUILD, null, buildStartedAt);
+        }
 
         if (finalMessageList.size() == 0) {
             statusFrame.setValue(StatusFrameView.Status.EMPTY);
@@ -778,6 +786,7 @@ public class ChannelViewModel extends BaseMessageListViewModel {
 
         messageLoadState.postValue(MessageLoadState.LOAD_STARTED);
         cachedMessages.clear();
+        final MetricsTracker.AsyncToken loadToken = MetricsTracker.beginAsync(UIKitMetric.LOAD_INITIAL);
         collection.initialize(MessageCollectionInitPolicy.CACHE_AND_REPLACE_BY_API, new MessageCollectionInitHandler() {
             @Override
             public void onCacheResult(@Nullable List<BaseMessage> cachedList, @Nullable SendbirdException e) {
@@ -797,6 +806,7 @@ public class ChannelViewModel extends BaseMessageListViewModel {
                         markAsRead();
                     }
                 }
+                MetricsTracker.endAsync(loadToken, null);
                 messageLoadState.postValue(MessageLoadState.LOAD_ENDED);
             }
         });
@@ -824,6 +834,7 @@ public class ChannelViewModel extends BaseMessageListViewModel {
         final CountDownLatch lock = new CountDownLatch(1);
 
         messageLoadState.postValue(MessageLoadState.LOAD_STARTED);
+        final long startedAt = MetricsTracker.begin(UIKitMetric.LOAD_PREVIOUS);
         collection.loadPrevious((messages, e) -> {
             Logger.d("++ privious size = %s", messages == null ? 0 : messages.size());
             try {
@@ -839,7 +850,11 @@ public class ChannelViewModel extends BaseMessageListViewModel {
                 lock.countDown();
             }
         });
-        lock.await();
+        try {
+            lock.await();
+        } finally {
+            MetricsTracker.end(UIKitMetric.LOAD_PREVIOUS, null, startedAt);
+        }
 
         messageLoadState.postValue(MessageLoadState.LOAD_ENDED);
         if (error.get() != null) throw error.get();
@@ -25,6 +25,7 @@ import com.sendbird.uikit.SendbirdUIKit;
 import com.sendbird.uikit.consts.StringSet;
 import com.sendbird.uikit.interfaces.AuthenticateHandler;
 import com.sendbird.uikit.interfaces.OnPagedDataLoader;
+import com.sendbird.uikit.internal.utils.NotificationViewedLogAggregator;
 import com.sendbird.uikit.log.Logger;
 import com.sendbird.uikit.model.LiveDataEx;
 import com.sendbird.uikit.model.MessageData;
@@ -60,6 +61,8 @@ public class FeedNotificationChannelViewModel extends BaseViewModel implements O
     @Nullable
     private FeedChannel channel;
     private boolean isVisible = false;
+    @NonNull
+    private final NotificationViewedLogAggregator viewedLogAggregator;
 
     /**
      * Constructor
@@ -71,6 +74,10 @@ public class FeedNotificationChannelViewModel extends BaseViewModel implements O
     public FeedNotificationChannelViewModel(@NonNull String channelUrl, @Nullable MessageListParams messageListParams) {
         this.channelUrl = channelUrl;
         this.messageListParams = messageListParams;
+        this.viewedLogAggregator = new NotificationViewedLogAggregator(channelUrl, messages -> {
+            final FeedChannel channel = this.channel;
+            return channel != null && channel.logViewed(messages);
+        });
     }
 
     /**
@@ -102,6 +109,7 @@ public class FeedNotificationChannelViewModel extends BaseViewModel implements O
         super.onCleared();
         Logger.d("-- onCleared FeedNotificationChannelViewModel");
         disposeNotificationCollection();
+        viewedLogAggregator.dispose();
     }
 
     /**
@@ -434,6 +442,7 @@ public class FeedNotificationChannelViewModel extends BaseViewModel implements O
                 break;
             case ON_PAUSE:
                 isVisible = false;
+                viewedLogAggregator.flush();
                 break;
         }
     }
@@ -456,6 +465,7 @@ public class FeedNotificationChannelViewModel extends BaseViewModel implements O
     /**
      * Sends the log viewed to Sendbird server.
      * It is working only when the channel is visible.
+     * The notifications already logged are skipped, and the others are sent together in batches.
      *
      * @param messages The list of messages to be sent
      * since 3.15.0
@@ -463,7 +473,6 @@ public class FeedNotificationChannelViewModel extends BaseViewModel implements O
     public void sendLogViewed(@NonNull List<BaseMessage> messages) {
         Logger.d(">> FeedNotificationChannelViewModel::sendLogView(), size=%s, isVisible", messages.size(), isVisible);
         if (channel == null || !isVisible) return;
-        final boolean result = channel.logViewed(messages);
-        Logger.d("++ sendlogView result=%s", result);
+        viewedLogAggregator.add(messages);
     }
 }
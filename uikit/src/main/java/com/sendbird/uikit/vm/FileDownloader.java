@@ -1,6 +1,9 @@
 package com.sendbird.uikit.vm;
 
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -10,22 +13,41 @@ import com.bumptech.glide.RequestManager;
 import com.sendbird.android.exception.SendbirdException;
 import com.sendbird.android.message.FileMessage;
 import com.sendbird.android.message.Thumbnail;
+import com.sendbird.uikit.interfaces.OnDownloadProgressListener;
 import com.sendbird.uikit.interfaces.OnResultHandler;
 import com.sendbird.uikit.internal.model.GlideCachedUrlLoader;
+import com.sendbird.uikit.internal.singleton.DiskCacheManager;
 import com.sendbird.uikit.internal.tasks.JobResultTask;
 import com.sendbird.uikit.internal.tasks.TaskQueue;
 import com.sendbird.uikit.log.Logger;
 import com.sendbird.uikit.utils.FileUtils;
 import com.sendbird.uikit.utils.MessageUtils;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.HashSet;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 public class FileDownloader {
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final long PROGRESS_INTERVAL_MS = 100;
+    private static final int MAX_ATTEMPTS = 2;
+    private static final int CONNECT_TIMEOUT_MS = 15 * 1000;
+    private static final int READ_TIMEOUT_MS = 30 * 1000;
+
     private FileDownloader() {}
 
     private static class FileDownloadHolder {
@@ -36,62 +58,298 @@ public class FileDownloader {
         return FileDownloadHolder.INSTANCE;
     }
 
-    private final Set<String> downloadingFileSet = new HashSet<>();
+    // guarded by itself. The requests for the same url share one download.
+    private final Map<String, Download> downloads = new HashMap<>();
+    private final Set<String> savingFileSet = ConcurrentHashMap.newKeySet();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    /**
+     * The request attached to a shared download.
+     *
+     * since 3.22.0
+     */
+    public static final class DownloadRequest {
+        @NonNull
+        private final Download download;
+        @Nullable
+        private final OnResultHandler<File> handler;
+        @Nullable
+        private final OnDownloadProgressListener progressListener;
+
+        private DownloadRequest(@NonNull Download download,
+                                @Nullable OnResultHandler<File> handler,
+                                @Nullable OnDownloadProgressListener progressListener) {
+            this.download = download;
+            this.handler = handler;
+            this.progressListener = progressListener;
+        }
+
+        /**
+         * Detaches this request from the download. The result is not delivered to this request anymore.
+         * If no request remains, the download itself is cancelled.
+         *
+         * since 3.22.0
+         */
+        public void cancel() {
+            FileDownloader.getInstance().detach(this);
+        }
+    }
+
+    private static final class Download {
+        @NonNull
+        private final String url;
+        @NonNull
+        private final File destFile;
+        // guarded by FileDownloader.downloads
+        @NonNull
+        private final List<DownloadRequest> requests = new ArrayList<>();
+        @Nullable
+        private Future<File> future;
+        private volatile boolean cancelled = false;
+        private volatile long downloadedBytes = 0;
+        private volatile long totalBytes = -1;
+
+        private Download(@NonNull String url, @NonNull File destFile) {
+            this.url = url;
+            this.destFile = destFile;
+        }
+    }
 
-    @SuppressWarnings("ResultOfMethodCallIgnored")
     @Nullable
     public File downloadVoiceFileToCache(@NonNull Context context, @NonNull FileMessage message) throws ExecutionException, InterruptedException, IOException {
         final File destFile = FileUtils.getVoiceFile(context, message);
         return downloadToCache(context, message, destFile);
     }
 
-    @SuppressWarnings("ResultOfMethodCallIgnored")
     @Nullable
     public File downloadToCache(@NonNull Context context, @NonNull FileMessage message) throws ExecutionException, InterruptedException, IOException {
-        final File destFile = FileUtils.createCachedDirFile(context, System.currentTimeMillis() + "_" + message.getName());
-        return downloadToCache(context, message, destFile);
+        return downloadToCache(context, message, createCacheFile(context, message));
     }
 
     @SuppressWarnings("ResultOfMethodCallIgnored")
     @Nullable
     public File downloadToCache(@NonNull Context context, @NonNull FileMessage message, @NonNull final File destFile) throws ExecutionException, InterruptedException, IOException {
+        if (isFileValid(destFile, message)) {
+            Logger.dev("__ return exist file");
+            DiskCacheManager.touch(destFile);
+            return destFile;
+        }
+        final DownloadRequest request = request(context, message, destFile, null, null);
+        final Future<File> future = request.download.future;
+        try {
+            return future != null ? future.get() : null;
+        } catch (InterruptedException e) {
+            request.cancel();
+            throw e;
+        }
+    }
+
+    /**
+     * Downloads the file of the message to the destination.
+     * If the same url is already being downloaded, the request is attached to it and the file is delivered to all requests.
+     *
+     * @param context          The context to download the file
+     * @param message          The file message to download
+     * @param destFile         The file to write the downloaded bytes. It's ignored if the url is already being downloaded to another file.
+     * @param handler          The callback to be invoked on the UI thread when the download is completed
+     * @param progressListener The callback to be invoked on the UI thread when the bytes are downloaded
+     * @return The request that can be cancelled
+     * since 3.22.0
+     */
+    @NonNull
+    public DownloadRequest request(@NonNull Context context,
+                                   @NonNull FileMessage message,
+                                   @NonNull File destFile,
+                                   @Nullable OnResultHandler<File> handler,
+                                   @Nullable OnDownloadProgressListener progressListener) {
         final String url = message.getUrl();
-        final String plainUrl = message.getPlainUrl();
+        synchronized (downloads) {
+            Download download = downloads.get(url);
+            if (download == null) {
+                Logger.d("++ start download. url=%s", url);
+                download = new Download(url, destFile);
+                downloads.put(url, download);
+                download.future = TaskQueue.addTask(newDownloadTask(context.getApplicationContext(), message, download));
+            } else {
+                Logger.d("++ attach to the download in progress. url=%s", url);
+            }
+            final DownloadRequest request = new DownloadRequest(download, handler, progressListener);
+            download.requests.add(request);
+            return request;
+        }
+    }
+
+    private void detach(@NonNull DownloadRequest request) {
+        final Download download = request.download;
+        synchronized (downloads) {
+            download.requests.remove(request);
+            if (download.requests.isEmpty() && downloads.get(download.url) == download) {
+                Logger.d("++ cancel download. url=%s", download.url);
+                download.cancelled = true;
+                downloads.remove(download.url);
+            }
+        }
+    }
+
+    @NonNull
+    private JobResultTask<File> newDownloadTask(@NonNull Context context, @NonNull FileMessage message, @NonNull Download download) {
+        return new JobResultTask<File>() {
+            @Override
+            public File call() throws Exception {
+                return fetch(context, message, download);
+            }
 
+            @Override
+            public void onResultForUiThread(@Nullable File file, @Nullable SendbirdException e) {
+                final List<DownloadRequest> requests;
+                synchronized (downloads) {
+                    if (downloads.get(download.url) == download) {
+                        downloads.remove(download.url);
+                    }
+                    requests = new ArrayList<>(download.requests);
+                    download.requests.clear();
+                }
+                Logger.d("++ download completed. url=%s, requests=%s", download.url, requests.size());
+                DiskCacheManager.requestTrim();
+                for (DownloadRequest request : requests) {
+                    if (request.handler == null) continue;
+                    if (e != null || file == null) {
+                        request.handler.onError(e);
+                    } else {
+                        request.handler.onResult(file);
+                    }
+                }
+            }
+        };
+    }
+
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    @Nullable
+    private File fetch(@NonNull Context context, @NonNull FileMessage message, @NonNull Download download) throws Exception {
+        final File destFile = download.destFile;
         if (isFileValid(destFile, message)) {
             Logger.dev("__ return exist file");
+            DiskCacheManager.touch(destFile);
             return destFile;
         } else {
             destFile.delete();
         }
 
-        if (downloadingFileSet.contains(url)) {
-            return null;
+        final String url = message.getUrl();
+        if (!url.startsWith("http")) {
+            // the local file doesn't need another copy.
+            final File localFile = new File(url.startsWith("file://") ? url.substring("file://".length()) : url);
+            if (isFileValid(localFile, message)) {
+                return localFile;
+            }
+            return fetchWithGlide(context, message);
+        }
+
+        // the files already displayed, such as images, are kept in the disk cache of Glide, and it's returned without another copy.
+        final File glideCachedFile = fetchFromGlideCache(context, message);
+        if (glideCachedFile != null) {
+            Logger.dev("__ return glide cached file");
+            return glideCachedFile;
         }
+
+        // a cancelled download can still be running, so each download writes to its own temp file.
+        final File tempFile = new File(destFile.getParentFile(), destFile.getName() + "." + Integer.toHexString(System.identityHashCode(download)) + ".download");
         try {
-            downloadingFileSet.add(url);
-
-            File glideFile = GlideCachedUrlLoader.load(Glide.with(context).asFile(), url, String.valueOf(plainUrl.hashCode())).submit().get();
-            Logger.dev("__ file size : " + glideFile.length());
-            Logger.d("__ destFile path : " + glideFile.getAbsolutePath());
-            // if glide returns cached file, it can return the failed or different file.
-            if (isFileValid(glideFile, message)) {
-                FileUtils.copyFile(glideFile, destFile);
-                Logger.dev("__ return exist file");
-                return destFile;
-            } else {
-                glideFile.delete();
+            // if the server returns the failed or different file, it retries once more.
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                fetchToFile(url, tempFile, download, message.getSize());
+                Logger.dev("__ file size : " + tempFile.length());
+                if (isFileValid(tempFile, message) && tempFile.renameTo(destFile)) {
+                    Logger.d("__ destFile path : " + destFile.getAbsolutePath());
+                    return destFile;
+                }
+                tempFile.delete();
+            }
+        } finally {
+            // the failed download, such as by the timeout, fails all requests attached to it.
+            tempFile.delete();
+        }
+        return null;
+    }
+
+    private void fetchToFile(@NonNull String url, @NonNull File destFile, @NonNull Download download, long expectedSize) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MS);
+        connection.setReadTimeout(READ_TIMEOUT_MS);
+        try {
+            final int responseCode = connection.getResponseCode();
+            if (responseCode >= HttpURLConnection.HTTP_BAD_REQUEST) {
+                throw new IOException("Failed to download the file. code=" + responseCode);
             }
+            final long contentLength = connection.getContentLength();
+            download.totalBytes = contentLength > 0 ? contentLength : (expectedSize > 0 ? expectedSize : -1);
+            download.downloadedBytes = 0;
 
-            glideFile = GlideCachedUrlLoader.load(Glide.with(context).asFile(), url, String.valueOf(plainUrl.hashCode())).submit().get();
-            if (isFileValid(glideFile, message)) {
-                FileUtils.copyFile(glideFile, destFile);
-                return destFile;
+            try (InputStream input = new BufferedInputStream(connection.getInputStream(), BUFFER_SIZE);
+                 OutputStream output = new FileOutputStream(destFile, false)) {
+                final byte[] buffer = new byte[BUFFER_SIZE];
+                long lastNotifiedAt = 0;
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    if (download.cancelled) {
+                        throw new InterruptedIOException("The download is cancelled. url=" + url);
+                    }
+                    output.write(buffer, 0, read);
+                    download.downloadedBytes += read;
+                    final long now = SystemClock.uptimeMillis();
+                    if (now - lastNotifiedAt >= PROGRESS_INTERVAL_MS) {
+                        lastNotifiedAt = now;
+                        notifyProgress(download);
+                    }
+                }
             }
+            notifyProgress(download);
         } finally {
-            downloadingFileSet.remove(url);
+            connection.disconnect();
         }
-        return null;
+    }
+
+    @Nullable
+    private File fetchWithGlide(@NonNull Context context, @NonNull FileMessage message) throws ExecutionException, InterruptedException {
+        final File glideFile = GlideCachedUrlLoader.load(Glide.with(context).asFile(), message.getUrl(), String.valueOf(message.getPlainUrl().hashCode())).submit().get();
+        return isFileValid(glideFile, message) ? glideFile : null;
+    }
+
+    @Nullable
+    private File fetchFromGlideCache(@NonNull Context context, @NonNull FileMessage message) throws InterruptedException {
+        try {
+            final File glideFile = GlideCachedUrlLoader.load(
+                Glide.with(context).asFile().onlyRetrieveFromCache(true),
+                message.getUrl(),
+                String.valueOf(message.getPlainUrl().hashCode())
+            ).submit().get();
+            return isFileValid(glideFile, message) ? glideFile : null;
+        } catch (ExecutionException e) {
+            // the file isn't cached.
+            return null;
+        }
+    }
+
+    private void notifyProgress(@NonNull Download download) {
+        final long downloadedBytes = download.downloadedBytes;
+        final long totalBytes = download.totalBytes;
+        mainHandler.post(() -> {
+            final List<DownloadRequest> requests;
+            synchronized (downloads) {
+                requests = new ArrayList<>(download.requests);
+            }
+            for (DownloadRequest request : requests) {
+                if (request.progressListener != null) {
+                    request.progressListener.onProgress(downloadedBytes, totalBytes);
+                }
+            }
+        });
+    }
+
+    @NonNull
+    private static File createCacheFile(@NonNull Context context, @NonNull FileMessage message) {
+        // the same message is always downloaded to the same file, so the downloaded file can be reused.
+        return new File(FileUtils.getDownloadCacheDir(context), Integer.toHexString(message.getPlainUrl().hashCode()) + "_" + message.getName());
     }
 
     private boolean isFileValid(@Nullable File file, @NonNull FileMessage fileMessage) {
@@ -99,59 +357,61 @@ public class FileDownloader {
     }
 
     public boolean isDownloading(@NonNull String url) {
-        return downloadingFileSet.contains(url);
+        synchronized (downloads) {
+            return downloads.containsKey(url);
+        }
     }
 
     public void saveFile(@NonNull Context context, @NonNull String url,
                          @NonNull String type, @NonNull String filename) throws Exception {
-        if (downloadingFileSet.contains(url)) {
+        if (!savingFileSet.add(url)) {
             return;
         }
 
         try {
-            downloadingFileSet.add(url);
             final RequestManager glide = Glide.with(context);
             File file = glide.asFile().load(url).submit().get();
             FileUtils.saveFile(context, file, type, filename);
         } finally {
-            downloadingFileSet.remove(url);
+            savingFileSet.remove(url);
         }
     }
 
+    /**
+     * Downloads the file of the message to the cache.
+     * If the same file is already being downloaded, the handler receives the result of it.
+     *
+     * @return Always `true` because the request is attached to the download in progress if there is one
+     */
     @SuppressWarnings("UnusedReturnValue")
     public static boolean downloadFile(@NonNull Context context, @NonNull FileMessage message, @NonNull OnResultHandler<File> handler) {
-        boolean isDownloading = FileDownloader.getInstance().isDownloading(message.getUrl());
-        Logger.d("++ request download file url=%s", message.getUrl());
-        Logger.d("++ isDownloading=%s", isDownloading);
-        if (isDownloading) {
-            Logger.d("-- [%s] already request download.", message.getUrl());
-            return false;
-        }
-        TaskQueue.addTask(new JobResultTask<File>() {
-            @Override
-            public File call() throws ExecutionException, InterruptedException, IOException {
-                if (MessageUtils.isVoiceMessage(message)) {
-                    return FileDownloader.getInstance().downloadVoiceFileToCache(context, message);
-                } else {
-                    return FileDownloader.getInstance().downloadToCache(context, message);
-                }
-            }
-
-            @Override
-            public void onResultForUiThread(@Nullable File file, @Nullable SendbirdException e) {
-                if (e != null || file == null) {
-                    Logger.e(e);
-                    handler.onError(e);
-                    return;
-                }
-
-                Logger.d("++ file download Complete file path : " + file.getAbsolutePath());
-                handler.onResult(file);
-            }
-        });
+        downloadFile(context, message, handler, null);
         return true;
     }
 
+    /**
+     * Downloads the file of the message to the cache, and reports the downloaded bytes.
+     * If the same file is already being downloaded, the request is attached to it.
+     *
+     * @param context          The context to download the file
+     * @param message          The file message to download
+     * @param handler          The callback to be invoked on the UI thread when the download is completed
+     * @param progressListener The callback to be invoked on the UI thread when the bytes are downloaded
+     * @return The request that can be cancelled
+     * since 3.22.0
+     */
+    @NonNull
+    public static DownloadRequest downloadFile(@NonNull Context context,
+                                               @NonNull FileMessage message,
+                                               @NonNull OnResultHandler<File> handler,
+                                               @Nullable OnDownloadProgressListener progressListener) {
+        Logger.d("++ request download file url=%s", message.getUrl());
+        final File destFile = MessageUtils.isVoiceMessage(message) ?
+            FileUtils.getVoiceFile(context, message) :
+            createCacheFile(context, message);
+        return FileDownloader.getInstance().request(context, message, destFile, handler, progressListener);
+    }
+
     public static void downloadThumbnail(@NonNull Context context, @NonNull FileMessage message) {
         List<Thumbnail> thumbnails = message.getThumbnails();
         Thumbnail thumbnail = null;
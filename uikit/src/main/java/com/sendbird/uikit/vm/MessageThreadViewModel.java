@@ -31,9 +31,11 @@ import com.sendbird.android.params.UserMessageUpdateParams;
 import com.sendbird.android.params.common.MessagePayloadFilter;
 import com.sendbird.uikit.SendbirdUIKit;
 import com.sendbird.uikit.consts.StringSet;
+import com.sendbird.uikit.consts.UIKitMetric;
 import com.sendbird.uikit.interfaces.AuthenticateHandler;
 import com.sendbird.uikit.interfaces.OnCompleteHandler;
 import com.sendbird.uikit.internal.queries.MessageThreadListQuery;
+import com.sendbird.uikit.internal.singleton.MetricsTracker;
 import com.sendbird.uikit.log.Logger;
 import com.sendbird.uikit.utils.Available;
 import com.sendbird.uikit.widgets.StatusFrameView;
@@ -181,6 +183,7 @@ public class MessageThreadViewModel extends BaseMessageListViewModel {
         this.skipEvent = true;
         this.cachedMessages.clear();
         worker.execute(() -> {
+            final long startedAt = MetricsTracker.begin(UIKitMetric.LOAD_INITIAL);
             try {
                 // warn: parent message must have entire message properties.
                 messageThreadListQuery = new MessageThreadListQuery(this.parentMessage, startingPoint);
@@ -192,6 +195,8 @@ public class MessageThreadViewModel extends BaseMessageListViewModel {
                 Logger.e(ex);
                 SendbirdUIKit.runOnUIThread(() -> statusFrame.setValue(StatusFrameView.Status.ERROR));
                 return;
+            } finally {
+                MetricsTracker.end(UIKitMetric.LOAD_INITIAL, null, startedAt);
             }
             this.skipEvent = false;
             notifyDataSetChangedOnUiThread(StringSet.ACTION_INIT_FROM_REMOTE);
@@ -212,7 +217,13 @@ public class MessageThreadViewModel extends BaseMessageListViewModel {
     @WorkerThread
     public List<BaseMessage> loadPrevious() throws Exception {
         if (messageThreadListQuery == null || messageListParams == null) return Collections.emptyList();
-        final List<BaseMessage> result = messageThreadListQuery.loadPrevious(messageListParams);
+        final long startedAt = MetricsTracker.begin(UIKitMetric.LOAD_PREVIOUS);
+        final List<BaseMessage> result;
+        try {
+            result = messageThreadListQuery.loadPrevious(messageListParams);
+        } finally {
+            MetricsTracker.end(UIKitMetric.LOAD_PREVIOUS, null, startedAt);
+        }
         cachedMessages.addAll(result);
 
         notifyDataSetChangedOnUiThread(StringSet.ACTION_PREVIOUS);
@@ -401,7 +412,13 @@ public class MessageThreadViewModel extends BaseMessageListViewModel {
             Logger.d("-- MessageThreadViewModel::notifyDataSetChanged() event is ignored. traceName=%s", traceName);
             return;
         }
-        final List<BaseMessage> finalMessageList = buildMessageList();
+        final long buildStartedAt = MetricsTracker.begin(UIKitMetric.MESSAGE_LIST_BUILD);
+        final List<BaseMessage> finalMessageList;
+        try {
+            finalMessageList = buildMessageList();
+        } finally {
+            MetricsTracker.end(UIKitMetric.MESSAGE_LIST_BUILD, null, buildStartedAt);
+        }
         statusFrame.setValue(StatusFrameView.Status.NONE);
         messageList.setValue(new ChannelViewModel.ChannelMessageData(traceName, finalMessageList));
     }
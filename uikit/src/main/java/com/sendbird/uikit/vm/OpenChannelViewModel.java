@@ -2,6 +2,7 @@ package com.sendbird.uikit.vm;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.Observer;
@@ -30,6 +31,8 @@ import com.sendbird.uikit.interfaces.AuthenticateHandler;
 import com.sendbird.uikit.interfaces.OnCompleteHandler;
 import com.sendbird.uikit.interfaces.OnFilteringMessageHandler;
 import com.sendbird.uikit.interfaces.OnPagedDataLoader;
+import com.sendbird.uikit.internal.contracts.SendbirdChatContract;
+import com.sendbird.uikit.internal.contracts.SendbirdChatImpl;
 import com.sendbird.uikit.log.Logger;
 import com.sendbird.uikit.model.FileInfo;
 import com.sendbird.uikit.model.MessageList;
@@ -57,6 +60,8 @@ public class OpenChannelViewModel extends BaseViewModel implements OnPagedDataLo
     @NonNull
     private final ExecutorService worker = Executors.newSingleThreadExecutor();
     @NonNull
+    private final SendbirdChatContract sendbirdChat;
+    @NonNull
     private final MutableLiveData<List<BaseMessage>> messageList = new MutableLiveData<>();
     @NonNull
     private final MessageList messageCollection = new MessageList();
@@ -91,7 +96,13 @@ public class OpenChannelViewModel extends BaseViewModel implements OnPagedDataLo
      * since 3.0.0
      */
     public OpenChannelViewModel(@NonNull String channelUrl, @Nullable MessageListParams messageListParams) {
+        this(channelUrl, messageListParams, new SendbirdChatImpl());
+    }
+
+    @VisibleForTesting
+    OpenChannelViewModel(@NonNull String channelUrl, @Nullable MessageListParams messageListParams, @NonNull SendbirdChatContract sendbirdChat) {
         super();
+        this.sendbirdChat = sendbirdChat;
         this.channel = null;
         this.channelUrl = channelUrl;
         this.messageListParams = messageListParams == null ? createMessageListParams() : messageListParams;
@@ -111,7 +122,7 @@ public class OpenChannelViewModel extends BaseViewModel implements OnPagedDataLo
         };
         PendingMessageRepository.getInstance().addPendingMessageStatusChanged(pendingStatusObserver);
 
-        SendbirdChat.addConnectionHandler(CONNECTION_HANDLER_ID, new ConnectionHandler() {
+        sendbirdChat.addConnectionHandler(CONNECTION_HANDLER_ID, new ConnectionHandler() {
             @Override
             public void onDisconnected(@NonNull String s) {
             }
@@ -147,7 +158,7 @@ public class OpenChannelViewModel extends BaseViewModel implements OnPagedDataLo
     }
 
     private void registerChannelHandler() {
-        SendbirdChat.addChannelHandler(CHANNEL_HANDLER_ID, new OpenChannelHandler() {
+        sendbirdChat.addChannelHandler(CHANNEL_HANDLER_ID, new OpenChannelHandler() {
             @Override
             public void onMessageReceived(@NonNull BaseChannel baseChannel, @NonNull BaseMessage baseMessage) {
                 if (messageListParams == null || !messageListParams.belongsTo(baseMessage)) return;
@@ -537,8 +548,8 @@ public class OpenChannelViewModel extends BaseViewModel implements OnPagedDataLo
         }
 
         Logger.dev("-- onCleared ChannelViewModel");
-        SendbirdChat.removeConnectionHandler(CONNECTION_HANDLER_ID);
-        SendbirdChat.removeChannelHandler(CHANNEL_HANDLER_ID);
+        sendbirdChat.removeConnectionHandler(CONNECTION_HANDLER_ID);
+        sendbirdChat.removeChannelHandler(CHANNEL_HANDLER_ID);
         PendingMessageRepository.getInstance().removePendingMessageStatusObserver(pendingStatusObserver);
         worker.shutdownNow();
     }
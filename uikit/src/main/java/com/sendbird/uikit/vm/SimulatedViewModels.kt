@@ -0,0 +1,62 @@
+package com.sendbird.uikit.vm
+
+import com.sendbird.android.channel.GroupChannel
+import com.sendbird.android.channel.query.GroupChannelListQuery
+import com.sendbird.android.handler.MessageCollectionHandler
+import com.sendbird.android.message.BaseMessage
+import com.sendbird.android.params.MessageListParams
+import com.sendbird.uikit.internal.contracts.GroupChannelCollectionContract
+import com.sendbird.uikit.internal.contracts.MessageCollectionContract
+import com.sendbird.uikit.internal.contracts.SendbirdChatImpl
+import com.sendbird.uikit.internal.contracts.SendbirdUIKitImpl
+import com.sendbird.uikit.internal.singleton.ChatEventSimulator
+import com.sendbird.uikit.model.configurations.ChannelConfig
+
+/**
+ * The view models created by the chat load simulation. Their contracts are wrapped by the simulated ones,
+ * so the events of [ChatEventSimulator] are delivered to them in addition to the events of the SDK.
+ * They're provided only while the simulation is running, and the production view models don't know the simulator.
+ */
+internal class SimulatedChannelViewModel(
+    channelUrl: String,
+    messageListParams: MessageListParams?,
+    channelConfig: ChannelConfig
+) : ChannelViewModel(
+    channelUrl,
+    messageListParams,
+    SendbirdUIKitImpl(),
+    ChatEventSimulator.wrap(SendbirdChatImpl()),
+    channelConfig
+) {
+    override fun createMessageCollection(
+        startingPoint: Long,
+        params: MessageListParams,
+        channel: GroupChannel,
+        handler: MessageCollectionHandler
+    ): MessageCollectionContract {
+        return ChatEventSimulator.wrap(super.createMessageCollection(startingPoint, params, channel, handler), channel, handler)
+    }
+}
+
+internal class SimulatedChannelListViewModel(query: GroupChannelListQuery?) : ChannelListViewModel(query) {
+    override fun createGroupChannelCollection(): GroupChannelCollectionContract {
+        return ChatEventSimulator.wrap(super.createGroupChannelCollection())
+    }
+}
+
+internal class SimulatedOpenChannelViewModel(
+    private val url: String,
+    messageListParams: MessageListParams?
+) : OpenChannelViewModel(url, messageListParams, ChatEventSimulator.wrap(SendbirdChatImpl())) {
+    // the open channel has no collection, so the loaded messages are kept here to be replayed.
+    override fun loadPrevious(): List<BaseMessage> {
+        val messages = super.loadPrevious()
+        channel?.let { ChatEventSimulator.recordMessages(it, messages) }
+        return messages
+    }
+
+    override fun onCleared() {
+        super.onCleared()
+        ChatEventSimulator.releaseMessages(url)
+    }
+}
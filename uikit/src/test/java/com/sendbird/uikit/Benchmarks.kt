@@ -0,0 +1,69 @@
+package com.sendbird.uikit
+
+import com.sendbird.android.message.SendingStatus
+import com.sendbird.android.message.UserMessage
+import com.sendbird.android.user.Sender
+import io.mockk.every
+import io.mockk.mockk
+import java.lang.management.ManagementFactory
+import java.util.Locale
+
+/**
+ * Runs the blocks of the benchmarks and prints the average time and allocation per operation.
+ * The numbers are for comparing the revisions on the same machine, not for the devices.
+ * The allocations are measured only on the JVMs that support `com.sun.management.ThreadMXBean`.
+ */
+internal object Benchmarks {
+    private const val WARM_UP_ROUNDS = 3
+    private const val MEASURE_ROUNDS = 5
+    private val threadMXBean = ManagementFactory.getThreadMXBean() as? com.sun.management.ThreadMXBean
+
+    /**
+     * Measures the [block] which runs [operations] operations in a round.
+     */
+    fun report(name: String, operations: Int, block: () -> Unit) {
+        repeat(WARM_UP_ROUNDS) { block() }
+        var nanos = 0L
+        var bytes = 0L
+        repeat(MEASURE_ROUNDS) {
+            val allocatedBefore = allocatedBytes()
+            val startedAt = System.nanoTime()
+            block()
+            nanos += System.nanoTime() - startedAt
+            bytes += allocatedBytes() - allocatedBefore
+        }
+        val totalOperations = MEASURE_ROUNDS.toLong() * operations
+        println(
+            String.format(
+                Locale.US,
+                "%-48s %10.2f us/op %12s bytes/op",
+                name,
+                nanos / 1000.0 / totalOperations,
+                if (threadMXBean != null) (bytes / totalOperations).toString() else "n/a"
+            )
+        )
+    }
+
+    /**
+     * Creates the user message stub which has the values read by the message list and its diff.
+     * The messages are mockk stubs, so the numbers include the cost of the stubs.
+     */
+    fun userMessage(id: Long, createdAt: Long, sender: Sender?, updatedAt: Long = 0L): UserMessage =
+        mockk(relaxed = true) {
+            every { messageId } returns id
+            every { requestId } returns "request_$id"
+            every { channelUrl } returns "sendbird_group_channel_benchmark"
+            every { this@mockk.createdAt } returns createdAt
+            every { this@mockk.updatedAt } returns updatedAt
+            every { this@mockk.sender } returns sender
+            every { sendingStatus } returns SendingStatus.SUCCEEDED
+            every { message } returns "The quick brown fox jumps over the lazy dog. #$id"
+            every { reactions } returns emptyList()
+            every { extendedMessagePayload } returns emptyMap()
+            every { ogMetaData } returns null
+            every { parentMessageId } returns 0L
+            every { parentMessage } returns null
+        }
+
+    private fun allocatedBytes(): Long = threadMXBean?.getThreadAllocatedBytes(Thread.currentThread().id) ?: 0L
+}
@@ -0,0 +1,83 @@
+package com.sendbird.uikit.activities.adapter
+
+import androidx.recyclerview.widget.DiffUtil
+import androidx.recyclerview.widget.ListUpdateCallback
+import com.sendbird.android.channel.GroupChannel
+import com.sendbird.android.channel.Role
+import com.sendbird.android.message.BaseMessage
+import com.sendbird.android.user.Sender
+import com.sendbird.uikit.Benchmarks
+import com.sendbird.uikit.model.MessageListUIParams
+import io.mockk.every
+import io.mockk.mockk
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+
+private val MESSAGE_COUNTS = listOf(1_000, 5_000)
+private const val UPDATED_RATIO = 100
+private const val INSERTED_COUNT = 10
+private const val FIRST_CREATED_AT = 1_700_000_000_000L
+private const val MESSAGE_INTERVAL_MS = 20_000L
+
+/**
+ * Measures [DiffUtil.calculateDiff] with [MessageDiffCallback] when a few messages are received and updated in the large list.
+ * The messages are mockk stubs, so the numbers include the cost of the stubs.
+ *
+ * Run it with `./gradlew :uikit:testDebugUnitTest --tests "*MessageDiffCallbackBenchmarkTest"`.
+ */
+@RunWith(RobolectricTestRunner::class)
+@Config(sdk = [33])
+class MessageDiffCallbackBenchmarkTest {
+    private val senders = List(3) { index ->
+        mockk<Sender>(relaxed = true) { every { userId } returns "sender_$index" }
+    }
+
+    @Test
+    fun measureMessageDiff() {
+        val params = MessageListUIParams.Builder().build()
+        MESSAGE_COUNTS.forEach { count ->
+            // the list is in the descending order as the message list adapter.
+            val oldMessages = List(count) { message(count - it.toLong()) }
+            val updatedIds = oldMessages.indices.filter { it % UPDATED_RATIO == 0 }.map { oldMessages[it].messageId }.toSet()
+            val newMessages = List(INSERTED_COUNT) { message(count + INSERTED_COUNT - it.toLong()) } +
+                oldMessages.map { if (it.messageId in updatedIds) message(it.messageId, updatedAt = 1L) else it }
+
+            val oldChannel = channel()
+            val newChannel = channel()
+            var diffResult: DiffUtil.DiffResult? = null
+            Benchmarks.report("MessageDiffCallback($count)", 1) {
+                diffResult = DiffUtil.calculateDiff(MessageDiffCallback(oldChannel, newChannel, oldMessages, newMessages, params))
+            }
+
+            var inserted = 0
+            var changed = 0
+            diffResult!!.dispatchUpdatesTo(object : ListUpdateCallback {
+                override fun onInserted(position: Int, count: Int) {
+                    inserted += count
+                }
+
+                override fun onRemoved(position: Int, count: Int) {}
+                override fun onMoved(fromPosition: Int, toPosition: Int) {}
+                override fun onChanged(position: Int, count: Int, payload: Any?) {
+                    changed += count
+                }
+            })
+            assertEquals(INSERTED_COUNT, inserted)
+            // the group types of the neighbors of the inserted messages can be changed as well.
+            assertTrue("changed=$changed", changed >= updatedIds.size)
+        }
+    }
+
+    private fun message(id: Long, updatedAt: Long = 0L): BaseMessage =
+        Benchmarks.userMessage(id, FIRST_CREATED_AT + id * MESSAGE_INTERVAL_MS, senders[(id % senders.size).toInt()], updatedAt)
+
+    private fun channel(): GroupChannel = mockk(relaxed = true) {
+        every { url } returns "sendbird_group_channel_benchmark"
+        every { isFrozen } returns false
+        every { myRole } returns Role.NONE
+    }
+}
@@ -0,0 +1,303 @@
+package com.sendbird.uikit.activities.adapter
+
+import android.content.Context
+import android.view.ContextThemeWrapper
+import android.view.ViewGroup
+import android.widget.FrameLayout
+import androidx.test.core.app.ApplicationProvider
+import com.sendbird.android.SendbirdChat
+import com.sendbird.android.channel.ChannelType
+import com.sendbird.android.channel.GroupChannel
+import com.sendbird.android.message.AdminMessage
+import com.sendbird.android.message.BaseMessage
+import com.sendbird.android.message.FileMessage
+import com.sendbird.android.message.MessageForm
+import com.sendbird.android.message.MultipleFilesMessage
+import com.sendbird.android.message.SendingStatus
+import com.sendbird.android.message.ThreadInfo
+import com.sendbird.android.message.UploadedFileInfo
+import com.sendbird.android.message.UserMessage
+import com.sendbird.android.user.Sender
+import com.sendbird.android.user.User
+import com.sendbird.uikit.SendbirdUIKit
+import com.sendbird.uikit.activities.viewholder.MessageType
+import com.sendbird.uikit.consts.ReplyType
+import com.sendbird.uikit.model.MessageListUIParams
+import com.sendbird.uikit.model.TimelineMessage
+import com.sendbird.uikit.model.configurations.UIKitConfig
+import com.sendbird.uikit.utils.UIKitPrefs
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.mockkObject
+import io.mockk.unmockkAll
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+import java.lang.management.ManagementFactory
+import java.util.Locale
+
+private const val WARM_UP_ITERATIONS = 20
+private const val MEASURE_ITERATIONS = 200
+private const val MY_USER_ID = "me"
+private const val OTHER_USER_ID = "other"
+private const val VOICE_TYPE = "audio/m4a;sbu_type=voice"
+
+/**
+ * Measures the cost to create and bind the view holders of each [MessageType] through [MessageListAdapter] and [ThreadListAdapter].
+ * The messages are synthetic, so the numbers are for comparing the revisions on the same machine, not for the devices.
+ * The allocations are measured only on the JVMs that support `com.sun.management.ThreadMXBean`.
+ *
+ * Run it with `./gradlew :uikit:testDebugUnitTest --tests "*MessageViewHolderBenchmarkTest"`.
+ */
+@RunWith(RobolectricTestRunner::class)
+@Config(sdk = [33])
+class MessageViewHolderBenchmarkTest {
+    private class Scenario(
+        val name: String,
+        val viewType: MessageType,
+        val replyType: ReplyType = ReplyType.QUOTE_REPLY,
+        val useThreadList: Boolean = false,
+        val createMessage: (id: Long) -> BaseMessage
+    )
+
+    private class Result(val name: String, val createNanos: Long, val bindNanos: Long, val bindBytes: Long?)
+
+    private lateinit var context: Context
+    private lateinit var channel: GroupChannel
+    private val threadMXBean = ManagementFactory.getThreadMXBean() as? com.sun.management.ThreadMXBean
+
+    @Before
+    fun setUp() {
+        val appContext = ApplicationProvider.getApplicationContext<Context>()
+        context = ContextThemeWrapper(appContext, SendbirdUIKit.getDefaultThemeMode().resId)
+        UIKitPrefs.init(appContext)
+        val me = mockk<User>(relaxed = true) {
+            every { userId } returns MY_USER_ID
+            every { nickname } returns "Me"
+        }
+        mockkObject(SendbirdChat)
+        every { SendbirdChat.currentUser } returns me
+        channel = mockk(relaxed = true) {
+            every { url } returns "sendbird_group_channel_benchmark"
+            every { channelType } returns ChannelType.GROUP
+            every { isSuper } returns false
+            every { isBroadcast } returns false
+            every { memberCount } returns 2
+        }
+    }
+
+    @After
+    fun tearDown() {
+        unmockkAll()
+    }
+
+    @Test
+    fun measureCreateAndBind() {
+        val failures = mutableListOf<String>()
+        val scenarios = scenarios()
+        val results = scenarios.mapNotNull { scenario ->
+            try {
+                measure(scenario)
+            } catch (e: Throwable) {
+                failures.add("${scenario.name}: $e")
+                null
+            }
+        }
+        println(String.format(Locale.US, "%-32s %12s %12s %14s", "scenario", "create(us)", "bind(us)", "bind(bytes)"))
+        results.forEach {
+            println(
+                String.format(
+                    Locale.US,
+                    "%-32s %12.1f %12.1f %14s",
+                    it.name,
+                    it.createNanos / 1000.0,
+                    it.bindNanos / 1000.0,
+                    it.bindBytes?.toString() ?: "n/a"
+                )
+            )
+        }
+        assertTrue("failed scenarios: $failures", failures.isEmpty())
+        assertEquals(scenarios.size, results.size)
+    }
+
+    private fun measure(scenario: Scenario): Result {
+        val params = MessageListUIParams.Builder()
+            .setChannelConfig(UIKitConfig.groupChannelConfig.clone().apply {
+                replyType = scenario.replyType
+            })
+            .build()
+        val adapter: BaseMessageListAdapter = if (scenario.useThreadList) {
+            ThreadListAdapter(null, params)
+        } else {
+            MessageListAdapter(null, params)
+        }
+        val message = scenario.createMessage(1L)
+        // the items are set directly, because the adapter calculates the diff of the items in background.
+        setField(adapter, "channel", channel)
+        setField(adapter, "messageList", mutableListOf(message))
+        val parent = FrameLayout(context)
+
+        // the view type is forced for some scenarios, such as the template, so only the inflated and bound views are checked.
+        val checked = adapter.onCreateViewHolder(parent, scenario.viewType.value)
+        adapter.onBindViewHolder(checked, 0)
+        assertTrue("${scenario.name}: no view is inflated", ((checked.itemView as? ViewGroup)?.childCount ?: 0) > 0)
+
+        repeat(WARM_UP_ITERATIONS) {
+            adapter.onBindViewHolder(adapter.onCreateViewHolder(parent, scenario.viewType.value), 0)
+        }
+
+        var createNanos = 0L
+        var bindNanos = 0L
+        var bindBytes = 0L
+        repeat(MEASURE_ITERATIONS) {
+            val createdAt = System.nanoTime()
+            val holder = adapter.onCreateViewHolder(parent, scenario.viewType.value)
+            createNanos += System.nanoTime() - createdAt
+
+            val allocatedBefore = allocatedBytes()
+            val boundAt = System.nanoTime()
+            adapter.onBindViewHolder(holder, 0)
+            bindNanos += System.nanoTime() - boundAt
+            bindBytes += allocatedBytes() - allocatedBefore
+        }
+        return Result(
+            scenario.name,
+            createNanos / MEASURE_ITERATIONS,
+            bindNanos / MEASURE_ITERATIONS,
+            if (threadMXBean != null) bindBytes / MEASURE_ITERATIONS else null
+        )
+    }
+
+    private fun scenarios(): List<Scenario> = listOf(
+        Scenario("user(me)", MessageType.VIEW_TYPE_USER_MESSAGE_ME) { userMessage(it, mine = true) },
+        Scenario("user(other)", MessageType.VIEW_TYPE_USER_MESSAGE_OTHER) { userMessage(it, mine = false) },
+        Scenario("user(me, quoted)", MessageType.VIEW_TYPE_USER_MESSAGE_ME) { userMessage(it, mine = true, quoted = true) },
+        Scenario("user(other, quoted)", MessageType.VIEW_TYPE_USER_MESSAGE_OTHER) { userMessage(it, mine = false, quoted = true) },
+        Scenario("user(me, thread info)", MessageType.VIEW_TYPE_USER_MESSAGE_ME, ReplyType.THREAD) {
+            userMessage(it, mine = true, replyCount = 3)
+        },
+        Scenario("user(other, thread info)", MessageType.VIEW_TYPE_USER_MESSAGE_OTHER, ReplyType.THREAD) {
+            userMessage(it, mine = false, replyCount = 3)
+        },
+        Scenario("file(me)", MessageType.VIEW_TYPE_FILE_MESSAGE_ME) { fileMessage(it, "application/pdf", mine = true) },
+        Scenario("file(other)", MessageType.VIEW_TYPE_FILE_MESSAGE_OTHER) { fileMessage(it, "application/pdf", mine = false) },
+        Scenario("image(me)", MessageType.VIEW_TYPE_FILE_MESSAGE_IMAGE_ME) { fileMessage(it, "image/jpeg", mine = true) },
+        Scenario("image(other)", MessageType.VIEW_TYPE_FILE_MESSAGE_IMAGE_OTHER) { fileMessage(it, "image/jpeg", mine = false) },
+        Scenario("video(me)", MessageType.VIEW_TYPE_FILE_MESSAGE_VIDEO_ME) { fileMessage(it, "video/mp4", mine = true) },
+        Scenario("video(other)", MessageType.VIEW_TYPE_FILE_MESSAGE_VIDEO_OTHER) { fileMessage(it, "video/mp4", mine = false) },
+        Scenario("voice(me)", MessageType.VIEW_TYPE_VOICE_MESSAGE_ME) { fileMessage(it, VOICE_TYPE, mine = true) },
+        Scenario("voice(other)", MessageType.VIEW_TYPE_VOICE_MESSAGE_OTHER) { fileMessage(it, VOICE_TYPE, mine = false) },
+        Scenario("multiple files(me)", MessageType.VIEW_TYPE_MULTIPLE_FILES_MESSAGE_ME) { multipleFilesMessage(it, mine = true) },
+        Scenario("multiple files(other)", MessageType.VIEW_TYPE_MULTIPLE_FILES_MESSAGE_OTHER) { multipleFilesMessage(it, mine = false) },
+        Scenario("admin", MessageType.VIEW_TYPE_ADMIN_MESSAGE) { adminMessage(it) },
+        Scenario("timeline", MessageType.VIEW_TYPE_TIME_LINE) { TimelineMessage(userMessage(it, mine = false)) },
+        // the template isn't cached, so it measures the fallback which is displayed while the template is loaded.
+        Scenario("template(other)", MessageType.VIEW_TYPE_TEMPLATE_MESSAGE_OTHER) { userMessage(it, mine = false) },
+        Scenario("form", MessageType.VIEW_TYPE_FORM_TYPE_MESSAGE) { userMessage(it, mine = false, hasForm = true) },
+        Scenario("parent message info", MessageType.VIEW_TYPE_PARENT_MESSAGE_INFO, ReplyType.THREAD, useThreadList = true) {
+            userMessage(it, mine = false, replyCount = 3)
+        },
+        Scenario("thread reply(other)", MessageType.VIEW_TYPE_USER_MESSAGE_OTHER, ReplyType.THREAD, useThreadList = true) {
+            userMessage(it, mine = false, quoted = true)
+        }
+    )
+
+    private fun sender(mine: Boolean): Sender = mockk(relaxed = true) {
+        every { userId } returns if (mine) MY_USER_ID else OTHER_USER_ID
+        every { nickname } returns if (mine) "Me" else "Other"
+        every { profileUrl } returns ""
+        every { plainProfileImageUrl } returns ""
+    }
+
+    private fun BaseMessage.stubCommon(
+        id: Long,
+        mine: Boolean,
+        quoted: Boolean = false,
+        replyCount: Int = 0,
+        hasForm: Boolean = false
+    ) {
+        val threadInfo = mockk<ThreadInfo>(relaxed = true) {
+            every { this@mockk.replyCount } returns replyCount
+            every { mostRepliedUsers } returns emptyList()
+        }
+        every { messageId } returns id
+        every { requestId } returns "request_$id"
+        every { channelUrl } returns channel.url
+        every { channelType } returns ChannelType.GROUP
+        every { createdAt } returns 1_700_000_000_000L + id
+        every { updatedAt } returns 0L
+        every { sender } returns sender(mine)
+        every { sendingStatus } returns SendingStatus.SUCCEEDED
+        every { reactions } returns emptyList()
+        every { mentionedUsers } returns emptyList()
+        every { customType } returns ""
+        every { data } returns ""
+        every { messageForm } returns if (hasForm) {
+            mockk<MessageForm>(relaxed = true) { every { items } returns emptyList() }
+        } else {
+            null
+        }
+        every { this@stubCommon.threadInfo } returns threadInfo
+        every { parentMessageId } returns if (quoted) id + 1000 else 0L
+        every { parentMessage } returns if (quoted) userMessage(id + 1000, mine = !mine) else null
+    }
+
+    private fun userMessage(
+        id: Long,
+        mine: Boolean,
+        quoted: Boolean = false,
+        replyCount: Int = 0,
+        hasForm: Boolean = false
+    ): UserMessage =
+        mockk<UserMessage>(relaxed = true).apply {
+            stubCommon(id, mine, quoted, replyCount, hasForm)
+            every { message } returns "The quick brown fox jumps over the lazy dog. #$id"
+            every { translations } returns emptyMap()
+            every { ogMetaData } returns null
+        }
+
+    private fun fileMessage(id: Long, mimeType: String, mine: Boolean): FileMessage =
+        mockk<FileMessage>(relaxed = true).apply {
+            stubCommon(id, mine)
+            every { type } returns mimeType
+            every { name } returns "file_$id"
+            every { url } returns "https://example.com/file_$id"
+            every { plainUrl } returns "https://example.com/file_$id"
+            every { size } returns 1024
+            every { thumbnails } returns emptyList()
+        }
+
+    private fun multipleFilesMessage(id: Long, mine: Boolean): MultipleFilesMessage =
+        mockk<MultipleFilesMessage>(relaxed = true).apply {
+            stubCommon(id, mine)
+            every { files } returns List(4) { index ->
+                mockk<UploadedFileInfo>(relaxed = true) {
+                    every { fileType } returns "image/jpeg"
+                    every { url } returns "https://example.com/file_${id}_$index"
+                    every { plainUrl } returns "https://example.com/file_${id}_$index"
+                    every { fileName } returns "file_${id}_$index"
+                    every { thumbnails } returns emptyList()
+                }
+            }
+        }
+
+    private fun adminMessage(id: Long): AdminMessage =
+        mockk<AdminMessage>(relaxed = true).apply {
+            stubCommon(id, mine = false)
+            every { message } returns "The channel is frozen."
+        }
+
+    private fun allocatedBytes(): Long = threadMXBean?.getThreadAllocatedBytes(Thread.currentThread().id) ?: 0L
+
+    private fun setField(adapter: BaseMessageListAdapter, name: String, value: Any) {
+        BaseMessageListAdapter::class.java.getDeclaredField(name).apply {
+            isAccessible = true
+            set(adapter, value)
+        }
+    }
+}
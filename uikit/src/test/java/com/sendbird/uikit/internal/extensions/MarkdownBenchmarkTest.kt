@@ -0,0 +1,51 @@
+package com.sendbird.uikit.internal.extensions
+
+import android.text.style.ClickableSpan
+import android.text.style.StyleSpan
+import com.sendbird.uikit.Benchmarks
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+
+private const val MESSAGE_COUNT = 1_000
+private val PATTERN_COUNTS = listOf(0, 1, 5, 20)
+
+/**
+ * Measures the markdown conversion of the messages which have the given number of bold and link patterns.
+ * It runs with Robolectric to provide the spannable and the spans of the framework.
+ *
+ * Run it with `./gradlew :uikit:testDebugUnitTest --tests "*MarkdownBenchmarkTest"`.
+ */
+@RunWith(RobolectricTestRunner::class)
+@Config(sdk = [33])
+class MarkdownBenchmarkTest {
+    @Test
+    fun measureMarkdown() {
+        PATTERN_COUNTS.forEach { patternCount ->
+            val messages = List(MESSAGE_COUNT) { createMessage(it, patternCount) }
+
+            Benchmarks.report("applyMarkdown(patterns=$patternCount)", MESSAGE_COUNT) {
+                messages.forEach { it.applyMarkdown(onLinkClickListener = null) }
+            }
+            Benchmarks.report("removeMarkdownFormatting(patterns=$patternCount)", MESSAGE_COUNT) {
+                messages.forEach { it.removeMarkdownFormatting() }
+            }
+
+            // each pattern has one bold text, and one link which is bold and clickable.
+            val converted = messages.first().applyMarkdown(onLinkClickListener = null)
+            assertEquals(patternCount * 2, converted.getSpans(0, converted.length, StyleSpan::class.java).size)
+            assertEquals(patternCount, converted.getSpans(0, converted.length, ClickableSpan::class.java).size)
+            assertFalse(converted.contains("**") || converted.contains("]("))
+        }
+    }
+
+    private fun createMessage(index: Int, patternCount: Int): String = buildString {
+        append("The quick brown fox jumps over the lazy dog. #$index")
+        repeat(patternCount) {
+            append(" This is **bold $it** and [link $it](https://example.com/$index/$it) in the message.")
+        }
+    }
+}
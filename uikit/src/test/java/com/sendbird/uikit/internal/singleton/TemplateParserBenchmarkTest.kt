@@ -0,0 +1,82 @@
+package com.sendbird.uikit.internal.singleton
+
+import com.sendbird.uikit.Benchmarks
+import com.sendbird.uikit.internal.model.notifications.NotificationTemplate
+import com.sendbird.uikit.internal.model.notifications.NotificationThemeMode
+import com.sendbird.uikit.internal.model.template_messages.BoxViewParams
+import com.sendbird.uikit.internal.model.templates.MessageTemplate
+import org.junit.Assert.assertEquals
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+
+private const val TEMPLATE_COUNT = 1000
+private const val ITEMS_PER_TEMPLATE = 10
+
+/**
+ * Measures the template paths which depend only on kotlinx.serialization, org.json and the logger,
+ * with [TEMPLATE_COUNT] synthetic templates whose size is close to the ones of the dashboard.
+ * The numbers are for comparing the revisions on the same machine.
+ * It runs with Robolectric only to provide org.json and android.graphics.Color used by the color serializers.
+ *
+ * Run it with `./gradlew :uikit:testDebugUnitTest --tests "*TemplateParserBenchmarkTest"`.
+ */
+@RunWith(RobolectricTestRunner::class)
+@Config(sdk = [33])
+class TemplateParserBenchmarkTest {
+    @Test
+    fun measureTemplateParsing() {
+        val templateJsons = List(TEMPLATE_COUNT) { createTemplateJson(it) }
+        val variables = List(TEMPLATE_COUNT) { createVariables(it) }
+        var notificationTemplates = emptyList<NotificationTemplate>()
+        var messageTemplates = emptyList<MessageTemplate>()
+        var syntaxes = emptyList<String>()
+
+        report("NotificationTemplate.fromJson") {
+            notificationTemplates = templateJsons.map { NotificationTemplate.fromJson(it) }
+        }
+        report("MessageTemplate.fromJson") {
+            messageTemplates = templateJsons.map { JsonParser.fromJson<MessageTemplate>(it) }
+        }
+        report("NotificationTemplate.getTemplateSyntax") {
+            syntaxes = notificationTemplates.mapIndexed { index, template ->
+                template.getTemplateSyntax(variables[index], NotificationThemeMode.Light)
+            }
+        }
+        report("MessageTemplate.getTemplateSyntax") {
+            messageTemplates.forEachIndexed { index, template -> template.getTemplateSyntax(variables[index]) }
+        }
+        report("MessageTemplateParser.parse") {
+            syntaxes.forEach { MessageTemplateParser.parse(it) }
+        }
+
+        // the root box contains the items, so the number of the parsed items is checked on its children.
+        val root = MessageTemplateParser.parse(syntaxes.first()).body.items.single() as BoxViewParams
+        assertEquals(ITEMS_PER_TEMPLATE, root.items?.size)
+    }
+
+    private fun report(name: String, block: () -> Unit) = Benchmarks.report(name, TEMPLATE_COUNT, block)
+
+    private fun createTemplateJson(index: Int): String {
+        val items = List(ITEMS_PER_TEMPLATE) { item ->
+            if (item % 2 == 0) {
+                """{"type":"text","text":"{title_$item}","maxTextLines":2,"textStyle":{"size":14,"color":"{text_color}","weight":"bold"}}"""
+            } else {
+                """{"type":"image","imageUrl":"{image_$item}","width":{"type":"fixed","value":48},"height":{"type":"fixed","value":48}}"""
+            }
+        }
+        val uiTemplate = """{"version":1,"body":{"items":[{"type":"box","layout":"column","viewStyle":{"backgroundColor":"{bg_color}","padding":{"top":12,"bottom":12,"left":12,"right":12}},"items":[${items.joinToString(",")}]}]}}"""
+        return """{"key":"template_$index","created_at":$index,"updated_at":$index,"name":"template $index","ui_template":$uiTemplate,"color_variables":{"text_color":"#FF000000,#FFFFFFFF","bg_color":"#FFFFFFFF,#FF000000"}}"""
+    }
+
+    private fun createVariables(index: Int): Map<String, String> {
+        return (0 until ITEMS_PER_TEMPLATE).associate { item ->
+            if (item % 2 == 0) {
+                "title_$item" to "Notification $index title $item"
+            } else {
+                "image_$item" to "https://example.com/images/$index/$item.png"
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.sendbird.uikit.model
+
+import com.sendbird.android.message.BaseMessage
+import com.sendbird.android.user.Sender
+import com.sendbird.uikit.Benchmarks
+import com.sendbird.uikit.utils.DateUtils
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.mockkObject
+import io.mockk.unmockkAll
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotNull
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+import java.util.Random
+
+private val MESSAGE_COUNTS = listOf(1_000, 10_000)
+private const val CHANGED_COUNT = 1_000
+private const val FIRST_CREATED_AT = 1_700_000_000_000L
+private const val MESSAGE_INTERVAL_MS = 60_000L
+
+/**
+ * Measures [MessageList] which keeps the messages of the channel with the timeline messages.
+ * The messages are mockk stubs and [BaseMessage.clone] returns the given message, so the cost of the clone isn't included.
+ *
+ * Run it with `./gradlew :uikit:testDebugUnitTest --tests "*MessageListBenchmarkTest"`.
+ */
+@RunWith(RobolectricTestRunner::class)
+@Config(sdk = [33])
+class MessageListBenchmarkTest {
+    private val sender = mockk<Sender>(relaxed = true) {
+        every { userId } returns "sender"
+    }
+
+    @Before
+    fun setUp() {
+        mockkObject(BaseMessage)
+        every { BaseMessage.clone(any()) } answers { firstArg() }
+    }
+
+    @After
+    fun tearDown() {
+        unmockkAll()
+    }
+
+    @Test
+    fun measureMessageList() {
+        MESSAGE_COUNTS.forEach { count ->
+            val messages = List(count) { Benchmarks.userMessage(it + 1L, FIRST_CREATED_AT + it * MESSAGE_INTERVAL_MS, sender) }
+            val changed = messages.shuffled(Random(count.toLong())).take(CHANGED_COUNT)
+            val messageList = MessageList()
+
+            Benchmarks.report("MessageList.addAll($count)", count) {
+                messageList.clear()
+                messageList.addAll(messages)
+            }
+            Benchmarks.report("MessageList.update($count)", CHANGED_COUNT) {
+                messageList.updateAll(changed)
+            }
+            Benchmarks.report("MessageList.getById($count)", CHANGED_COUNT) {
+                changed.forEach { messageList.getById(it.messageId) }
+            }
+            Benchmarks.report("MessageList.delete and add($count)", CHANGED_COUNT) {
+                messageList.deleteAll(changed)
+                messageList.addAll(changed)
+            }
+
+            // each date has one timeline message in front of its messages.
+            val dateCount = messages.map { DateUtils.getDateString(it.createdAt) }.distinct().size
+            assertEquals(count + dateCount, messageList.size)
+            assertNotNull(messageList.getById(changed.first().messageId))
+        }
+    }
+}
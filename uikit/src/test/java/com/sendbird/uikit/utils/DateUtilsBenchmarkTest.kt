@@ -0,0 +1,51 @@
+package com.sendbird.uikit.utils
+
+import com.sendbird.uikit.Benchmarks
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+
+private const val MESSAGE_COUNT = 10_000
+private const val FIRST_CREATED_AT = 1_700_000_000_000L
+private const val MESSAGE_INTERVAL_MS = 60_000L
+
+/**
+ * Measures [DateUtils] used to group the messages by the date and the minute, and to create the timeline messages.
+ * It runs with Robolectric to provide the date formatting of the framework.
+ *
+ * Run it with `./gradlew :uikit:testDebugUnitTest --tests "*DateUtilsBenchmarkTest"`.
+ */
+@RunWith(RobolectricTestRunner::class)
+@Config(sdk = [33])
+class DateUtilsBenchmarkTest {
+    @Test
+    fun measureDateBucketing() {
+        val createdAts = List(MESSAGE_COUNT) { FIRST_CREATED_AT + it * MESSAGE_INTERVAL_MS }
+        // the timeline message is created with the first message of each date.
+        val timelineAts = createdAts.distinctBy { DateUtils.getDateString(it) }
+        var dates = emptySet<String>()
+
+        Benchmarks.report("DateUtils.getDateString", MESSAGE_COUNT) {
+            dates = createdAts.mapTo(HashSet()) { DateUtils.getDateString(it) }
+        }
+        Benchmarks.report("DateUtils.hasSameDate", MESSAGE_COUNT - 1) {
+            createdAts.zipWithNext { first, second -> DateUtils.hasSameDate(first, second) }
+        }
+        Benchmarks.report("DateUtils.hasSameTimeInMinute", MESSAGE_COUNT - 1) {
+            createdAts.zipWithNext { first, second -> DateUtils.hasSameTimeInMinute(first, second) }
+        }
+        Benchmarks.report("DateUtils.formatTimelineMessage", timelineAts.size) {
+            timelineAts.forEach { DateUtils.formatTimelineMessage(it) }
+        }
+
+        // the messages of one minute interval are in about a week.
+        assertTrue(dates.size in 7..9)
+        assertEquals(dates.size, timelineAts.size)
+        assertTrue(timelineAts.all { DateUtils.formatTimelineMessage(it).isNotEmpty() })
+        assertFalse(DateUtils.hasSameTimeInMinute(createdAts[0], createdAts[1]))
+    }
+}
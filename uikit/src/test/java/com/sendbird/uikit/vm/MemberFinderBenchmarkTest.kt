@@ -0,0 +1,92 @@
+package com.sendbird.uikit.vm
+
+import com.sendbird.android.channel.GroupChannel
+import com.sendbird.android.user.Member
+import com.sendbird.android.user.User
+import com.sendbird.uikit.Benchmarks
+import com.sendbird.uikit.SendbirdUIKit
+import com.sendbird.uikit.adapter.SendbirdUIKitAdapter
+import com.sendbird.uikit.model.UserMentionConfig
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.mockkStatic
+import io.mockk.unmockkAll
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+
+private val MEMBER_COUNTS = listOf(100, 1_000, 5_000)
+private const val MAX_SUGGESTION_COUNT = 15
+private const val MY_USER_ID = "me"
+private val KEYWORDS = listOf("a", "al", "ali", "z", "nobody")
+
+/**
+ * Measures the filtering of [MemberFinder] for the channels which aren't super group channels.
+ * The filtering is done with the members the channel already has, so the debounce and the query aren't included.
+ * The members are mockk stubs, so the numbers include the cost of the stubs.
+ *
+ * Run it with `./gradlew :uikit:testDebugUnitTest --tests "*MemberFinderBenchmarkTest"`.
+ */
+@RunWith(RobolectricTestRunner::class)
+@Config(sdk = [33])
+class MemberFinderBenchmarkTest {
+    private val getFilteredMembers = MemberFinder::class.java.getDeclaredMethod(
+        "getFilteredMembers",
+        GroupChannel::class.java,
+        String::class.java,
+        Int::class.javaPrimitiveType
+    ).apply { isAccessible = true }
+
+    @Before
+    fun setUp() {
+        val adapter = mockk<SendbirdUIKitAdapter>(relaxed = true) {
+            every { userInfo.userId } returns MY_USER_ID
+        }
+        mockkStatic(SendbirdUIKit::class)
+        every { SendbirdUIKit.getAdapter() } returns adapter
+    }
+
+    @After
+    fun tearDown() {
+        unmockkAll()
+    }
+
+    @Test
+    fun measureMemberFiltering() {
+        MEMBER_COUNTS.forEach { count ->
+            val members = List(count) { member(it) }
+            val channel = mockk<GroupChannel>(relaxed = true) {
+                // the finder sorts the list in place, so a new list is returned every time as the SDK does.
+                every { this@mockk.members } answers { members.toMutableList() }
+                every { isSuper } returns false
+            }
+            val finder = MemberFinder(channel, UserMentionConfig.Builder().setMaxSuggestionCount(MAX_SUGGESTION_COUNT).build())
+
+            Benchmarks.report("MemberFinder.getFilteredMembers($count)", KEYWORDS.size) {
+                KEYWORDS.forEach { filter(finder, channel, it) }
+            }
+
+            val result = filter(finder, channel, "a")
+            assertTrue(result.isNotEmpty())
+            assertTrue(result.size <= MAX_SUGGESTION_COUNT)
+            assertTrue(result.all { it.nickname.lowercase().startsWith("a") && it.userId != MY_USER_ID })
+            assertEquals(0, filter(finder, channel, "nobody").size)
+        }
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    private fun filter(finder: MemberFinder, channel: GroupChannel, keyword: String): List<User> =
+        getFilteredMembers.invoke(finder, channel, keyword, MAX_SUGGESTION_COUNT) as List<User>
+
+    private fun member(index: Int): Member = mockk(relaxed = true) {
+        // the nicknames start with the different letters, and the current user is one of the members.
+        every { userId } returns if (index == 0) MY_USER_ID else "user_$index"
+        every { nickname } returns "${('a' + index % 26)}lice $index"
+        every { isActive } returns index % 10 != 9
+    }
+}